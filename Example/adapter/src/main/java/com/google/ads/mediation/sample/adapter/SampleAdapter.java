@@ -27,9 +27,12 @@ import androidx.annotation.NonNull;
 import com.google.ads.mediation.sample.sdk.SampleAdRequest;
 import com.google.ads.mediation.sample.sdk.SampleAdSize;
 import com.google.ads.mediation.sample.sdk.SampleAdView;
+import com.google.ads.mediation.sample.sdk.SampleErrorCode;
+import com.google.ads.mediation.sample.sdk.SampleInitializationListener;
 import com.google.ads.mediation.sample.sdk.SampleInterstitial;
 import com.google.ads.mediation.sample.sdk.SampleNativeAdLoader;
 import com.google.ads.mediation.sample.sdk.SampleNativeAdRequest;
+import com.google.ads.mediation.sample.sdk.SampleSdk;
 import com.google.android.gms.ads.AdRequest;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.formats.NativeAdOptions;
@@ -155,6 +158,8 @@ public class SampleAdapter extends Adapter
      * 2. Set your ad network's listener.
      * 3. Make an ad request.
      */
+    LoadLatencyMetrics.LoadTrace loadTrace =
+        LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_BANNER);
 
     // Create the SampleAdView.
     sampleAdView = new SampleAdView(context);
@@ -181,7 +186,8 @@ public class SampleAdapter extends Adapter
      * Implement a SampleAdListener and forward callbacks to mediation. The callback forwarding
      * is handled by {@link SampleMediationBannerEventForwarder}.
      */
-    sampleAdView.setAdListener(new SampleMediationBannerEventForwarder(listener, this));
+    sampleAdView.setAdListener(
+        new SampleMediationBannerEventForwarder(listener, this, loadTrace));
 
     SampleAdRequest request = createSampleRequest(mediationAdRequest);
 
@@ -202,7 +208,9 @@ public class SampleAdapter extends Adapter
     }
 
     // Make an ad request.
+    loadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
     sampleAdView.fetchAd(request);
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
   }
 
   /**
@@ -242,6 +250,8 @@ public class SampleAdapter extends Adapter
      * 2. Set your ad network's listener.
      * 3. Make an ad request.
      */
+    LoadLatencyMetrics.LoadTrace loadTrace =
+        LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_INTERSTITIAL);
 
     // Create the SampleInterstitial.
     sampleInterstitial = new SampleInterstitial(context);
@@ -257,7 +267,7 @@ public class SampleAdapter extends Adapter
      * is handled by {@link SampleMediationInterstitialEventForwarder}.
      */
     sampleInterstitial.setAdListener(
-        new SampleMediationInterstitialEventForwarder(listener, this));
+        new SampleMediationInterstitialEventForwarder(listener, this, loadTrace));
 
     SampleAdRequest request = createSampleRequest(mediationAdRequest);
 
@@ -278,7 +288,9 @@ public class SampleAdapter extends Adapter
     }
 
     // Make an ad request.
+    loadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
     sampleInterstitial.fetchAd(request);
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
   }
 
   @Override
@@ -301,6 +313,8 @@ public class SampleAdapter extends Adapter
      * 3. Set native ad options (optional assets)
      * 4. Make an ad request.
      */
+    LoadLatencyMetrics.LoadTrace loadTrace =
+        LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_NATIVE);
 
     SampleNativeAdLoader loader = new SampleNativeAdLoader(context);
     if (serverParameters.containsKey(SAMPLE_AD_UNIT_KEY)) {
@@ -317,7 +331,7 @@ public class SampleAdapter extends Adapter
      * is handled by {@link SampleNativeMediationEventForwarder}.
      */
     loader.setNativeAdListener(
-        new SampleNativeMediationEventForwarder(listener, this, nativeAdOptions));
+        new SampleNativeMediationEventForwarder(listener, this, nativeAdOptions, loadTrace));
 
     SampleNativeAdRequest request = new SampleNativeAdRequest();
     if (nativeAdOptions != null) {
@@ -367,13 +381,15 @@ public class SampleAdapter extends Adapter
     }
 
     // Make an ad request.
+    loadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
     loader.fetchAd(request);
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
   }
 
   @Override
   public void initialize(
       Context context,
-      InitializationCompleteCallback initializationCompleteCallback,
+      final InitializationCompleteCallback initializationCompleteCallback,
       List<MediationConfiguration> mediationConfigurations) {
     if (context == null) {
       initializationCompleteCallback.onInitializationFailed(
@@ -381,7 +397,17 @@ public class SampleAdapter extends Adapter
       return;
     }
 
-    initializationCompleteCallback.onInitializationSucceeded();
+    SampleSdk.initialize(context, new SampleInitializationListener() {
+      @Override
+      public void onInitializationSucceeded() {
+        initializationCompleteCallback.onInitializationSucceeded();
+      }
+
+      @Override
+      public void onInitializationFailed(SampleErrorCode code) {
+        initializationCompleteCallback.onInitializationFailed("Initialization Failed: " + code);
+      }
+    });
   }
 
   @Override
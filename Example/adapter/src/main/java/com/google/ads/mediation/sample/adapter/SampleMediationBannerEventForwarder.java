@@ -29,6 +29,7 @@ public class SampleMediationBannerEventForwarder extends SampleAdListener {
 
   private final MediationBannerListener mediationListener;
   private final SampleAdapter adapter;
+  private final LoadLatencyMetrics.LoadTrace loadTrace;
 
   /**
    * Creates a new {@code SampleBannerEventForwarder}.
@@ -39,13 +40,21 @@ public class SampleMediationBannerEventForwarder extends SampleAdListener {
    */
   public SampleMediationBannerEventForwarder(
       MediationBannerListener listener, SampleAdapter adapter) {
+    this(listener, adapter, LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_BANNER));
+  }
+
+  SampleMediationBannerEventForwarder(MediationBannerListener listener, SampleAdapter adapter,
+      LoadLatencyMetrics.LoadTrace loadTrace) {
     this.mediationListener = listener;
     this.adapter = adapter;
+    this.loadTrace = loadTrace;
   }
 
   @Override
   public void onAdFetchSucceeded() {
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
     mediationListener.onAdLoaded(adapter);
+    loadTrace.finish();
   }
 
   @Override
@@ -29,6 +29,7 @@ public class SampleMediationInterstitialEventForwarder extends SampleAdListener
 
   private final MediationInterstitialListener mediationListener;
   private final SampleAdapter adapter;
+  private final LoadLatencyMetrics.LoadTrace loadTrace;
 
   /**
    * Creates a new {@code SampleInterstitialEventForwarder}.
@@ -39,13 +40,21 @@ public class SampleMediationInterstitialEventForwarder extends SampleAdListener
    */
   public SampleMediationInterstitialEventForwarder(
       MediationInterstitialListener listener, SampleAdapter adapter) {
+    this(listener, adapter, LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_INTERSTITIAL));
+  }
+
+  SampleMediationInterstitialEventForwarder(MediationInterstitialListener listener, SampleAdapter adapter,
+      LoadLatencyMetrics.LoadTrace loadTrace) {
     this.mediationListener = listener;
     this.adapter = adapter;
+    this.loadTrace = loadTrace;
   }
 
   @Override
   public void onAdFetchSucceeded() {
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
     mediationListener.onAdLoaded(adapter);
+    loadTrace.finish();
   }
 
   @Override
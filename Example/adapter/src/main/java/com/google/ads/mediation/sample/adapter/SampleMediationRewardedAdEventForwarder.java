@@ -37,6 +37,10 @@ public class SampleMediationRewardedAdEventForwarder extends SampleRewardedAdLis
    */
   private MediationRewardedAdCallback rewardedAdCallback;
 
+  /**
+   * Times the rewarded ad load.
+   */
+  private final LoadLatencyMetrics.LoadTrace loadTrace;
 
   public SampleMediationRewardedAdEventForwarder(
       MediationRewardedAdConfiguration adConfiguration,
@@ -45,18 +49,24 @@ public class SampleMediationRewardedAdEventForwarder extends SampleRewardedAdLis
   ) {
     this.mediationRewardedAdConfiguration = adConfiguration;
     this.mediationAdLoadCallBack = adLoadCallback;
+    this.loadTrace = LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_REWARDED);
   }
 
   public void load() {
     String adUnitID = mediationRewardedAdConfiguration.getServerParameters().getString("ad_unit");
     SampleAdRequest request = new SampleAdRequest();
     sampleRewardedAd = new SampleRewardedAd(adUnitID);
+    sampleRewardedAd.setListener(this);
+    loadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
     sampleRewardedAd.loadAd(request);
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
   }
 
   @Override
   public void onRewardedAdLoaded() {
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
     rewardedAdCallback = mediationAdLoadCallBack.onSuccess(this);
+    loadTrace.finish();
   }
 
   @Override
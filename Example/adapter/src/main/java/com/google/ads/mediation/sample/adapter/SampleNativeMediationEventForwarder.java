@@ -33,6 +33,7 @@ public class SampleNativeMediationEventForwarder extends SampleNativeAdListener
   private final MediationNativeListener nativeListener;
   private final SampleAdapter adapter;
   private final NativeAdOptions nativeAdOptions;
+  private final LoadLatencyMetrics.LoadTrace loadTrace;
 
   /**
    * Creates a new {@code SampleNativeMediationEventForwarder}.
@@ -44,9 +45,16 @@ public class SampleNativeMediationEventForwarder extends SampleNativeAdListener
    */
   public SampleNativeMediationEventForwarder(
       MediationNativeListener listener, SampleAdapter adapter, NativeAdOptions options) {
+    this(listener, adapter, options,
+        LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_NATIVE));
+  }
+
+  SampleNativeMediationEventForwarder(MediationNativeListener listener, SampleAdapter adapter,
+      NativeAdOptions options, LoadLatencyMetrics.LoadTrace loadTrace) {
     this.nativeListener = listener;
     this.adapter = adapter;
     this.nativeAdOptions = options;
+    this.loadTrace = loadTrace;
   }
 
   @Override
@@ -72,6 +80,7 @@ public class SampleNativeMediationEventForwarder extends SampleNativeAdListener
     // image downloading are respected, and that any additional downloads take place *before*
     // the mapped native ad object is returned to the Google Mobile Ads SDK via the
     // onAdLoaded method.
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
 
     SampleMediaView mediaView = ad.getMediaView();
     if (mediaView != null) {
@@ -81,6 +90,7 @@ public class SampleNativeMediationEventForwarder extends SampleNativeAdListener
 
     SampleUnifiedNativeAdMapper mapper = new SampleUnifiedNativeAdMapper(ad);
     nativeListener.onAdLoaded(adapter, mapper);
+    loadTrace.finish();
   }
 
   @Override
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2021 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.mediationsample.benchmark;
+
+import android.os.Bundle;
+import android.widget.FrameLayout;
+import android.widget.ImageView;
+import android.widget.LinearLayout;
+import android.widget.TextView;
+import androidx.appcompat.app.AppCompatActivity;
+import com.google.ads.mediation.sample.sdk.SampleAdListener;
+import com.google.ads.mediation.sample.sdk.SampleAdRequest;
+import com.google.ads.mediation.sample.sdk.SampleAdSize;
+import com.google.ads.mediation.sample.sdk.SampleAdView;
+import com.google.ads.mediation.sample.sdk.SampleNativeAd;
+import com.google.ads.mediation.sample.sdk.SampleNativeAdListener;
+import com.google.ads.mediation.sample.sdk.SampleNativeAdLoader;
+import com.google.ads.mediation.sample.sdk.SampleNativeAdRequest;
+import com.google.ads.mediation.sample.sdk.SampleRewardedAd;
+import com.google.ads.mediation.sample.sdk.SampleRewardedAdListener;
+import com.google.ads.mediation.sample.sdk.SampleSimulation;
+import com.google.ads.mediation.sample.sdk.SampleSimulation.LatencyDistribution;
+
+/**
+ * Loads a banner, a rewarded ad and a native ad from the simulated Sample SDK as soon as it is
+ * created, and logs its startup and time to first ad with {@link StartupMetrics}. No request
+ * leaves the device, so runs only differ in the app's own work. Only included in debug builds.
+ * Measure a cold start with:
+ *
+ * <pre>
+ * adb shell am start -W -S -n com.google.ads.mediation.sample.mediationsample/.benchmark.StartupBenchmarkActivity
+ * </pre>
+ *
+ * <p>and a warm start by leaving out {@code -S} while the process is running. The simulated
+ * latency of every request can be set with the {@code latency_ms} long extra.
+ */
+public class StartupBenchmarkActivity extends AppCompatActivity {
+
+  public static final String EXTRA_LATENCY_MILLIS = "latency_ms";
+
+  private static final String AD_UNIT = "sample_startup_benchmark";
+  private static final long DEFAULT_LATENCY_MILLIS = 100;
+
+  private StartupMetrics startupMetrics;
+  private SampleAdView bannerView;
+  private FrameLayout nativeContainer;
+
+  @Override
+  protected void onCreate(Bundle savedInstanceState) {
+    super.onCreate(savedInstanceState);
+    startupMetrics = new StartupMetrics(getWindowManager().getDefaultDisplay());
+
+    long latencyMillis = getIntent().getLongExtra(EXTRA_LATENCY_MILLIS, DEFAULT_LATENCY_MILLIS);
+    SampleSimulation.enable(new SampleSimulation.Config.Builder()
+        .setLatency(LatencyDistribution.FIXED, latencyMillis, latencyMillis)
+        .build());
+
+    LinearLayout layout = new LinearLayout(this);
+    layout.setOrientation(LinearLayout.VERTICAL);
+    bannerView = new SampleAdView(this);
+    bannerView.setSize(new SampleAdSize(320, 50));
+    bannerView.setAdUnit(AD_UNIT);
+    layout.addView(bannerView);
+    nativeContainer = new FrameLayout(this);
+    layout.addView(nativeContainer);
+    setContentView(layout);
+    startupMetrics.observeFirstFrame(getWindow().getDecorView());
+
+    loadBanner();
+    loadRewardedAd();
+    loadNativeAd();
+  }
+
+  @Override
+  protected void onDestroy() {
+    bannerView.destroy();
+    SampleSimulation.disable();
+    super.onDestroy();
+  }
+
+  private void loadBanner() {
+    bannerView.setAdListener(new SampleAdListener() {
+      @Override
+      public void onAdFetchSucceeded() {
+        if (startupMetrics.onBannerLoaded()) {
+          reportFullyDrawn();
+        }
+      }
+    });
+    bannerView.fetchAd(new SampleAdRequest());
+  }
+
+  private void loadRewardedAd() {
+    SampleRewardedAd rewardedAd = new SampleRewardedAd(AD_UNIT);
+    rewardedAd.setListener(new SampleRewardedAdListener() {
+      @Override
+      public void onRewardedAdLoaded() {
+        // The Sample SDK delivers rewarded callbacks on a background thread.
+        runOnUiThread(new Runnable() {
+          @Override
+          public void run() {
+            startupMetrics.onRewardedAdLoaded();
+          }
+        });
+      }
+    });
+    rewardedAd.loadAd(new SampleAdRequest());
+  }
+
+  private void loadNativeAd() {
+    SampleNativeAdLoader loader = new SampleNativeAdLoader(this);
+    loader.setAdUnit(AD_UNIT);
+    loader.setNativeAdListener(new SampleNativeAdListener() {
+      @Override
+      public void onNativeAdFetched(final SampleNativeAd ad) {
+        // The Sample SDK delivers native callbacks on a background thread.
+        runOnUiThread(new Runnable() {
+          @Override
+          public void run() {
+            if (!isFinishing()) {
+              showNativeAd(ad);
+            }
+          }
+        });
+      }
+    });
+    loader.fetchAd(new SampleNativeAdRequest());
+  }
+
+  private void showNativeAd(SampleNativeAd ad) {
+    LinearLayout adView = new LinearLayout(this);
+    adView.setOrientation(LinearLayout.VERTICAL);
+    TextView headlineView = new TextView(this);
+    headlineView.setText(ad.getHeadline());
+    adView.addView(headlineView);
+    if (ad.getMediaView() != null) {
+      adView.addView(ad.getMediaView());
+    } else {
+      ImageView imageView = new ImageView(this);
+      imageView.setImageDrawable(ad.getImage());
+      adView.addView(imageView);
+    }
+    ad.registerNativeAdView(adView);
+    nativeContainer.removeAllViews();
+    nativeContainer.addView(adView);
+    startupMetrics.observeNativeAdFrames();
+  }
+}
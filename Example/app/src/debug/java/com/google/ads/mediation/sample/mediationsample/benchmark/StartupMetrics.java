@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2021 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.mediationsample.benchmark;
+
+import android.os.Build;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.Choreographer;
+import android.view.Display;
+import android.view.View;
+import android.view.ViewTreeObserver;
+import java.util.Locale;
+
+/**
+ * Logs how long {@link StartupBenchmarkActivity} takes to start and to show its first ads, and
+ * the frame timing while a native ad is rendered. Every measurement is logged once per activity,
+ * under the {@code StartupMetrics} tag, as {@code <metric>=<value>ms} so that runs can be
+ * collected with {@code adb logcat -s StartupMetrics} and compared.
+ *
+ * <p>Cold starts are measured from the start of the process. Warm starts, where the process was
+ * already running, are measured from the creation of the activity, as the process may have been
+ * started long before.
+ *
+ * <p>All methods must be called on the main thread.
+ */
+class StartupMetrics {
+
+  private static final String TAG = "StartupMetrics";
+
+  /**
+   * Number of frames observed after a native ad is added to the view hierarchy.
+   */
+  private static final int NATIVE_AD_FRAME_COUNT = 60;
+
+  /**
+   * Frames taking longer than this many frame intervals of the display are counted as janky. The
+   * headroom over a single interval absorbs vsync jitter, so that only missed frames count.
+   */
+  private static final float JANK_THRESHOLD_FRAMES = 1.5f;
+
+  /**
+   * Whether a {@link StartupMetrics} was already created in this process.
+   */
+  private static boolean isProcessStarted;
+
+  private final long startMillis;
+  private final long jankThresholdNanos;
+  private boolean isFirstFrameLogged;
+  private boolean isBannerLogged;
+  private boolean isRewardedLogged;
+  private boolean isNativeAdObserved;
+
+  /**
+   * Starts measuring from the start of the process on a cold start where available, or from now
+   * otherwise.
+   *
+   * @param display The display the activity is shown on, whose refresh rate sets the frame
+   *                budget.
+   */
+  StartupMetrics(Display display) {
+    boolean isColdStart = !isProcessStarted;
+    isProcessStarted = true;
+    if (isColdStart && Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+      startMillis = Process.getStartElapsedRealtime();
+    } else {
+      startMillis = SystemClock.elapsedRealtime();
+    }
+    float refreshRate = display.getRefreshRate();
+    if (refreshRate <= 0) {
+      refreshRate = 60;
+    }
+    jankThresholdNanos = (long) (JANK_THRESHOLD_FRAMES * 1e9 / refreshRate);
+    Log.i(TAG, String.format(Locale.US, "startType=%s refreshRate=%.1fHz",
+        isColdStart ? "cold" : "warm", refreshRate));
+  }
+
+  /**
+   * Logs the time to the first frame drawn of the given content view.
+   */
+  void observeFirstFrame(final View contentView) {
+    contentView.getViewTreeObserver().addOnPreDrawListener(
+        new ViewTreeObserver.OnPreDrawListener() {
+          @Override
+          public boolean onPreDraw() {
+            contentView.getViewTreeObserver().removeOnPreDrawListener(this);
+            if (!isFirstFrameLogged) {
+              isFirstFrameLogged = true;
+              logElapsed("timeToFirstFrame");
+            }
+            return true;
+          }
+        });
+  }
+
+  /**
+   * Logs the time to the first loaded banner.
+   *
+   * @return {@code true} if this was the first banner.
+   */
+  boolean onBannerLoaded() {
+    if (isBannerLogged) {
+      return false;
+    }
+    isBannerLogged = true;
+    logElapsed("timeToFirstBanner");
+    return true;
+  }
+
+  /**
+   * Logs the time until a rewarded ad is first ready to be shown.
+   */
+  void onRewardedAdLoaded() {
+    if (!isRewardedLogged) {
+      isRewardedLogged = true;
+      logElapsed("timeToRewardedReady");
+    }
+  }
+
+  /**
+   * Logs the duration of the frames drawn after the first native ad is added to the view
+   * hierarchy.
+   */
+  void observeNativeAdFrames() {
+    if (isNativeAdObserved) {
+      return;
+    }
+    isNativeAdObserved = true;
+    logElapsed("timeToFirstNativeAd");
+    Choreographer.getInstance().postFrameCallback(new Choreographer.FrameCallback() {
+      private long previousFrameNanos;
+      private int frameCount;
+      private int jankyFrameCount;
+      private long maxFrameNanos;
+
+      @Override
+      public void doFrame(long frameTimeNanos) {
+        if (previousFrameNanos != 0) {
+          long frameNanos = frameTimeNanos - previousFrameNanos;
+          frameCount++;
+          maxFrameNanos = Math.max(maxFrameNanos, frameNanos);
+          if (frameNanos > jankThresholdNanos) {
+            jankyFrameCount++;
+          }
+        }
+        previousFrameNanos = frameTimeNanos;
+
+        if (frameCount < NATIVE_AD_FRAME_COUNT) {
+          Choreographer.getInstance().postFrameCallback(this);
+        } else {
+          Log.i(TAG, String.format(Locale.US,
+              "nativeAdFrames=%d nativeAdJankyFrames=%d nativeAdMaxFrame=%.1fms",
+              frameCount, jankyFrameCount, maxFrameNanos / 1e6));
+        }
+      }
+    });
+  }
+
+  private void logElapsed(String metric) {
+    Log.i(TAG, metric + "=" + (SystemClock.elapsedRealtime() - startMillis) + "ms");
+  }
+}
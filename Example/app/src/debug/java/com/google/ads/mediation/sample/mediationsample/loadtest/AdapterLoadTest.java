@@ -0,0 +1,451 @@
+/*
+ * Copyright (C) 2021 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.mediationsample.loadtest;
+
+import android.content.Context;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import com.google.ads.mediation.sample.adapter.SampleAdapter;
+import com.google.ads.mediation.sample.customevent.SampleCustomEvent;
+import com.google.android.gms.ads.AdSize;
+import com.google.android.gms.ads.RequestConfiguration;
+import com.google.android.gms.ads.mediation.InitializationCompleteCallback;
+import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
+import com.google.android.gms.ads.mediation.MediationAdRequest;
+import com.google.android.gms.ads.mediation.MediationBannerListener;
+import com.google.android.gms.ads.mediation.MediationConfiguration;
+import com.google.android.gms.ads.mediation.MediationInterstitialListener;
+import com.google.android.gms.ads.mediation.MediationNativeListener;
+import com.google.android.gms.ads.mediation.MediationRewardedAd;
+import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
+import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration;
+import com.google.android.gms.ads.mediation.NativeMediationAdRequest;
+import com.google.android.gms.ads.mediation.customevent.CustomEventBannerListener;
+import com.google.android.gms.ads.mediation.customevent.CustomEventInterstitialListener;
+import com.google.android.gms.ads.mediation.customevent.CustomEventNativeListener;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Drives the sample adapter and the sample custom event through many concurrent banner,
+ * interstitial, native and rewarded requests, calling them the way the Google Mobile Ads SDK
+ * does, and reports for every integration and format. The adapter's initialization is driven the
+ * same way, as the {@code initialization} format, with its completion callback counted as the
+ * load callback. The report has:
+ *
+ * <ul>
+ *   <li>throughput, in completed requests per second,
+ *   <li>the number of requests that never got a load callback, and of load callbacks delivered
+ *   more than once for the same request,
+ *   <li>the 50th, 90th and 99th percentile latency between the request and its load callback,
+ *   <li>the number of mediation listeners still reachable after the ads were destroyed and a
+ *   garbage collection ran, and
+ *   <li>the heap retained after the scenario, after a garbage collection.
+ * </ul>
+ *
+ * <p>The report is tab-separated with one row per scenario so that reports of two versions can be
+ * diffed. Run it with the sample SDK's {@link com.google.ads.mediation.sample.sdk.SampleSimulation}
+ * enabled to get reproducible results without network access.
+ */
+public class AdapterLoadTest {
+
+  public static final String INTEGRATION_ADAPTER = "adapter";
+  public static final String INTEGRATION_CUSTOM_EVENT = "customevent";
+
+  public static final String FORMAT_BANNER = "banner";
+  public static final String FORMAT_INTERSTITIAL = "interstitial";
+  public static final String FORMAT_NATIVE = "native";
+  public static final String FORMAT_REWARDED = "rewarded";
+  public static final String FORMAT_INITIALIZATION = "initialization";
+
+  private static final List<String> INTEGRATIONS =
+      Arrays.asList(INTEGRATION_ADAPTER, INTEGRATION_CUSTOM_EVENT);
+  private static final List<String> FORMATS =
+      Arrays.asList(FORMAT_BANNER, FORMAT_INTERSTITIAL, FORMAT_NATIVE, FORMAT_REWARDED,
+          FORMAT_INITIALIZATION);
+
+  /**
+   * Ad unit passed to the sample SDK. The sample SDK accepts any non-null ad unit.
+   */
+  private static final String SAMPLE_AD_UNIT = "sample_load_test";
+
+  /**
+   * Time after which a request without a load callback is counted as timed out, so that dropped
+   * callbacks do not block the rest of the scenario.
+   */
+  private static final long REQUEST_TIMEOUT_MILLIS = 10 * 1000;
+
+  private static final String REPORT_HEADER = "integration\tformat\trequests\tfilled\tfailed"
+      + "\ttimedOut\tduplicateCallbacks\tthroughputPerSecond\tp50Millis\tp90Millis\tp99Millis\tleakedListeners"
+      + "\tretainedHeapKb\n";
+
+  private final Context context;
+  private final int requestsPerScenario;
+  private final int maxConcurrentRequests;
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+  /**
+   * Creates a load test.
+   *
+   * @param context               The context passed to the adapters.
+   * @param requestsPerScenario   The number of requests per integration and format.
+   * @param maxConcurrentRequests The maximum number of requests in flight at once.
+   */
+  public AdapterLoadTest(Context context, int requestsPerScenario, int maxConcurrentRequests) {
+    this.context = context.getApplicationContext();
+    this.requestsPerScenario = requestsPerScenario;
+    this.maxConcurrentRequests = maxConcurrentRequests;
+  }
+
+  /**
+   * Runs every scenario and returns the report. Requests are made on the main thread, and this
+   * method blocks until they complete, so it must be called on a background thread.
+   */
+  public String run() throws InterruptedException {
+    StringBuilder report = new StringBuilder(REPORT_HEADER);
+    for (String integration : INTEGRATIONS) {
+      for (String format : FORMATS) {
+        if (FORMAT_INITIALIZATION.equals(format) && !INTEGRATION_ADAPTER.equals(integration)) {
+          // The Google Mobile Ads SDK never initializes custom events.
+          continue;
+        }
+        report.append(runScenario(integration, format)).append('\n');
+      }
+    }
+    return report.toString();
+  }
+
+  private String runScenario(final String integration, final String format)
+      throws InterruptedException {
+    final Semaphore inFlight = new Semaphore(maxConcurrentRequests);
+    final CountDownLatch completed = new CountDownLatch(requestsPerScenario);
+    final List<Request> requests = new ArrayList<>(requestsPerScenario);
+    final List<WeakReference<Object>> listeners = new ArrayList<>(requestsPerScenario);
+
+    long heapBeforeBytes = getUsedHeapAfterGc();
+    long startMillis = SystemClock.elapsedRealtime();
+    for (int i = 0; i < requestsPerScenario; i++) {
+      inFlight.acquire();
+      final Request request = new Request(inFlight, completed);
+      requests.add(request);
+      mainHandler.post(new Runnable() {
+        @Override
+        public void run() {
+          startRequest(integration, format, request);
+        }
+      });
+      // The request is the token of its timeout, so that the timeout can be cancelled.
+      mainHandler.postAtTime(new Runnable() {
+        @Override
+        public void run() {
+          request.timeOut();
+        }
+      }, request, SystemClock.uptimeMillis() + REQUEST_TIMEOUT_MILLIS);
+    }
+    completed.await();
+    long durationMillis = SystemClock.elapsedRealtime() - startMillis;
+    // Pending timeouts hold their request and its listener, which would count as leaked.
+    for (Request request : requests) {
+      mainHandler.removeCallbacksAndMessages(request);
+    }
+
+    int filled = 0;
+    int failed = 0;
+    int duplicateCallbacks = 0;
+    long[] latencies = new long[requests.size()];
+    int completedCount = 0;
+    for (Request request : requests) {
+      synchronized (request) {
+        duplicateCallbacks += request.duplicateCallbackCount;
+        if (request.latencyMillis < 0) {
+          continue;
+        }
+        latencies[completedCount++] = request.latencyMillis;
+        if (request.isFilled) {
+          filled++;
+        } else {
+          failed++;
+        }
+      }
+    }
+    latencies = Arrays.copyOf(latencies, completedCount);
+    Arrays.sort(latencies);
+
+    // Destroy every ad the way the Google Mobile Ads SDK would, then drop all references to them.
+    final CountDownLatch destroyed = new CountDownLatch(1);
+    mainHandler.post(new Runnable() {
+      @Override
+      public void run() {
+        for (Request request : requests) {
+          if (request.destroyer != null) {
+            request.destroyer.run();
+          }
+        }
+        destroyed.countDown();
+      }
+    });
+    destroyed.await();
+    for (Request request : requests) {
+      listeners.add(new WeakReference<>(request.listener));
+    }
+    requests.clear();
+
+    long retainedHeapBytes = getUsedHeapAfterGc() - heapBeforeBytes;
+    int leakedListeners = 0;
+    for (WeakReference<Object> listener : listeners) {
+      if (listener.get() != null) {
+        leakedListeners++;
+      }
+    }
+
+    return String.format(Locale.US, "%s\t%s\t%d\t%d\t%d\t%d\t%d\t%.1f\t%d\t%d\t%d\t%d\t%d",
+        integration, format, requestsPerScenario, filled, failed,
+        requestsPerScenario - completedCount, duplicateCallbacks,
+        durationMillis > 0 ? completedCount * 1000.0 / durationMillis : 0.0,
+        getPercentile(latencies, 50), getPercentile(latencies, 90), getPercentile(latencies, 99),
+        leakedListeners, retainedHeapBytes / 1024);
+  }
+
+  /**
+   * Makes a single request. Must be called on the main thread.
+   */
+  private void startRequest(String integration, String format, Request request) {
+    Bundle serverParameters = new Bundle();
+    serverParameters.putString("ad_unit", SAMPLE_AD_UNIT);
+    MediationAdRequest adRequest = createProxy(MediationAdRequest.class, null);
+    NativeMediationAdRequest nativeAdRequest = createProxy(NativeMediationAdRequest.class, null);
+
+    request.startMillis = SystemClock.elapsedRealtime();
+    if (INTEGRATION_ADAPTER.equals(integration)) {
+      final SampleAdapter adapter = new SampleAdapter();
+      request.destroyer = new Runnable() {
+        @Override
+        public void run() {
+          adapter.onDestroy();
+        }
+      };
+      switch (format) {
+        case FORMAT_INITIALIZATION:
+          adapter.initialize(context,
+              request.createListener(InitializationCompleteCallback.class),
+              Collections.<MediationConfiguration>emptyList());
+          break;
+        case FORMAT_BANNER:
+          adapter.requestBannerAd(context,
+              request.createListener(MediationBannerListener.class), serverParameters,
+              AdSize.BANNER, adRequest, null);
+          break;
+        case FORMAT_INTERSTITIAL:
+          adapter.requestInterstitialAd(context,
+              request.createListener(MediationInterstitialListener.class), serverParameters,
+              adRequest, null);
+          break;
+        case FORMAT_NATIVE:
+          adapter.requestNativeAd(context,
+              request.createListener(MediationNativeListener.class), serverParameters,
+              nativeAdRequest, null);
+          break;
+        case FORMAT_REWARDED:
+        default:
+          adapter.loadRewardedAd(createRewardedAdConfiguration(serverParameters),
+              request.<MediationAdLoadCallback<MediationRewardedAd,
+                  MediationRewardedAdCallback>>createListener(MediationAdLoadCallback.class));
+          break;
+      }
+    } else {
+      final SampleCustomEvent customEvent = new SampleCustomEvent();
+      request.destroyer = new Runnable() {
+        @Override
+        public void run() {
+          customEvent.onDestroy();
+        }
+      };
+      switch (format) {
+        case FORMAT_BANNER:
+          customEvent.requestBannerAd(context,
+              request.createListener(CustomEventBannerListener.class), SAMPLE_AD_UNIT,
+              AdSize.BANNER, adRequest, null);
+          break;
+        case FORMAT_INTERSTITIAL:
+          customEvent.requestInterstitialAd(context,
+              request.createListener(CustomEventInterstitialListener.class), SAMPLE_AD_UNIT,
+              adRequest, null);
+          break;
+        case FORMAT_NATIVE:
+          customEvent.requestNativeAd(context,
+              request.createListener(CustomEventNativeListener.class), SAMPLE_AD_UNIT,
+              nativeAdRequest, null);
+          break;
+        case FORMAT_REWARDED:
+        default:
+          customEvent.loadRewardedAd(createRewardedAdConfiguration(serverParameters),
+              request.<MediationAdLoadCallback<MediationRewardedAd,
+                  MediationRewardedAdCallback>>createListener(MediationAdLoadCallback.class));
+          break;
+      }
+    }
+  }
+
+  private MediationRewardedAdConfiguration createRewardedAdConfiguration(
+      Bundle serverParameters) {
+    return new MediationRewardedAdConfiguration(context, "", serverParameters, new Bundle(),
+        false, null, RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_UNSPECIFIED,
+        RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_UNSPECIFIED, "", "");
+  }
+
+  private static long getPercentile(long[] sortedValues, int percentile) {
+    if (sortedValues.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile / 100.0 * sortedValues.length) - 1;
+    return sortedValues[Math.max(0, index)];
+  }
+
+  private static long getUsedHeapAfterGc() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      runtime.gc();
+      runtime.runFinalization();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  /**
+   * Creates an implementation of the given interface that does nothing, and passes calls to the
+   * given request, if any, so that it can record load callbacks.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> T createProxy(Class<?> type, final Request request) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+        new InvocationHandler() {
+          @Override
+          public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+              case "equals":
+                return proxy == args[0];
+              case "hashCode":
+                return System.identityHashCode(proxy);
+              case "toString":
+                return method.getDeclaringClass().getSimpleName() + " proxy";
+              case "isUnifiedNativeAdRequested":
+                return true;
+              case "onAdLoaded":
+              case "onSuccess":
+              case "onInitializationSucceeded":
+                if (request != null) {
+                  request.complete(true);
+                }
+                break;
+              case "onAdFailedToLoad":
+              case "onFailure":
+              case "onInitializationFailed":
+                if (request != null) {
+                  request.complete(false);
+                }
+                break;
+              default:
+                break;
+            }
+            return getDefaultValue(method.getReturnType());
+          }
+        });
+  }
+
+  private static Object getDefaultValue(Class<?> type) {
+    if (type.isInterface()) {
+      // e.g. the MediationRewardedAdCallback returned by MediationAdLoadCallback.onSuccess().
+      return createProxy(type, null);
+    } else if (type == boolean.class) {
+      return false;
+    } else if (type == int.class) {
+      return 0;
+    } else if (type == long.class) {
+      return 0L;
+    } else if (type == float.class) {
+      return 0f;
+    } else if (type == double.class) {
+      return 0.0;
+    }
+    return null;
+  }
+
+  /**
+   * A single request and its outcome.
+   */
+  private static class Request {
+
+    private final Semaphore inFlight;
+    private final CountDownLatch completed;
+    private Object listener;
+    private Runnable destroyer;
+    private long startMillis;
+    private long latencyMillis = -1;
+    private boolean isFilled;
+    private boolean isTimedOut;
+    private int duplicateCallbackCount;
+
+    private Request(Semaphore inFlight, CountDownLatch completed) {
+      this.inFlight = inFlight;
+      this.completed = completed;
+    }
+
+    private <T> T createListener(Class<?> type) {
+      T proxy = createProxy(type, this);
+      listener = proxy;
+      return proxy;
+    }
+
+    private void complete(boolean isFilled) {
+      synchronized (this) {
+        if (isTimedOut) {
+          return;
+        }
+        if (latencyMillis >= 0) {
+          // Only the first load callback counts.
+          duplicateCallbackCount++;
+          return;
+        }
+        latencyMillis = SystemClock.elapsedRealtime() - startMillis;
+        this.isFilled = isFilled;
+      }
+      inFlight.release();
+      completed.countDown();
+    }
+
+    private void timeOut() {
+      synchronized (this) {
+        if (latencyMillis >= 0 || isTimedOut) {
+          return;
+        }
+        isTimedOut = true;
+      }
+      inFlight.release();
+      completed.countDown();
+    }
+  }
+}
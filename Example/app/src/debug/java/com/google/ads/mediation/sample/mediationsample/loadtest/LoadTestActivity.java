@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2021 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.mediationsample.loadtest;
+
+import android.graphics.Typeface;
+import android.os.Bundle;
+import android.util.Log;
+import android.widget.HorizontalScrollView;
+import android.widget.TextView;
+import androidx.appcompat.app.AppCompatActivity;
+import com.google.ads.mediation.sample.sdk.SampleSimulation;
+import com.google.ads.mediation.sample.sdk.SampleSimulation.LatencyDistribution;
+
+/**
+ * Runs an {@link AdapterLoadTest} against the simulated Sample SDK and shows its report. Only
+ * included in debug builds. Start it with:
+ *
+ * <pre>
+ * adb shell am start -n com.google.ads.mediation.sample.mediationsample/.loadtest.LoadTestActivity
+ *     --ei requests 2000 --ei concurrency 200 --el seed 0
+ * </pre>
+ *
+ * <p>Faults can be injected into the Sample SDK's callbacks with the {@code drop_rate},
+ * {@code duplicate_rate} and {@code delay_rate} float extras, and the {@code delay_ms} and
+ * {@code reorder_window_ms} long extras. Faults are injected into the Sample SDK's
+ * initialization with the {@code init_failure_rate}, {@code init_drop_rate},
+ * {@code init_duplicate_rate} and {@code init_delay_rate} float extras, and the
+ * {@code init_delay_ms} long extra.
+ *
+ * <p>The report is also logged under the {@code LoadTestActivity} tag.
+ */
+public class LoadTestActivity extends AppCompatActivity {
+
+  private static final String TAG = "LoadTestActivity";
+
+  public static final String EXTRA_REQUESTS = "requests";
+  public static final String EXTRA_CONCURRENCY = "concurrency";
+  public static final String EXTRA_SEED = "seed";
+  public static final String EXTRA_DROP_RATE = "drop_rate";
+  public static final String EXTRA_DUPLICATE_RATE = "duplicate_rate";
+  public static final String EXTRA_DELAY_RATE = "delay_rate";
+  public static final String EXTRA_DELAY_MILLIS = "delay_ms";
+  public static final String EXTRA_REORDER_WINDOW_MILLIS = "reorder_window_ms";
+  public static final String EXTRA_INIT_FAILURE_RATE = "init_failure_rate";
+  public static final String EXTRA_INIT_DROP_RATE = "init_drop_rate";
+  public static final String EXTRA_INIT_DUPLICATE_RATE = "init_duplicate_rate";
+  public static final String EXTRA_INIT_DELAY_RATE = "init_delay_rate";
+  public static final String EXTRA_INIT_DELAY_MILLIS = "init_delay_ms";
+
+  private static final int DEFAULT_REQUESTS = 2000;
+  private static final int DEFAULT_CONCURRENCY = 200;
+  private static final long DEFAULT_DELAY_MILLIS = 5000;
+
+  private TextView reportView;
+
+  @Override
+  protected void onCreate(Bundle savedInstanceState) {
+    super.onCreate(savedInstanceState);
+    reportView = new TextView(this);
+    reportView.setTypeface(Typeface.MONOSPACE);
+    reportView.setText("Running load test...");
+    HorizontalScrollView scrollView = new HorizontalScrollView(this);
+    scrollView.addView(reportView);
+    setContentView(scrollView);
+
+    final int requests = getIntent().getIntExtra(EXTRA_REQUESTS, DEFAULT_REQUESTS);
+    final int concurrency = getIntent().getIntExtra(EXTRA_CONCURRENCY, DEFAULT_CONCURRENCY);
+    final SampleSimulation.Config config = new SampleSimulation.Config.Builder()
+        .setSeed(getIntent().getLongExtra(EXTRA_SEED, 0))
+        .setFillRate(0.9f)
+        .setLatency(LatencyDistribution.LONG_TAIL, 20, 2000)
+        .setCreativeSizeBytes(16 * 1024)
+        .setDropRate(getIntent().getFloatExtra(EXTRA_DROP_RATE, 0))
+        .setDuplicateRate(getIntent().getFloatExtra(EXTRA_DUPLICATE_RATE, 0))
+        .setDelay(getIntent().getFloatExtra(EXTRA_DELAY_RATE, 0),
+            getIntent().getLongExtra(EXTRA_DELAY_MILLIS, DEFAULT_DELAY_MILLIS))
+        .setReorderWindowMillis(getIntent().getLongExtra(EXTRA_REORDER_WINDOW_MILLIS, 0))
+        .setInitFailureRate(getIntent().getFloatExtra(EXTRA_INIT_FAILURE_RATE, 0))
+        .setInitDropRate(getIntent().getFloatExtra(EXTRA_INIT_DROP_RATE, 0))
+        .setInitDuplicateRate(getIntent().getFloatExtra(EXTRA_INIT_DUPLICATE_RATE, 0))
+        .setInitDelay(getIntent().getFloatExtra(EXTRA_INIT_DELAY_RATE, 0),
+            getIntent().getLongExtra(EXTRA_INIT_DELAY_MILLIS, DEFAULT_DELAY_MILLIS))
+        .build();
+    final AdapterLoadTest loadTest = new AdapterLoadTest(this, requests, concurrency);
+
+    new Thread(new Runnable() {
+      @Override
+      public void run() {
+        SampleSimulation.enable(config);
+        String report;
+        try {
+          report = loadTest.run();
+        } catch (InterruptedException e) {
+          report = "Load test interrupted.";
+        } finally {
+          SampleSimulation.disable();
+        }
+
+        Log.i(TAG, "Load test report:\n" + report);
+        final String finalReport = report;
+        runOnUiThread(new Runnable() {
+          @Override
+          public void run() {
+            reportView.setText(finalReport);
+          }
+        });
+      }
+    }, "AdapterLoadTest").start();
+  }
+}
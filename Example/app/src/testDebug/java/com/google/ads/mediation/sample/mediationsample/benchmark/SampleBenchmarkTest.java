@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2021 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.mediationsample.benchmark;
+
+import static org.junit.Assert.assertEquals;
+
+import android.content.Context;
+import com.google.ads.mediation.benchmark.Microbenchmark;
+import com.google.ads.mediation.sample.adapter.SampleAdapter;
+import com.google.ads.mediation.sample.customevent.SampleCustomEvent;
+import com.google.android.gms.ads.AdSize;
+import com.google.android.gms.ads.MediationUtils;
+import java.util.ArrayList;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+/**
+ * Microbenchmarks of the sample adapter and custom event code that runs on every ad request, and
+ * of {@link MediationUtils#findClosestSize}, which adapters call to map banner sizes. Run it with
+ * {@code ./gradlew :app:testDebugUnitTest --tests '*BenchmarkTest' -i}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class SampleBenchmarkTest {
+
+  private static final int WARMUP_ROUNDS = 5;
+  private static final int MEASURED_ROUNDS = 11;
+  private static final int OPERATIONS_PER_ROUND = 10000;
+
+  @Test
+  public void benchmark() {
+    final Context context = RuntimeEnvironment.getApplication();
+    final SampleAdapter adapter = new SampleAdapter();
+    final SampleCustomEvent customEvent = new SampleCustomEvent();
+    final AdSize requestedSize = new AdSize(320, 60);
+    assertEquals(AdSize.BANNER, findClosestSize(context, requestedSize));
+
+    String report = new Microbenchmark(WARMUP_ROUNDS, MEASURED_ROUNDS, OPERATIONS_PER_ROUND)
+        .add("SampleAdapter.getVersionInfo", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return adapter.getVersionInfo();
+          }
+        })
+        .add("SampleAdapter.getSDKVersionInfo", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return adapter.getSDKVersionInfo();
+          }
+        })
+        .add("SampleCustomEvent.getVersionInfo", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return customEvent.getVersionInfo();
+          }
+        })
+        .add("MediationUtils.findClosestSize", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return findClosestSize(context, requestedSize);
+          }
+        })
+        .run();
+    System.out.println(report);
+  }
+
+  /**
+   * Maps a banner size the way adapters did before they cached the result, building the list of
+   * candidate sizes on every request.
+   */
+  private static AdSize findClosestSize(Context context, AdSize requestedSize) {
+    ArrayList<AdSize> potentials = new ArrayList<>();
+    potentials.add(AdSize.BANNER);
+    potentials.add(AdSize.LEADERBOARD);
+    return MediationUtils.findClosestSize(context, requestedSize, potentials);
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2021 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.mediationsample.loadtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+import com.google.ads.mediation.sample.sdk.SampleSimulation;
+import com.google.ads.mediation.sample.sdk.SampleSimulation.LatencyDistribution;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.LooperMode;
+
+/**
+ * Runs {@link AdapterLoadTest} on the JVM with the sample SDK's simulation mode, so that the
+ * sample adapter and custom event are load tested on every build without a device.
+ *
+ * <p>The main looper is paused: this test advances the simulated clock in small steps while the
+ * load test runs on a background thread, so that simulated latencies and request timeouts play
+ * out in milliseconds of real time. Run it with {@code ./gradlew :app:testDebugUnitTest}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+@LooperMode(LooperMode.Mode.PAUSED)
+public class AdapterLoadTestTest {
+
+  private static final int REQUESTS_PER_SCENARIO = 200;
+  private static final int MAX_CONCURRENT_REQUESTS = 50;
+  private static final long SEED = 42;
+
+  /**
+   * Simulated time advanced per step of the main looper.
+   */
+  private static final long STEP_MILLIS = 10;
+
+  /**
+   * Simulated time after which the load test is considered stuck.
+   */
+  private static final long MAX_SIMULATED_MILLIS = 30 * 60 * 1000;
+
+  @After
+  public void tearDown() {
+    SampleSimulation.disable();
+  }
+
+  @Test
+  public void run_withDroppedInitializationCallbacks_timesOutInitializations() throws Exception {
+    SampleSimulation.Config config = new SampleSimulation.Config.Builder()
+        .setSeed(SEED)
+        .setInitFailureRate(0.2f)
+        .setInitDropRate(0.1f)
+        .build();
+
+    Map<String, String> row = runLoadTest(config).get(
+        AdapterLoadTest.INTEGRATION_ADAPTER + "/" + AdapterLoadTest.FORMAT_INITIALIZATION);
+    assertTrue(Integer.parseInt(row.get("timedOut")) > 0);
+    assertTrue(Integer.parseInt(row.get("failed")) > 0);
+    assertEquals("0", row.get("leakedListeners"));
+  }
+
+  @Test
+  public void run_withoutFaults_completesEveryRequestOnceAndReproducibly() throws Exception {
+    SampleSimulation.Config config = new SampleSimulation.Config.Builder()
+        .setSeed(SEED)
+        .setFillRate(0.9f)
+        .setLatency(LatencyDistribution.LONG_TAIL, 20, 2000)
+        .setCreativeSizeBytes(16 * 1024)
+        .build();
+
+    Map<String, Map<String, String>> report = runLoadTest(config);
+    // Four formats for both integrations, and the adapter's initialization.
+    assertEquals(9, report.size());
+    for (Map.Entry<String, Map<String, String>> scenario : report.entrySet()) {
+      Map<String, String> row = scenario.getValue();
+      assertEquals(scenario.getKey(), String.valueOf(REQUESTS_PER_SCENARIO),
+          row.get("requests"));
+      assertEquals(scenario.getKey(), "0", row.get("timedOut"));
+      assertEquals(scenario.getKey(), "0", row.get("duplicateCallbacks"));
+      assertEquals(scenario.getKey(), "0", row.get("leakedListeners"));
+      assertEquals(scenario.getKey(), REQUESTS_PER_SCENARIO,
+          Integer.parseInt(row.get("filled")) + Integer.parseInt(row.get("failed")));
+    }
+
+    // The same seed draws the same outcomes.
+    Map<String, Map<String, String>> repeatedReport = runLoadTest(config);
+    for (Map.Entry<String, Map<String, String>> scenario : report.entrySet()) {
+      Map<String, String> repeatedRow = repeatedReport.get(scenario.getKey());
+      assertEquals(scenario.getKey(), scenario.getValue().get("filled"),
+          repeatedRow.get("filled"));
+      assertEquals(scenario.getKey(), scenario.getValue().get("p50Millis"),
+          repeatedRow.get("p50Millis"));
+    }
+  }
+
+  /**
+   * Runs the load test with the given simulation configuration and returns its report, keyed by
+   * integration and format, then by column.
+   */
+  private static Map<String, Map<String, String>> runLoadTest(SampleSimulation.Config config)
+      throws Exception {
+    final AdapterLoadTest loadTest = new AdapterLoadTest(RuntimeEnvironment.getApplication(),
+        REQUESTS_PER_SCENARIO, MAX_CONCURRENT_REQUESTS);
+    final AtomicReference<String> report = new AtomicReference<>();
+    final AtomicReference<Throwable> error = new AtomicReference<>();
+    SampleSimulation.enable(config);
+    Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          report.set(loadTest.run());
+        } catch (Throwable throwable) {
+          error.set(throwable);
+        }
+      }
+    }, "AdapterLoadTest");
+    thread.start();
+
+    long simulatedMillis = 0;
+    while (thread.isAlive() && simulatedMillis < MAX_SIMULATED_MILLIS) {
+      shadowOf(Looper.getMainLooper()).idleFor(STEP_MILLIS, TimeUnit.MILLISECONDS);
+      simulatedMillis += STEP_MILLIS;
+      // Let the load test and the simulation's callback thread catch up with the clock.
+      thread.join(1);
+    }
+    assertFalse("Load test did not finish", thread.isAlive());
+    assertNull(error.get());
+    return parseReport(report.get());
+  }
+
+  private static Map<String, Map<String, String>> parseReport(String report) {
+    String[] lines = report.split("\n");
+    String[] columns = lines[0].split("\t");
+    Map<String, Map<String, String>> rows = new LinkedHashMap<>();
+    for (int i = 1; i < lines.length; i++) {
+      String[] values = lines[i].split("\t");
+      Map<String, String> row = new LinkedHashMap<>();
+      for (int column = 0; column < columns.length; column++) {
+        row.put(columns[column], values[column]);
+      }
+      rows.put(values[0] + "/" + values[1], row);
+    }
+    return rows;
+  }
+}
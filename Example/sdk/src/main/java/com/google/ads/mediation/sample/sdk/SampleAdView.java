@@ -33,6 +33,7 @@ public class SampleAdView extends TextView {
   private SampleAdSize adSize;
   private String adUnit;
   private SampleAdListener listener;
+  private byte[] creativePayload;
 
   /**
    * Create a new {@link SampleAdView}.
@@ -86,22 +87,33 @@ public class SampleAdView extends TextView {
       listener.onAdFetchFailed(SampleErrorCode.BAD_REQUEST);
     }
 
+    if (SampleSimulation.isEnabled()) {
+      final SampleSimulation.Outcome outcome = SampleSimulation.nextOutcome();
+      SampleSimulation.deliverOnMainThread(outcome, new Runnable() {
+        @Override
+        public void run() {
+          if (listener == null) {
+            // The banner was destroyed while the request was in flight.
+            return;
+          }
+          if (outcome.isFilled()) {
+            creativePayload = outcome.getPayload();
+            showAd();
+            listener.onAdFetchSucceeded();
+          } else {
+            listener.onAdFetchFailed(SampleErrorCode.NO_INVENTORY);
+          }
+        }
+      });
+      return;
+    }
+
     // Randomly decide whether to succeed or fail.
     Random random = new Random();
     int nextInt = random.nextInt(100);
     if (listener != null) {
       if (nextInt < 85) {
-        this.setText("Sample Text Ad");
-        this.setOnClickListener(new OnClickListener() {
-          @Override
-          public void onClick(View view) {
-            // Notify the developer that a full screen view will be presented.
-            listener.onAdFullScreen();
-            Intent intent =
-                new Intent(Intent.ACTION_VIEW, Uri.parse("http://www.google.com"));
-            SampleAdView.this.getContext().startActivity(intent);
-          }
-        });
+        showAd();
         listener.onAdFetchSucceeded();
       } else if (nextInt < 90) {
         listener.onAdFetchFailed(SampleErrorCode.UNKNOWN);
@@ -113,10 +125,25 @@ public class SampleAdView extends TextView {
     }
   }
 
+  private void showAd() {
+    this.setText("Sample Text Ad");
+    this.setOnClickListener(new OnClickListener() {
+      @Override
+      public void onClick(View view) {
+        // Notify the developer that a full screen view will be presented.
+        listener.onAdFullScreen();
+        Intent intent =
+            new Intent(Intent.ACTION_VIEW, Uri.parse("http://www.google.com"));
+        SampleAdView.this.getContext().startActivity(intent);
+      }
+    });
+  }
+
   /**
    * Destroy the banner.
    */
   public void destroy() {
     listener = null;
+    creativePayload = null;
   }
 }
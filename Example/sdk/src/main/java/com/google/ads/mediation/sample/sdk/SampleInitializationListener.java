@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2021 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.sdk;
+
+/**
+ * A sample listener for the completion of {@link SampleSdk#initialize}.
+ */
+public abstract class SampleInitializationListener {
+
+  /**
+   * Called when the Sample SDK is initialized.
+   */
+  public void onInitializationSucceeded() {
+    // Default is to do nothing.
+  }
+
+  /**
+   * Called when the Sample SDK fails to initialize.
+   *
+   * @param code The reason the initialization failed.
+   */
+  public void onInitializationFailed(SampleErrorCode code) {
+    // Default is to do nothing.
+  }
+}
@@ -30,6 +30,7 @@ public class SampleInterstitial {
   private final Context context;
   private String adUnit;
   private SampleAdListener listener;
+  private byte[] creativePayload;
 
   /**
    * Create a new {@link SampleInterstitial}.
@@ -74,6 +75,27 @@ public class SampleInterstitial {
       listener.onAdFetchFailed(SampleErrorCode.BAD_REQUEST);
     }
 
+    if (SampleSimulation.isEnabled()) {
+      final SampleSimulation.Outcome outcome = SampleSimulation.nextOutcome();
+      SampleSimulation.deliver(outcome, new Runnable() {
+        @Override
+        public void run() {
+          SampleAdListener currentListener = listener;
+          if (currentListener == null) {
+            // The interstitial was destroyed while the request was in flight.
+            return;
+          }
+          if (outcome.isFilled()) {
+            creativePayload = outcome.getPayload();
+            currentListener.onAdFetchSucceeded();
+          } else {
+            currentListener.onAdFetchFailed(SampleErrorCode.NO_INVENTORY);
+          }
+        }
+      });
+      return;
+    }
+
     Random random = new Random();
     int nextInt = random.nextInt(100);
     if (listener != null) {
@@ -115,6 +137,7 @@ public class SampleInterstitial {
    */
   public void destroy() {
     listener = null;
+    creativePayload = null;
   }
 }
 
@@ -41,6 +41,7 @@ public class SampleNativeAd {
   private String degreeOfAwesomeness;
   private ImageView informationIcon;
   private SampleMediaView mediaView;
+  private byte[] creativePayload;
 
   public String getHeadline() {
     return headline;
@@ -154,6 +155,13 @@ public class SampleNativeAd {
     this.mediaView = mediaView;
   }
 
+  /**
+   * Sets the simulated creative payload of this ad, see {@link SampleSimulation}.
+   */
+  void setCreativePayload(byte[] creativePayload) {
+    this.creativePayload = creativePayload;
+  }
+
   public void handleClick(View view) {
     // Normally this would result in some type of click response, like a browser opening
     // or a ping to the servers. This isn't a real sdk, though, so we'll just log it.
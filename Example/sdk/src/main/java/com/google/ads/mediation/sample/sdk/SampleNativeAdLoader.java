@@ -75,6 +75,11 @@ public class SampleNativeAdLoader {
       return;
     }
 
+    if (SampleSimulation.isEnabled()) {
+      simulateFetch(request);
+      return;
+    }
+
     Random random = new Random();
     int nextInt = random.nextInt(100);
     if (listener != null) {
@@ -82,9 +87,9 @@ public class SampleNativeAdLoader {
         // Act as if the request was successful and create a sample native ad
         // of the request type filled with dummy data.
         if (random.nextBoolean()) {
-          listener.onNativeAdFetched(createSampleAppInstallAd(request));
+          listener.onNativeAdFetched(createSampleAppInstallAd(request, hasVideoAsset()));
         } else {
-          listener.onNativeAdFetched(createSampleContentAd(request));
+          listener.onNativeAdFetched(createSampleContentAd(request, hasVideoAsset()));
         }
       } else if (nextInt < 94) {
         listener.onAdFetchFailed(SampleErrorCode.UNKNOWN);
@@ -98,7 +103,42 @@ public class SampleNativeAdLoader {
     }
   }
 
-  private SampleNativeAd createSampleAppInstallAd(SampleNativeAdRequest request) {
+  private void simulateFetch(SampleNativeAdRequest request) {
+    final SampleSimulation.Outcome outcome = SampleSimulation.nextOutcome();
+    final SampleNativeAdListener currentListener = listener;
+    if (!outcome.isFilled()) {
+      SampleSimulation.deliver(outcome, new Runnable() {
+        @Override
+        public void run() {
+          currentListener.onAdFetchFailed(SampleErrorCode.NO_INVENTORY);
+        }
+      });
+      return;
+    }
+
+    // The ad holds views, so it is created on the calling thread rather than with the callback.
+    boolean hasVideo = outcome.getVariant() < 80;
+    final SampleNativeAd nativeAd = outcome.getVariant() % 2 == 0
+        ? createSampleAppInstallAd(request, hasVideo) : createSampleContentAd(request, hasVideo);
+    nativeAd.setCreativePayload(outcome.getPayload());
+    SampleSimulation.deliver(outcome, new Runnable() {
+      @Override
+      public void run() {
+        currentListener.onNativeAdFetched(nativeAd);
+      }
+    });
+  }
+
+  /**
+   * Returns whether a native ad has a video asset. We pretend 80% of network's inventory has video
+   * assets and 20% doesn't.
+   */
+  private static boolean hasVideoAsset() {
+    return (new Random()).nextInt(100) < 80;
+  }
+
+  private SampleNativeAd createSampleAppInstallAd(SampleNativeAdRequest request,
+      boolean hasVideo) {
     SampleNativeAd nativeAd = new SampleNativeAd();
 
     nativeAd.setHeadline("Sample App!");
@@ -111,8 +151,7 @@ public class SampleNativeAdLoader {
     nativeAd.setImageUri(Uri.parse("http://www.example.com/"));
     nativeAd.setIconUri(Uri.parse("http://www.example.com/"));
 
-    // We pretend 80% of network's inventory has video assets and 20% doesn't.
-    if ((new Random()).nextInt(100) < 80) {
+    if (hasVideo) {
       nativeAd.setMediaView(new SampleMediaView(context));
     } else {
       nativeAd.setMediaView(null);
@@ -132,7 +171,7 @@ public class SampleNativeAdLoader {
     return nativeAd;
   }
 
-  private SampleNativeAd createSampleContentAd(SampleNativeAdRequest request) {
+  private SampleNativeAd createSampleContentAd(SampleNativeAdRequest request, boolean hasVideo) {
     SampleNativeAd nativeAd = new SampleNativeAd();
 
     nativeAd.setHeadline("Sample Content!");
@@ -142,8 +181,7 @@ public class SampleNativeAdLoader {
     nativeAd.setCallToAction("Take Action!");
     nativeAd.setDegreeOfAwesomeness("Fairly Awesome");
 
-    // We pretend 80% of network's inventory has video assets and 20% doesn't.
-    if ((new Random()).nextInt(100) < 80) {
+    if (hasVideo) {
       nativeAd.setMediaView(new SampleMediaView(context));
     } else {
       nativeAd.setMediaView(null);
@@ -53,7 +53,7 @@ public class SampleRewardedAd implements Parcelable {
   /**
    * A flag that indicates whether a rewarded ad is ready to show.
    */
-  private boolean isAdAvailable;
+  private volatile boolean isAdAvailable;
 
   /**
    * A listener to forward any rewarded ad events.
@@ -63,7 +63,12 @@ public class SampleRewardedAd implements Parcelable {
   /**
    * The reward amount associated with the ad.
    */
-  private int reward;
+  private volatile int reward;
+
+  /**
+   * The simulated creative payload of the loaded ad, see {@link SampleSimulation}.
+   */
+  private byte[] creativePayload;
 
   /**
    * Construct a rewarded ad.
@@ -109,6 +114,26 @@ public class SampleRewardedAd implements Parcelable {
    * Loads a rewarded ad.
    */
   public void loadAd(SampleAdRequest request) {
+    if (SampleSimulation.isEnabled()) {
+      final SampleSimulation.Outcome outcome = SampleSimulation.nextOutcome();
+      SampleSimulation.deliver(outcome, new Runnable() {
+        @Override
+        public void run() {
+          if (outcome.isFilled()) {
+            creativePayload = outcome.getPayload();
+            reward = 5;
+            isAdAvailable = true;
+            if (listener != null) {
+              listener.onRewardedAdLoaded();
+            }
+          } else if (listener != null && !isAdAvailable) {
+            listener.onRewardedAdFailedToLoad(SampleErrorCode.NO_INVENTORY);
+          }
+        }
+      });
+      return;
+    }
+
     Random random = new Random();
     int nextInt = random.nextInt(100);
     SampleErrorCode errorCode = null;
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2021 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.sdk;
+
+import android.content.Context;
+
+/**
+ * Entry point of the Sample SDK.
+ */
+public final class SampleSdk {
+
+  private SampleSdk() {
+  }
+
+  /**
+   * Initializes the Sample SDK. This isn't a real SDK, so there is nothing to set up and
+   * initialization succeeds right away, unless {@link SampleSimulation} is enabled.
+   *
+   * @param context  An Android {@link Context}.
+   * @param listener The listener notified when initialization completes.
+   */
+  public static void initialize(Context context, final SampleInitializationListener listener) {
+    if (!SampleSimulation.isEnabled()) {
+      listener.onInitializationSucceeded();
+      return;
+    }
+
+    final SampleSimulation.Outcome outcome = SampleSimulation.nextInitializationOutcome();
+    SampleSimulation.deliver(outcome, new Runnable() {
+      @Override
+      public void run() {
+        if (outcome.isFilled()) {
+          listener.onInitializationSucceeded();
+        } else {
+          listener.onInitializationFailed(SampleErrorCode.NETWORK_ERROR);
+        }
+      }
+    });
+  }
+}
@@ -0,0 +1,489 @@
+/*
+ * Copyright (C) 2021 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.sample.sdk;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * A simulation mode for the Sample SDK, used to benchmark adapters and mediation paths offline and
+ * reproducibly. While a simulation is enabled, the sample ad formats stop deciding outcomes with an
+ * unseeded {@link Random} and answering synchronously. Instead:
+ *
+ * <ul>
+ *   <li>Outcomes are drawn from a seeded {@link Random}, so the same sequence of requests always
+ *   gets the same sequence of fills, no fills and latencies.
+ *   <li>Requests are filled at the configured fill rate, and fail with {@link
+ *   SampleErrorCode#NO_INVENTORY} otherwise.
+ *   <li>Callbacks are delivered after a latency drawn from the configured {@link
+ *   LatencyDistribution}, on a background thread. Banner callbacks are delivered on the main thread
+ *   since the banner is a view.
+ *   <li>Every filled ad holds a creative payload of the configured size, to simulate the memory
+ *   cost of a real creative.
+ *   <li>Optionally, faults are injected into callback delivery: callbacks can be dropped,
+ *   delivered twice, delayed well past their latency, or reordered relative to other requests.
+ *   These simulate slow or misbehaving networks, to check that adapters time out and recover
+ *   instead of hanging the mediation waterfall.
+ *   <li>{@link SampleSdk#initialize} completes after a simulated latency too, and can be made to
+ *   fail, or have its completion callback dropped, duplicated or delayed, independently of ad
+ *   requests. Initialization outcomes are drawn from their own seeded sequence, so initializing
+ *   does not change the outcomes of ad requests.
+ * </ul>
+ */
+public final class SampleSimulation {
+
+  /**
+   * How the latency of simulated requests is distributed.
+   */
+  public enum LatencyDistribution {
+    /**
+     * Every request takes the minimum latency.
+     */
+    FIXED,
+    /**
+     * Latencies are uniformly distributed between the minimum and maximum latency.
+     */
+    UNIFORM,
+    /**
+     * Most requests take close to the minimum latency, with a Pareto-distributed tail of slow
+     * requests capped at the maximum latency.
+     */
+    LONG_TAIL
+  }
+
+  /**
+   * Shape parameter of the {@link LatencyDistribution#LONG_TAIL} distribution. Lower values give a
+   * heavier tail.
+   */
+  private static final double LONG_TAIL_SHAPE = 1.5;
+
+  /**
+   * Faults that can be injected into the delivery of a callback.
+   */
+  enum Fault {
+    NONE,
+    /**
+     * The callback is never delivered.
+     */
+    DROP,
+    /**
+     * The callback is delivered twice.
+     */
+    DUPLICATE,
+    /**
+     * The callback is delivered after the configured fault delay, on top of its latency.
+     */
+    DELAY
+  }
+
+  private static Config config;
+  private static Random random;
+  private static Random initializationRandom;
+  private static Handler callbackHandler;
+  private static Handler mainHandler;
+
+  private SampleSimulation() {
+  }
+
+  /**
+   * Enables the simulation mode with the given configuration. Enabling it again restarts the
+   * sequence of outcomes from the configured seed.
+   *
+   * @param config The simulation configuration.
+   */
+  public static synchronized void enable(Config config) {
+    SampleSimulation.config = config;
+    random = new Random(config.seed);
+    initializationRandom = new Random(~config.seed);
+    if (callbackHandler == null) {
+      HandlerThread thread = new HandlerThread("SampleSimulation");
+      thread.start();
+      callbackHandler = new Handler(thread.getLooper());
+      mainHandler = new Handler(Looper.getMainLooper());
+    }
+  }
+
+  /**
+   * Disables the simulation mode. Callbacks of requests that are already in flight are still
+   * delivered.
+   */
+  public static synchronized void disable() {
+    config = null;
+    random = null;
+    initializationRandom = null;
+  }
+
+  /**
+   * Returns whether the simulation mode is enabled.
+   */
+  public static synchronized boolean isEnabled() {
+    return config != null;
+  }
+
+  /**
+   * Draws the outcome of the next simulated request.
+   */
+  static synchronized Outcome nextOutcome() {
+    boolean isFilled = random.nextFloat() < config.fillRate;
+    long latencyMillis = nextLatencyMillis(random);
+    int variant = random.nextInt(100);
+    // Faults are always drawn, so that enabling them does not change the other outcomes of a seed.
+    Fault fault = nextFault(random, config.dropRate, config.duplicateRate, config.delayRate);
+    if (fault == Fault.DELAY) {
+      latencyMillis += config.faultDelayMillis;
+    }
+    // Jitter lets later requests overtake earlier ones.
+    latencyMillis += (long) (random.nextDouble() * config.reorderWindowMillis);
+
+    byte[] payload = null;
+    if (isFilled && config.creativeSizeBytes > 0) {
+      // Fill the payload so that its pages are actually committed.
+      payload = new byte[config.creativeSizeBytes];
+      Arrays.fill(payload, (byte) variant);
+    }
+    return new Outcome(isFilled, latencyMillis, variant, payload, fault);
+  }
+
+  /**
+   * Draws the outcome of the next simulated initialization. The outcome is filled if the
+   * initialization succeeds.
+   */
+  static synchronized Outcome nextInitializationOutcome() {
+    boolean isSucceeded = initializationRandom.nextFloat() >= config.initFailureRate;
+    long latencyMillis = nextLatencyMillis(initializationRandom);
+    Fault fault = nextFault(initializationRandom, config.initDropRate, config.initDuplicateRate,
+        config.initDelayRate);
+    if (fault == Fault.DELAY) {
+      latencyMillis += config.initFaultDelayMillis;
+    }
+    return new Outcome(isSucceeded, latencyMillis, 0, null, fault);
+  }
+
+  private static Fault nextFault(Random random, float dropRate, float duplicateRate,
+      float delayRate) {
+    float draw = random.nextFloat();
+    if (draw < dropRate) {
+      return Fault.DROP;
+    }
+    draw -= dropRate;
+    if (draw < duplicateRate) {
+      return Fault.DUPLICATE;
+    }
+    draw -= duplicateRate;
+    if (draw < delayRate) {
+      return Fault.DELAY;
+    }
+    return Fault.NONE;
+  }
+
+  private static long nextLatencyMillis(Random random) {
+    switch (config.latencyDistribution) {
+      case UNIFORM:
+        return config.minLatencyMillis
+            + (long) (random.nextDouble() * (config.maxLatencyMillis - config.minLatencyMillis));
+      case LONG_TAIL:
+        // Inverse transform sampling of a Pareto distribution with scale minLatencyMillis.
+        double uniform = 1.0 - random.nextDouble();
+        double latency = Math.max(1, config.minLatencyMillis)
+            / Math.pow(uniform, 1.0 / LONG_TAIL_SHAPE);
+        return Math.min(config.maxLatencyMillis, (long) latency);
+      case FIXED:
+      default:
+        return config.minLatencyMillis;
+    }
+  }
+
+  /**
+   * Runs the given callback on the simulation's background thread after the outcome's latency.
+   */
+  static synchronized void deliver(Outcome outcome, Runnable callback) {
+    post(callbackHandler, outcome, callback);
+  }
+
+  /**
+   * Runs the given callback on the main thread after the outcome's latency.
+   */
+  static synchronized void deliverOnMainThread(Outcome outcome, Runnable callback) {
+    post(mainHandler, outcome, callback);
+  }
+
+  private static void post(Handler handler, Outcome outcome, Runnable callback) {
+    switch (outcome.fault) {
+      case DROP:
+        return;
+      case DUPLICATE:
+        handler.postDelayed(callback, outcome.latencyMillis);
+        handler.postDelayed(callback, outcome.latencyMillis);
+        return;
+      case DELAY:
+      case NONE:
+      default:
+        handler.postDelayed(callback, outcome.latencyMillis);
+    }
+  }
+
+  /**
+   * The outcome of a simulated request.
+   */
+  static final class Outcome {
+
+    private final boolean isFilled;
+    private final long latencyMillis;
+    private final int variant;
+    private final byte[] payload;
+    private final Fault fault;
+
+    private Outcome(boolean isFilled, long latencyMillis, int variant, byte[] payload,
+        Fault fault) {
+      this.isFilled = isFilled;
+      this.latencyMillis = latencyMillis;
+      this.variant = variant;
+      this.payload = payload;
+      this.fault = fault;
+    }
+
+    /**
+     * Returns whether the request is filled, or for an initialization, whether it succeeds.
+     */
+    boolean isFilled() {
+      return isFilled;
+    }
+
+    /**
+     * Returns a number between 0 and 99 used to pick between variants of a filled ad.
+     */
+    int getVariant() {
+      return variant;
+    }
+
+    /**
+     * Returns the simulated creative payload of a filled ad, or {@code null} if there is none.
+     */
+    byte[] getPayload() {
+      return payload;
+    }
+  }
+
+  /**
+   * The configuration of a simulation. Create one with a {@link Builder}.
+   */
+  public static final class Config {
+
+    private final long seed;
+    private final float fillRate;
+    private final LatencyDistribution latencyDistribution;
+    private final long minLatencyMillis;
+    private final long maxLatencyMillis;
+    private final int creativeSizeBytes;
+    private final float dropRate;
+    private final float duplicateRate;
+    private final float delayRate;
+    private final long faultDelayMillis;
+    private final long reorderWindowMillis;
+    private final float initFailureRate;
+    private final float initDropRate;
+    private final float initDuplicateRate;
+    private final float initDelayRate;
+    private final long initFaultDelayMillis;
+
+    private Config(Builder builder) {
+      this.seed = builder.seed;
+      this.fillRate = builder.fillRate;
+      this.latencyDistribution = builder.latencyDistribution;
+      this.minLatencyMillis = builder.minLatencyMillis;
+      this.maxLatencyMillis = builder.maxLatencyMillis;
+      this.creativeSizeBytes = builder.creativeSizeBytes;
+      this.dropRate = builder.dropRate;
+      this.duplicateRate = builder.duplicateRate;
+      this.delayRate = builder.delayRate;
+      this.faultDelayMillis = builder.faultDelayMillis;
+      this.reorderWindowMillis = builder.reorderWindowMillis;
+      this.initFailureRate = builder.initFailureRate;
+      this.initDropRate = builder.initDropRate;
+      this.initDuplicateRate = builder.initDuplicateRate;
+      this.initDelayRate = builder.initDelayRate;
+      this.initFaultDelayMillis = builder.initFaultDelayMillis;
+    }
+
+    /**
+     * Builds a simulation {@link Config}. By default, every request is filled after 100ms with no
+     * creative payload and no injected faults, using a seed of 0.
+     */
+    public static final class Builder {
+
+      private long seed;
+      private float fillRate = 1f;
+      private LatencyDistribution latencyDistribution = LatencyDistribution.FIXED;
+      private long minLatencyMillis = 100;
+      private long maxLatencyMillis = 100;
+      private int creativeSizeBytes;
+      private float dropRate;
+      private float duplicateRate;
+      private float delayRate;
+      private long faultDelayMillis;
+      private long reorderWindowMillis;
+      private float initFailureRate;
+      private float initDropRate;
+      private float initDuplicateRate;
+      private float initDelayRate;
+      private long initFaultDelayMillis;
+
+      /**
+       * Sets the seed from which outcomes are drawn.
+       */
+      public Builder setSeed(long seed) {
+        this.seed = seed;
+        return this;
+      }
+
+      /**
+       * Sets the fraction of requests, between 0 and 1, that are filled.
+       */
+      public Builder setFillRate(float fillRate) {
+        if (fillRate < 0 || fillRate > 1) {
+          throw new IllegalArgumentException("Fill rate must be between 0 and 1.");
+        }
+        this.fillRate = fillRate;
+        return this;
+      }
+
+      /**
+       * Sets how request latencies are distributed between the given bounds. The maximum is
+       * ignored for {@link LatencyDistribution#FIXED}.
+       */
+      public Builder setLatency(LatencyDistribution distribution, long minLatencyMillis,
+          long maxLatencyMillis) {
+        if (minLatencyMillis < 0 || maxLatencyMillis < minLatencyMillis) {
+          throw new IllegalArgumentException("Invalid latency bounds.");
+        }
+        this.latencyDistribution = distribution;
+        this.minLatencyMillis = minLatencyMillis;
+        this.maxLatencyMillis = maxLatencyMillis;
+        return this;
+      }
+
+      /**
+       * Sets the size, in bytes, of the creative payload held by every filled ad.
+       */
+      public Builder setCreativeSizeBytes(int creativeSizeBytes) {
+        this.creativeSizeBytes = creativeSizeBytes;
+        return this;
+      }
+
+      /**
+       * Sets the fraction of callbacks, between 0 and 1, that are never delivered.
+       */
+      public Builder setDropRate(float dropRate) {
+        this.dropRate = checkRate(dropRate);
+        return this;
+      }
+
+      /**
+       * Sets the fraction of callbacks, between 0 and 1, that are delivered twice.
+       */
+      public Builder setDuplicateRate(float duplicateRate) {
+        this.duplicateRate = checkRate(duplicateRate);
+        return this;
+      }
+
+      /**
+       * Sets the fraction of callbacks, between 0 and 1, that are delayed by the given time on top
+       * of their latency.
+       */
+      public Builder setDelay(float delayRate, long delayMillis) {
+        if (delayMillis < 0) {
+          throw new IllegalArgumentException("Delay must not be negative.");
+        }
+        this.delayRate = checkRate(delayRate);
+        this.faultDelayMillis = delayMillis;
+        return this;
+      }
+
+      /**
+       * Adds a random delay of up to the given time to every callback, so that callbacks may be
+       * delivered in a different order than their requests were made.
+       */
+      public Builder setReorderWindowMillis(long reorderWindowMillis) {
+        if (reorderWindowMillis < 0) {
+          throw new IllegalArgumentException("Reorder window must not be negative.");
+        }
+        this.reorderWindowMillis = reorderWindowMillis;
+        return this;
+      }
+
+      /**
+       * Sets the fraction of initializations, between 0 and 1, that fail.
+       */
+      public Builder setInitFailureRate(float initFailureRate) {
+        this.initFailureRate = checkRate(initFailureRate);
+        return this;
+      }
+
+      /**
+       * Sets the fraction of initialization completion callbacks, between 0 and 1, that are never
+       * delivered.
+       */
+      public Builder setInitDropRate(float initDropRate) {
+        this.initDropRate = checkRate(initDropRate);
+        return this;
+      }
+
+      /**
+       * Sets the fraction of initialization completion callbacks, between 0 and 1, that are
+       * delivered twice.
+       */
+      public Builder setInitDuplicateRate(float initDuplicateRate) {
+        this.initDuplicateRate = checkRate(initDuplicateRate);
+        return this;
+      }
+
+      /**
+       * Sets the fraction of initialization completion callbacks, between 0 and 1, that are
+       * delayed by the given time on top of their latency.
+       */
+      public Builder setInitDelay(float initDelayRate, long initDelayMillis) {
+        if (initDelayMillis < 0) {
+          throw new IllegalArgumentException("Delay must not be negative.");
+        }
+        this.initDelayRate = checkRate(initDelayRate);
+        this.initFaultDelayMillis = initDelayMillis;
+        return this;
+      }
+
+      private static float checkRate(float rate) {
+        if (rate < 0 || rate > 1) {
+          throw new IllegalArgumentException("Fault rates must be between 0 and 1.");
+        }
+        return rate;
+      }
+
+      public Config build() {
+        if (dropRate + duplicateRate + delayRate > 1) {
+          throw new IllegalArgumentException("Fault rates must not add up to more than 1.");
+        }
+        if (initDropRate + initDuplicateRate + initDelayRate > 1) {
+          throw new IllegalArgumentException(
+              "Initialization fault rates must not add up to more than 1.");
+        }
+        return new Config(this);
+      }
+    }
+  }
+}
@@ -7,8 +7,6 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.adcolony.sdk.AdColonyAdSize;
 import com.google.android.gms.ads.AdSize;
-import com.google.android.gms.ads.MediationUtils;
-import java.util.ArrayList;
 
 public class AdColonyAdapterUtils {
 
@@ -19,16 +17,16 @@ public class AdColonyAdapterUtils {
   // AdMob SDK's bid response passed to AdColony using below key in ad options.
   public static final String KEY_ADCOLONY_BID_RESPONSE = "adm";
 
+  /**
+   * Banner sizes supported by AdColony.
+   */
+  private static final AdSizeResolver SUPPORTED_AD_SIZES = new AdSizeResolver(AdSize.BANNER,
+      AdSize.LEADERBOARD, AdSize.MEDIUM_RECTANGLE, AdSize.WIDE_SKYSCRAPER);
+
   @Nullable
   public static AdColonyAdSize adColonyAdSizeFromAdMobAdSize(@NonNull Context context,
       @NonNull AdSize adSize) {
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(AdSize.BANNER);
-    potentials.add(AdSize.LEADERBOARD);
-    potentials.add(AdSize.MEDIUM_RECTANGLE);
-    potentials.add(AdSize.WIDE_SKYSCRAPER);
-
-    AdSize closestSize = MediationUtils.findClosestSize(context, adSize, potentials);
+    AdSize closestSize = SUPPORTED_AD_SIZES.resolve(context, adSize);
 
     if (AdSize.BANNER.equals(closestSize)) {
       return AdColonyAdSize.BANNER;
@@ -19,7 +19,7 @@ import com.google.android.gms.ads.mediation.MediationBannerAdCallback;
 import com.google.android.gms.ads.mediation.MediationBannerAdConfiguration;
 import com.jirbo.adcolony.AdColonyManager;
 
-import java.util.ArrayList;
+import java.util.List;
 
 import static com.google.ads.mediation.adcolony.AdColonyAdapterUtils.convertPixelsToDp;
 import static com.google.ads.mediation.adcolony.AdColonyMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
@@ -33,6 +33,8 @@ public class AdColonyBannerRenderer extends AdColonyAdViewListener implements Me
   private final MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback> mAdLoadCallback;
   private AdColonyAdView adColonyAdView;
   private final MediationBannerAdConfiguration adConfiguration;
+  private final LoadLatencyMetrics.LoadTrace loadTrace =
+      LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_BANNER);
 
   public AdColonyBannerRenderer(
           @NonNull MediationBannerAdConfiguration adConfiguration,
@@ -51,27 +53,36 @@ public class AdColonyBannerRenderer extends AdColonyAdViewListener implements Me
       return;
     }
 
-    AdColonyAdOptions adOptions = AdColonyManager
+    final AdColonyAdOptions adOptions = AdColonyManager
             .getInstance()
             .getAdOptionsFromAdConfig(adConfiguration);
-    ArrayList<String> listFromServerParams = AdColonyManager
+    List<String> listFromServerParams = AdColonyManager
             .getInstance()
             .parseZoneList(adConfiguration.getServerParameters());
-    String requestedZone = AdColonyManager
+    final String requestedZone = AdColonyManager
             .getInstance()
             .getZoneFromRequest(listFromServerParams, adConfiguration.getMediationExtras());
     // Setting the requested size as the AdColony view size
-    AdColonyAdSize adSize = new AdColonyAdSize(
+    final AdColonyAdSize adSize = new AdColonyAdSize(
             convertPixelsToDp(adConfiguration.getAdSize().getWidthInPixels(adConfiguration.getContext())),
             convertPixelsToDp(adConfiguration.getAdSize().getHeightInPixels(adConfiguration.getContext()))
     );
-    AdColony.requestAdView(requestedZone, this, adSize, adOptions);
+    loadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
+    MainThreadWatchdog.run("AdColonyBannerRenderer.render", new Runnable() {
+      @Override
+      public void run() {
+        AdColony.requestAdView(requestedZone, AdColonyBannerRenderer.this, adSize, adOptions);
+      }
+    });
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
   }
 
   @Override
   public void onRequestFilled(AdColonyAdView adColonyAdView) {
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
     this.adColonyAdView = adColonyAdView;
     this.mBannerAdCallback = mAdLoadCallback.onSuccess(this);
+    loadTrace.finish();
   }
 
   @Override
@@ -20,7 +20,7 @@ import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdConfiguration;
 import com.jirbo.adcolony.AdColonyManager;
 
-import java.util.ArrayList;
+import java.util.List;
 
 public class AdColonyInterstitialRenderer extends AdColonyInterstitialListener implements
     MediationInterstitialAd {
@@ -29,6 +29,8 @@ public class AdColonyInterstitialRenderer extends AdColonyInterstitialListener i
   private final MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback> mAdLoadCallback;
   private AdColonyInterstitial adColonyInterstitial;
   private final MediationInterstitialAdConfiguration adConfiguration;
+  private final LoadLatencyMetrics.LoadTrace loadTrace =
+      LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_INTERSTITIAL);
 
   AdColonyInterstitialRenderer(
           @NonNull MediationInterstitialAdConfiguration adConfiguration,
@@ -39,24 +41,39 @@ public class AdColonyInterstitialRenderer extends AdColonyInterstitialListener i
   }
 
   public void render() {
-    AdColonyAdOptions adOptions = AdColonyManager.getInstance().getAdOptionsFromAdConfig(adConfiguration);
-    ArrayList<String> listFromServerParams =
+    final AdColonyAdOptions adOptions =
+            AdColonyManager.getInstance().getAdOptionsFromAdConfig(adConfiguration);
+    List<String> listFromServerParams =
             AdColonyManager.getInstance().parseZoneList(adConfiguration.getServerParameters());
-    String requestedZone = AdColonyManager
+    final String requestedZone = AdColonyManager
             .getInstance()
             .getZoneFromRequest(listFromServerParams, adConfiguration.getMediationExtras());
-    AdColony.requestInterstitial(requestedZone, this, adOptions);
+    loadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
+    MainThreadWatchdog.run("AdColonyInterstitialRenderer.render", new Runnable() {
+      @Override
+      public void run() {
+        AdColony.requestInterstitial(requestedZone, AdColonyInterstitialRenderer.this, adOptions);
+      }
+    });
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
   }
 
   @Override
   public void showAd(@NonNull Context context) {
-    adColonyInterstitial.show();
+    MainThreadWatchdog.run("AdColonyInterstitialRenderer.showAd", new Runnable() {
+      @Override
+      public void run() {
+        adColonyInterstitial.show();
+      }
+    });
   }
 
   @Override
   public void onRequestFilled(AdColonyInterstitial adColonyInterstitial) {
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
     AdColonyInterstitialRenderer.this.adColonyInterstitial = adColonyInterstitial;
     mInterstitialAdCallback = mAdLoadCallback.onSuccess(AdColonyInterstitialRenderer.this);
+    loadTrace.finish();
   }
 
   @Override
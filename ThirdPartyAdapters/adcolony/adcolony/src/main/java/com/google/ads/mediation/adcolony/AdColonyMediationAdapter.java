@@ -190,7 +190,7 @@ public class AdColonyMediationAdapter extends RtbAdapter {
 
       // We need to include zone IDs from non-rewarded ads to configure the
       // AdColony SDK and avoid issues with Interstitial Ads.
-      ArrayList<String> zoneIDs = AdColonyManager.getInstance()
+      List<String> zoneIDs = AdColonyManager.getInstance()
           .parseZoneList(serverParameters);
       if (zoneIDs != null && zoneIDs.size() > 0) {
         zoneList.addAll(zoneIDs);
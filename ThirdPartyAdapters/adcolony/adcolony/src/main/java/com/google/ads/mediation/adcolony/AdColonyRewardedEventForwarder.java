@@ -1,7 +1,6 @@
 package com.google.ads.mediation.adcolony;
 
 import androidx.annotation.NonNull;
-import androidx.annotation.Nullable;
 
 import com.adcolony.sdk.AdColonyInterstitial;
 import com.adcolony.sdk.AdColonyInterstitialListener;
@@ -9,106 +8,199 @@ import com.adcolony.sdk.AdColonyReward;
 import com.adcolony.sdk.AdColonyRewardListener;
 import com.adcolony.sdk.AdColonyZone;
 import java.lang.ref.WeakReference;
-import java.util.HashMap;
-
-public class AdColonyRewardedEventForwarder extends AdColonyInterstitialListener
-    implements AdColonyRewardListener {
-
-  private static AdColonyRewardedEventForwarder instance = null;
-
-  private static HashMap<String, WeakReference<AdColonyRewardedRenderer>> mListeners;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Forwards AdColony rewarded events to the {@link AdColonyRewardedRenderer} that requested the
+ * {@link AdColonyInterstitial} that triggered them. Several rewarded ads may be requested and held
+ * for the same zone at once.
+ *
+ * <p>Each request is made with its own {@link RequestListener}, so fills, no-fills and ad events
+ * reach the renderer that made the request, even when requests for a zone complete out of order.
+ *
+ * <p>Reward callbacks only carry a zone ID. AdColony shows one full-screen ad at a time, so a
+ * reward is routed to the ad of its zone that was most recently opened, and at most one reward is
+ * delivered per opened ad.
+ */
+public class AdColonyRewardedEventForwarder implements AdColonyRewardListener {
+
+  private static volatile AdColonyRewardedEventForwarder instance = null;
+
+  // The renderer whose ad was most recently opened for each zone, until its reward is delivered.
+  // Not cleared on close, since AdColony may deliver the reward callback after the ad is closed.
+  private final ConcurrentHashMap<String, WeakReference<AdColonyRewardedRenderer>>
+      showingListeners = new ConcurrentHashMap<>();
+
+  // Number of requests currently in flight per zone and the highest value observed.
+  private final ConcurrentHashMap<String, AtomicInteger> concurrentLoads =
+      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, AtomicInteger> peakConcurrentLoads =
+      new ConcurrentHashMap<>();
 
   public static AdColonyRewardedEventForwarder getInstance() {
     if (instance == null) {
-      instance = new AdColonyRewardedEventForwarder();
+      synchronized (AdColonyRewardedEventForwarder.class) {
+        if (instance == null) {
+          instance = new AdColonyRewardedEventForwarder();
+        }
+      }
     }
     return instance;
   }
 
   private AdColonyRewardedEventForwarder() {
-    mListeners = new HashMap<>();
   }
 
-  void addListener(@NonNull String zoneID, @NonNull AdColonyRewardedRenderer listener) {
-    WeakReference<AdColonyRewardedRenderer> weakListener = new WeakReference<>(listener);
-    mListeners.put(zoneID, weakListener);
-  }
-
-  private void removeListener(@NonNull String zoneID) {
-    mListeners.remove(zoneID);
+  /**
+   * Registers a renderer that is about to request an ad for the given zone.
+   *
+   * @return the listener to pass to {@code AdColony.requestInterstitial()} for the request.
+   */
+  @NonNull
+  AdColonyInterstitialListener addListener(@NonNull String zoneID,
+      @NonNull AdColonyRewardedRenderer listener) {
+    int loads = getCounter(concurrentLoads, zoneID).incrementAndGet();
+    AtomicInteger peak = getCounter(peakConcurrentLoads, zoneID);
+    int currentPeak = peak.get();
+    while (loads > currentPeak && !peak.compareAndSet(currentPeak, loads)) {
+      currentPeak = peak.get();
+    }
+    return new RequestListener(zoneID, listener);
   }
 
-  @Nullable
-  private AdColonyRewardedRenderer getListener(@NonNull String zoneID) {
-    WeakReference<AdColonyRewardedRenderer> reference = mListeners.get(zoneID);
-    return reference != null ? reference.get() : null;
+  /**
+   * Returns the number of rewarded requests currently in flight for the given zone.
+   */
+  public int getConcurrentLoadCount(@NonNull String zoneID) {
+    AtomicInteger counter = concurrentLoads.get(zoneID);
+    return counter != null ? counter.get() : 0;
   }
 
-  boolean isListenerAvailable(@NonNull String zoneID) {
-    return getListener(zoneID) != null;
+  /**
+   * Returns the highest number of rewarded requests that were in flight at once for the given
+   * zone.
+   */
+  public int getPeakConcurrentLoadCount(@NonNull String zoneID) {
+    AtomicInteger counter = peakConcurrentLoads.get(zoneID);
+    return counter != null ? counter.get() : 0;
   }
 
-  //region AdColonyInterstitialListener implementation
-  @Override
-  public void onRequestFilled(AdColonyInterstitial adColonyInterstitial) {
-    AdColonyRewardedRenderer listener = getListener(adColonyInterstitial.getZoneID());
-    if (listener != null) listener.onRequestFilled(adColonyInterstitial);
+  @NonNull
+  private static AtomicInteger getCounter(
+      @NonNull ConcurrentHashMap<String, AtomicInteger> counters, @NonNull String zoneID) {
+    AtomicInteger counter = counters.get(zoneID);
+    if (counter == null) {
+      AtomicInteger newCounter = new AtomicInteger();
+      counter = counters.putIfAbsent(zoneID, newCounter);
+      if (counter == null) {
+        counter = newCounter;
+      }
+    }
+    return counter;
   }
 
-  @Override
-  public void onRequestNotFilled(AdColonyZone zone) {
-    AdColonyRewardedRenderer listener = getListener(zone.getZoneID());
-    if (listener != null) {
-      listener.onRequestNotFilled(zone);
-      removeListener(zone.getZoneID());
+  private void onRequestCompleted(@NonNull String zoneID) {
+    AtomicInteger loads = concurrentLoads.get(zoneID);
+    if (loads != null) {
+      loads.decrementAndGet();
     }
   }
 
+  //region AdColonyRewardListener implementation
   @Override
-  public void onExpiring(AdColonyInterstitial ad) {
-    AdColonyRewardedRenderer listener = getListener(ad.getZoneID());
-    if (listener != null) listener.onExpiring(ad);
+  public void onReward(AdColonyReward adColonyReward) {
+    WeakReference<AdColonyRewardedRenderer> reference =
+        showingListeners.remove(adColonyReward.getZoneID());
+    AdColonyRewardedRenderer listener = reference != null ? reference.get() : null;
+    if (listener != null) listener.onReward(adColonyReward);
   }
+  //endregion
 
-  @Override
-  public void onClicked(AdColonyInterstitial ad) {
-    AdColonyRewardedRenderer listener = getListener(ad.getZoneID());
-    if (listener != null) listener.onClicked(ad);
-  }
+  /**
+   * Listener of a single rewarded request, and of the ad it is filled with.
+   */
+  private final class RequestListener extends AdColonyInterstitialListener {
 
-  @Override
-  public void onOpened(AdColonyInterstitial ad) {
-    AdColonyRewardedRenderer listener = getListener(ad.getZoneID());
-    if (listener != null) listener.onOpened(ad);
-  }
+    private final String zoneID;
+    private final WeakReference<AdColonyRewardedRenderer> rendererReference;
+    private boolean isCompleted;
 
-  @Override
-  public void onLeftApplication(AdColonyInterstitial ad) {
-    AdColonyRewardedRenderer listener = getListener(ad.getZoneID());
-    if (listener != null) listener.onLeftApplication(ad);
-  }
+    private RequestListener(@NonNull String zoneID, @NonNull AdColonyRewardedRenderer renderer) {
+      this.zoneID = zoneID;
+      this.rendererReference = new WeakReference<>(renderer);
+    }
 
-  @Override
-  public void onClosed(AdColonyInterstitial ad) {
-    AdColonyRewardedRenderer listener = getListener(ad.getZoneID());
-    if (listener != null) {
-      listener.onClosed(ad);
-      removeListener(ad.getZoneID());
+    /**
+     * Counts the request as no longer in flight, the first time it is filled or not filled.
+     */
+    private void complete() {
+      synchronized (this) {
+        if (isCompleted) {
+          return;
+        }
+        isCompleted = true;
+      }
+      onRequestCompleted(zoneID);
     }
-  }
 
-  @Override
-  public void onIAPEvent(AdColonyInterstitial ad, String productId, int engagementType) {
-    AdColonyRewardedRenderer listener = getListener(ad.getZoneID());
-    if (listener != null) listener.onIAPEvent(ad, productId, engagementType);
-  }
-  //endregion
+    @Override
+    public void onRequestFilled(AdColonyInterstitial adColonyInterstitial) {
+      complete();
+      AdColonyRewardedRenderer listener = rendererReference.get();
+      if (listener != null) {
+        listener.onRequestFilled(adColonyInterstitial);
+      }
+    }
 
-  //region AdColonyRewardListener implementation
-  @Override
-  public void onReward(AdColonyReward adColonyReward) {
-    AdColonyRewardedRenderer listener = getListener(adColonyReward.getZoneID());
-    if (listener != null) listener.onReward(adColonyReward);
+    @Override
+    public void onRequestNotFilled(AdColonyZone zone) {
+      complete();
+      AdColonyRewardedRenderer listener = rendererReference.get();
+      if (listener != null) {
+        listener.onRequestNotFilled(zone);
+      }
+    }
+
+    @Override
+    public void onExpiring(AdColonyInterstitial ad) {
+      AdColonyRewardedRenderer listener = rendererReference.get();
+      if (listener != null) {
+        listener.onExpiring(ad);
+      }
+    }
+
+    @Override
+    public void onClicked(AdColonyInterstitial ad) {
+      AdColonyRewardedRenderer listener = rendererReference.get();
+      if (listener != null) listener.onClicked(ad);
+    }
+
+    @Override
+    public void onOpened(AdColonyInterstitial ad) {
+      AdColonyRewardedRenderer listener = rendererReference.get();
+      if (listener != null) {
+        showingListeners.put(ad.getZoneID(), rendererReference);
+        listener.onOpened(ad);
+      }
+    }
+
+    @Override
+    public void onLeftApplication(AdColonyInterstitial ad) {
+      AdColonyRewardedRenderer listener = rendererReference.get();
+      if (listener != null) listener.onLeftApplication(ad);
+    }
+
+    @Override
+    public void onClosed(AdColonyInterstitial ad) {
+      AdColonyRewardedRenderer listener = rendererReference.get();
+      if (listener != null) listener.onClosed(ad);
+    }
+
+    @Override
+    public void onIAPEvent(AdColonyInterstitial ad, String productId, int engagementType) {
+      AdColonyRewardedRenderer listener = rendererReference.get();
+      if (listener != null) listener.onIAPEvent(ad, productId, engagementType);
+    }
   }
-  //endregion
 }
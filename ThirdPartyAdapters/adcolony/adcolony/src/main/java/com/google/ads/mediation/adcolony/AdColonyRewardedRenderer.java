@@ -1,6 +1,5 @@
 package com.google.ads.mediation.adcolony;
 
-import static com.google.ads.mediation.adcolony.AdColonyMediationAdapter.ERROR_AD_ALREADY_REQUESTED;
 import static com.google.ads.mediation.adcolony.AdColonyMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
 import static com.google.ads.mediation.adcolony.AdColonyMediationAdapter.ERROR_PRESENTATION_AD_NOT_LOADED;
 import static com.google.ads.mediation.adcolony.AdColonyMediationAdapter.TAG;
@@ -16,6 +15,7 @@ import androidx.annotation.NonNull;
 import com.adcolony.sdk.AdColony;
 import com.adcolony.sdk.AdColonyAdOptions;
 import com.adcolony.sdk.AdColonyInterstitial;
+import com.adcolony.sdk.AdColonyInterstitialListener;
 import com.adcolony.sdk.AdColonyZone;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
@@ -24,7 +24,7 @@ import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration;
 import com.jirbo.adcolony.AdColonyManager;
 import com.jirbo.adcolony.AdColonyManager.InitializationListener;
-import java.util.ArrayList;
+import java.util.List;
 
 public class AdColonyRewardedRenderer implements MediationRewardedAd {
 
@@ -32,6 +32,8 @@ public class AdColonyRewardedRenderer implements MediationRewardedAd {
   private final MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback> mAdLoadCallback;
   private final MediationRewardedAdConfiguration adConfiguration;
   private AdColonyInterstitial mAdColonyInterstitial;
+  private final LoadLatencyMetrics.LoadTrace mLoadTrace =
+      LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_REWARDED);
 
   public AdColonyRewardedRenderer(
           @NonNull MediationRewardedAdConfiguration adConfiguration,
@@ -42,27 +44,19 @@ public class AdColonyRewardedRenderer implements MediationRewardedAd {
   }
 
   public void render() {
-    ArrayList<String> listFromServerParams =
+    List<String> listFromServerParams =
         AdColonyManager.getInstance().parseZoneList(adConfiguration.getServerParameters());
     final String requestedZone = AdColonyManager
         .getInstance()
         .getZoneFromRequest(listFromServerParams, adConfiguration.getMediationExtras());
 
-    if (AdColonyRewardedEventForwarder.getInstance().isListenerAvailable(requestedZone)
-            && adConfiguration.getBidResponse().isEmpty()) {
-      AdError error = createAdapterError(ERROR_AD_ALREADY_REQUESTED,
-              "Failed to load ad from AdColony: Only a maximum of one ad can be loaded per Zone ID.");
-      Log.e(TAG, error.getMessage());
-      mAdLoadCallback.onFailure(error);
-      return;
-    }
-
     // Either configures the AdColony SDK if it has not yet been initialized, or short circuits to
     // the initialization success call if not needed to lead directly to the ad request.
     AdColonyManager.getInstance().configureAdColony(adConfiguration,
         new InitializationListener() {
           @Override
           public void onInitializeSuccess() {
+            mLoadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
             // Cannot request an ad without a valid zone.
             if (TextUtils.isEmpty(requestedZone)) {
               AdError error = createAdapterError(ERROR_INVALID_SERVER_PARAMETERS,
@@ -71,14 +65,18 @@ public class AdColonyRewardedRenderer implements MediationRewardedAd {
               mAdLoadCallback.onFailure(error);
               return;
             }
-            AdColonyAdOptions adOptions =
+            final AdColonyAdOptions adOptions =
                 AdColonyManager.getInstance().getAdOptionsFromAdConfig(adConfiguration);
             AdColony.setRewardListener(AdColonyRewardedEventForwarder.getInstance());
-            AdColonyRewardedEventForwarder.getInstance()
-                .addListener(requestedZone, AdColonyRewardedRenderer.this);
-            AdColony
-                .requestInterstitial(requestedZone, AdColonyRewardedEventForwarder.getInstance(),
-                    adOptions);
+            final AdColonyInterstitialListener requestListener = AdColonyRewardedEventForwarder
+                .getInstance().addListener(requestedZone, AdColonyRewardedRenderer.this);
+            MainThreadWatchdog.run("AdColonyRewardedRenderer.render", new Runnable() {
+              @Override
+              public void run() {
+                AdColony.requestInterstitial(requestedZone, requestListener, adOptions);
+              }
+            });
+            mLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
           }
 
           @Override
@@ -91,8 +89,10 @@ public class AdColonyRewardedRenderer implements MediationRewardedAd {
 
   //region AdColony Rewarded Events
   void onRequestFilled(AdColonyInterstitial adColonyInterstitial) {
+    mLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
     mAdColonyInterstitial = adColonyInterstitial;
     mRewardedAdCallback = mAdLoadCallback.onSuccess(AdColonyRewardedRenderer.this);
+    mLoadTrace.finish();
   }
 
   void onRequestNotFilled(AdColonyZone zone) {
@@ -104,7 +104,9 @@ public class AdColonyRewardedRenderer implements MediationRewardedAd {
   void onExpiring(AdColonyInterstitial ad) {
     // No relevant ad event can be forwarded to the Google Mobile Ads SDK.
     mAdColonyInterstitial = null;
-    AdColony.requestInterstitial(ad.getZoneID(), AdColonyRewardedEventForwarder.getInstance());
+    AdColonyInterstitialListener requestListener =
+        AdColonyRewardedEventForwarder.getInstance().addListener(ad.getZoneID(), this);
+    AdColony.requestInterstitial(ad.getZoneID(), requestListener);
   }
 
   void onClicked(AdColonyInterstitial ad) {
@@ -162,6 +164,11 @@ public class AdColonyRewardedRenderer implements MediationRewardedAd {
       AdColony.setRewardListener(AdColonyRewardedEventForwarder.getInstance());
     }
 
-    mAdColonyInterstitial.show();
+    MainThreadWatchdog.run("AdColonyRewardedRenderer.showAd", new Runnable() {
+      @Override
+      public void run() {
+        mAdColonyInterstitial.show();
+      }
+    });
   }
 }
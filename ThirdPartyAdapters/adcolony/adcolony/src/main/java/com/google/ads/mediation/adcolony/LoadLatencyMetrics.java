@@ -0,0 +1,140 @@
+package com.google.ads.mediation.adcolony;
+
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Opt-in instrumentation of the time between the Google Mobile Ads SDK calling the AdColony
+ * adapter to load an ad and the adapter reporting the loaded ad back. Each load is split into
+ * phases:
+ *
+ * <ol>
+ *   <li>{@link Phase#INIT_WAIT}: waiting for {@code AdColonyManager} to configure the SDK.
+ *   <li>{@link Phase#SDK_REQUEST}: time spent inside {@code AdColony.requestInterstitial} or
+ *       {@code AdColony.requestAdView}.
+ *   <li>{@link Phase#SDK_CALLBACK}: waiting for the AdColony SDK to report a filled request.
+ *   <li>{@link Phase#DISPATCH}: mapping the ad and delivering it to the Google Mobile Ads SDK.
+ * </ol>
+ *
+ * <p>Instrumentation is off, and loads are not timed at all, until a {@link Listener} is set with
+ * {@link #setListener(Listener)}. The listener receives the phase timings of every completed load;
+ * aggregating them, e.g. into histograms for a dashboard, is left to the app.
+ */
+public final class LoadLatencyMetrics {
+
+  /**
+   * Ad formats that loads are grouped by.
+   */
+  public static final String FORMAT_BANNER = "banner";
+  public static final String FORMAT_INTERSTITIAL = "interstitial";
+  public static final String FORMAT_REWARDED = "rewarded";
+
+  /**
+   * The phases of an ad load, in the order they happen.
+   */
+  public enum Phase {
+    INIT_WAIT,
+    SDK_REQUEST,
+    SDK_CALLBACK,
+    DISPATCH
+  }
+
+  private static final int PHASE_COUNT = Phase.values().length;
+
+  @Nullable
+  private static volatile Listener listener;
+
+  private LoadLatencyMetrics() {
+  }
+
+  /**
+   * Sets the listener that receives the phase timings of every completed load, or disables
+   * instrumentation if {@code null}.
+   */
+  public static void setListener(@Nullable Listener listener) {
+    LoadLatencyMetrics.listener = listener;
+  }
+
+  /**
+   * Starts timing a load of the given format. Returns a no-op trace if instrumentation is
+   * disabled.
+   */
+  @NonNull
+  static LoadTrace startLoad(@NonNull String format) {
+    return listener != null ? new LoadTrace(format) : LoadTrace.DISABLED;
+  }
+
+  /**
+   * Receives the phase timings of completed loads. Called on the thread that delivered the ad to
+   * the Google Mobile Ads SDK.
+   */
+  public interface Listener {
+
+    /**
+     * @param phaseDurationsMillis how long each phase took, in milliseconds, indexed by {@link
+     *     Phase#ordinal()}. Phases that were not marked took no time.
+     */
+    void onLoadCompleted(@NonNull String format, @NonNull long[] phaseDurationsMillis);
+  }
+
+  /**
+   * Timestamps of a single ad load. Phases may be marked from the thread that requested the ad and
+   * from the ad network SDK's callback thread, so the timestamps are guarded by the trace's lock.
+   */
+  public static final class LoadTrace {
+
+    private static final LoadTrace DISABLED = new LoadTrace(null);
+
+    private final String format;
+    private final long startTimeMillis;
+    private final long[] phaseEndTimeMillis = new long[PHASE_COUNT];
+
+    private LoadTrace(@Nullable String format) {
+      this.format = format;
+      this.startTimeMillis = format != null ? SystemClock.elapsedRealtime() : 0;
+    }
+
+    /**
+     * Marks the end of the given phase, and of any earlier phase that was not marked.
+     */
+    void mark(@NonNull Phase phase) {
+      if (this == DISABLED) {
+        return;
+      }
+      long now = SystemClock.elapsedRealtime();
+      synchronized (this) {
+        for (int i = 0; i <= phase.ordinal(); i++) {
+          if (phaseEndTimeMillis[i] == 0) {
+            phaseEndTimeMillis[i] = now;
+          }
+        }
+      }
+    }
+
+    /**
+     * Marks the ad as delivered to the Google Mobile Ads SDK and reports the load. Only the first
+     * call reports the load, so that ads that are loaded again after expiring are not counted
+     * twice.
+     */
+    void finish() {
+      Listener currentListener = listener;
+      if (this == DISABLED || currentListener == null) {
+        return;
+      }
+      long[] phaseDurationsMillis = new long[PHASE_COUNT];
+      synchronized (this) {
+        if (phaseEndTimeMillis[PHASE_COUNT - 1] != 0) {
+          return;
+        }
+        mark(Phase.DISPATCH);
+        long phaseStart = startTimeMillis;
+        for (int i = 0; i < PHASE_COUNT; i++) {
+          phaseDurationsMillis[i] = Math.max(0, phaseEndTimeMillis[i] - phaseStart);
+          phaseStart = phaseEndTimeMillis[i];
+        }
+      }
+      currentListener.onLoadCompleted(format, phaseDurationsMillis);
+    }
+  }
+}
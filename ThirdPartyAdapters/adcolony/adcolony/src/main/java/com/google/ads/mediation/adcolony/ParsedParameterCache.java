@@ -0,0 +1,87 @@
+package com.google.ads.mediation.adcolony;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of AdColony server parameters that were already parsed and validated, keyed
+ * by the raw parameter value. Repeated requests for the same ad unit reuse the parsed result
+ * instead of parsing it again.
+ *
+ * <p>Since entries are keyed by content, a change to the mediation configuration simply results in
+ * new keys, and the entries of the old configuration are evicted once they are the least recently
+ * used. {@link #clear()} drops all entries at once.
+ *
+ * @param <V> the parsed value type, which must be immutable.
+ */
+public final class ParsedParameterCache<V> {
+
+  /**
+   * Default number of parsed values kept. Apps use a handful of ad units per network.
+   */
+  public static final int DEFAULT_MAX_ENTRIES = 32;
+
+  private final LinkedHashMap<String, V> entries;
+  private long hitCount;
+  private long missCount;
+
+  @RestrictTo(Scope.LIBRARY)
+  public ParsedParameterCache(final int maxEntries) {
+    entries = new LinkedHashMap<String, V>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  /**
+   * Returns the parsed value of the given raw parameter, or {@code null} if it is not cached.
+   */
+  @Nullable
+  @RestrictTo(Scope.LIBRARY)
+  public synchronized V get(@NonNull String rawValue) {
+    V value = entries.get(rawValue);
+    if (value != null) {
+      hitCount++;
+    } else {
+      missCount++;
+    }
+    return value;
+  }
+
+  /**
+   * Caches the parsed value of the given raw parameter.
+   */
+  @RestrictTo(Scope.LIBRARY)
+  public synchronized void put(@NonNull String rawValue, @NonNull V value) {
+    entries.put(rawValue, value);
+  }
+
+  /**
+   * Drops all cached values, e.g. after the mediation configuration changed.
+   */
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Returns the fraction of lookups, between 0 and 1, that found a cached value.
+   */
+  public synchronized float getHitRate() {
+    long lookups = hitCount + missCount;
+    return lookups == 0 ? 0 : (float) hitCount / lookups;
+  }
+}
@@ -14,6 +14,7 @@ import com.adcolony.sdk.AdColonyAdView;
 import com.adcolony.sdk.AdColonyInterstitial;
 import com.google.ads.mediation.adcolony.AdColonyAdapterUtils;
 import com.google.ads.mediation.adcolony.AdColonyMediationAdapter;
+import com.google.ads.mediation.adcolony.MainThreadWatchdog;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.mediation.MediationAdRequest;
@@ -22,7 +23,7 @@ import com.google.android.gms.ads.mediation.MediationBannerListener;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdapter;
 import com.google.android.gms.ads.mediation.MediationInterstitialListener;
 import com.jirbo.adcolony.AdColonyManager.InitializationListener;
-import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -83,7 +84,7 @@ public class AdColonyAdapter extends AdColonyMediationAdapter
       @Nullable Bundle mediationExtras
   ) {
 
-    ArrayList<String> zoneList = AdColonyManager.getInstance().parseZoneList(serverParams);
+    List<String> zoneList = AdColonyManager.getInstance().parseZoneList(serverParams);
     final String requestedZone = AdColonyManager.getInstance()
         .getZoneFromRequest(zoneList, mediationExtras);
     if (TextUtils.isEmpty(requestedZone)) {
@@ -101,7 +102,12 @@ public class AdColonyAdapter extends AdColonyMediationAdapter
         new InitializationListener() {
           @Override
           public void onInitializeSuccess() {
-            AdColony.requestInterstitial(requestedZone, adColonyInterstitialListener);
+            MainThreadWatchdog.run("AdColonyAdapter.requestInterstitialAd", new Runnable() {
+              @Override
+              public void run() {
+                AdColony.requestInterstitial(requestedZone, adColonyInterstitialListener);
+              }
+            });
           }
 
           @Override
@@ -121,7 +127,12 @@ public class AdColonyAdapter extends AdColonyMediationAdapter
   //region Shared private methods.
   private void showAdColonyInterstitial() {
     if (adColonyInterstitial != null) {
-      adColonyInterstitial.show();
+      MainThreadWatchdog.run("AdColonyAdapter.showInterstitial", new Runnable() {
+        @Override
+        public void run() {
+          adColonyInterstitial.show();
+        }
+      });
     }
   }
 
@@ -150,7 +161,7 @@ public class AdColonyAdapter extends AdColonyMediationAdapter
       return;
     }
 
-    ArrayList<String> zoneList =
+    List<String> zoneList =
         AdColonyManager.getInstance().parseZoneList(serverParams);
     final String requestedZone =
         AdColonyManager.getInstance().getZoneFromRequest(zoneList, mediationExtras);
@@ -177,7 +188,12 @@ public class AdColonyAdapter extends AdColonyMediationAdapter
                 adColonyAdSize.getHeight()
             );
             Log.d(TAG, logMessage);
-            AdColony.requestAdView(requestedZone, adColonyBannerAdListener, adColonyAdSize);
+            MainThreadWatchdog.run("AdColonyAdapter.requestBannerAd", new Runnable() {
+              @Override
+              public void run() {
+                AdColony.requestAdView(requestedZone, adColonyBannerAdListener, adColonyAdSize);
+              }
+            });
           }
 
           @Override
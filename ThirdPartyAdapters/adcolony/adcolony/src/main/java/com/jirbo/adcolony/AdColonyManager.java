@@ -12,11 +12,14 @@ import android.content.Context;
 import android.os.Bundle;
 import android.text.TextUtils;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import com.adcolony.sdk.AdColony;
 import com.adcolony.sdk.AdColonyAdOptions;
 import com.adcolony.sdk.AdColonyAppOptions;
 import com.google.ads.mediation.adcolony.AdColonyAdapterUtils;
 import com.google.ads.mediation.adcolony.AdColonyMediationAdapter;
+import com.google.ads.mediation.adcolony.MainThreadWatchdog;
+import com.google.ads.mediation.adcolony.ParsedParameterCache;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdConfiguration;
 import com.google.android.gms.ads.mediation.MediationAdRequest;
@@ -24,6 +27,8 @@ import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * A helper class used by the {@link AdColonyAdapter}.
@@ -33,6 +38,8 @@ public class AdColonyManager {
   private static AdColonyManager instance = null;
   private final ArrayList<String> configuredZones = new ArrayList<>();
   private boolean isConfigured = false;
+  private final ParsedParameterCache<List<String>> zoneListCache =
+      new ParsedParameterCache<>(ParsedParameterCache.DEFAULT_MAX_ENTRIES);
 
   public static AdColonyManager getInstance() {
     if (instance == null) {
@@ -42,10 +49,10 @@ public class AdColonyManager {
   }
 
   public void configureAdColony(
-          @NonNull Context context,
-          @NonNull AdColonyAppOptions options,
-          @NonNull String appID,
-          @NonNull ArrayList<String> zones,
+          @NonNull final Context context,
+          @NonNull final AdColonyAppOptions options,
+          @NonNull final String appID,
+          @NonNull List<String> zones,
           @NonNull InitializationListener listener
   ) {
     if (!(context instanceof Activity || context instanceof Application)) {
@@ -78,18 +85,23 @@ public class AdColonyManager {
       }
     }
 
-    if (isConfigured) {
-      AdColony.setAppOptions(options);
-    } else {
-      // We are requesting zones that we haven't configured with yet.
-      String[] zoneArray = configuredZones.toArray(new String[0]);
-
-      // Always set mediation network info.
-      options.setMediationNetwork(AdColonyAppOptions.ADMOB, BuildConfig.ADAPTER_VERSION);
-      isConfigured = context instanceof Activity
-          ? AdColony.configure((Activity) context, options, appID, zoneArray)
-          : AdColony.configure((Application) context, options, appID, zoneArray);
-    }
+    MainThreadWatchdog.run("AdColonyManager.configureAdColony", new Runnable() {
+      @Override
+      public void run() {
+        if (isConfigured) {
+          AdColony.setAppOptions(options);
+        } else {
+          // We are requesting zones that we haven't configured with yet.
+          String[] zoneArray = configuredZones.toArray(new String[0]);
+
+          // Always set mediation network info.
+          options.setMediationNetwork(AdColonyAppOptions.ADMOB, BuildConfig.ADAPTER_VERSION);
+          isConfigured = context instanceof Activity
+              ? AdColony.configure((Activity) context, options, appID, zoneArray)
+              : AdColony.configure((Application) context, options, appID, zoneArray);
+        }
+      }
+    });
 
     if (!isConfigured) {
       AdError error = createAdapterError(ERROR_ADCOLONY_NOT_INITIALIZED,
@@ -107,7 +119,7 @@ public class AdColonyManager {
           @NonNull InitializationListener listener
   ) {
     String appId = serverParams.getString(AdColonyAdapterUtils.KEY_APP_ID);
-    ArrayList<String> newZoneList = parseZoneList(serverParams);
+    List<String> newZoneList = parseZoneList(serverParams);
     AdColonyAppOptions appOptions = buildAppOptions(adRequest);
     configureAdColony(context, appOptions, appId, newZoneList, listener);
   }
@@ -119,7 +131,7 @@ public class AdColonyManager {
     Context context = adConfiguration.getContext();
     Bundle serverParams = adConfiguration.getServerParameters();
     String appId = serverParams.getString(AdColonyAdapterUtils.KEY_APP_ID);
-    ArrayList<String> newZoneList = parseZoneList(serverParams);
+    List<String> newZoneList = parseZoneList(serverParams);
     AdColonyAppOptions appOptions = buildAppOptions(adConfiguration);
     configureAdColony(context, appOptions, appId, newZoneList, listener);
   }
@@ -156,8 +168,13 @@ public class AdColonyManager {
     return options;
   }
 
-  public ArrayList<String> parseZoneList(Bundle serverParams) {
-    ArrayList<String> newZoneList = null;
+  /**
+   * Returns the zone IDs in the given server parameters, or {@code null} if there are none. The
+   * returned list is shared between requests with the same parameters, and cannot be modified.
+   */
+  @Nullable
+  public List<String> parseZoneList(@Nullable Bundle serverParams) {
+    List<String> newZoneList = null;
     if (serverParams != null) {
       String requestedZones = null;
       if (serverParams.getString(AdColonyAdapterUtils.KEY_ZONE_IDS) != null) {
@@ -166,13 +183,26 @@ public class AdColonyManager {
         requestedZones = serverParams.getString(AdColonyAdapterUtils.KEY_ZONE_ID);
       }
       if (requestedZones != null) {
-        newZoneList = new ArrayList<>(Arrays.asList(requestedZones.split(";")));
+        List<String> zones = zoneListCache.get(requestedZones);
+        if (zones == null) {
+          zones = Collections.unmodifiableList(Arrays.asList(requestedZones.split(";")));
+          zoneListCache.put(requestedZones, zones);
+        }
+        newZoneList = zones;
       }
     }
     return newZoneList;
   }
 
-  public String getZoneFromRequest(ArrayList<String> serverListOfZones, Bundle adRequestParams) {
+  /**
+   * Returns the cache of parsed zone ID lists, e.g. to read its hit rate.
+   */
+  @NonNull
+  public ParsedParameterCache<List<String>> getZoneListCache() {
+    return zoneListCache;
+  }
+
+  public String getZoneFromRequest(List<String> serverListOfZones, Bundle adRequestParams) {
     String requestedZone = null;
     if (serverListOfZones != null && !serverListOfZones.isEmpty()) {
       requestedZone = serverListOfZones.get(0);
@@ -0,0 +1,75 @@
+package com.applovin.mediation;
+
+import android.content.Context;
+import android.util.LongSparseArray;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.gms.ads.AdSize;
+import com.google.android.gms.ads.MediationUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Resolves requested banner sizes to the closest size supported by the ad network, caching the
+ * result of {@link MediationUtils#findClosestSize(Context, AdSize, java.util.List)} per requested
+ * size and screen density. The cache is keyed by the requested size resolved to pixels, which also
+ * accounts for orientation changes of full-width and adaptive sizes. Lookups for cached sizes do
+ * not allocate.
+ */
+final class AdSizeResolver {
+
+  /**
+   * Maximum number of cached sizes. Apps request a handful of sizes, so the cache is simply
+   * cleared when it fills up.
+   */
+  private static final int MAX_CACHED_SIZES = 32;
+
+  /**
+   * Cached value for requested sizes that have no supported match.
+   */
+  private static final int NO_MATCH = -1;
+
+  private final ArrayList<AdSize> supportedSizes;
+  private final LongSparseArray<Integer> cachedIndices = new LongSparseArray<>();
+
+  /**
+   * @param supportedSizes The ad network's supported sizes, in order of preference.
+   */
+  AdSizeResolver(@NonNull AdSize... supportedSizes) {
+    this.supportedSizes = new ArrayList<>(Arrays.asList(supportedSizes));
+  }
+
+  /**
+   * Returns the supported size closest to the requested size, or {@code null} if none fits.
+   */
+  @Nullable
+  AdSize resolve(@NonNull Context context, @NonNull AdSize requestedSize) {
+    int widthPixels = requestedSize.getWidthInPixels(context);
+    int heightPixels = requestedSize.getHeightInPixels(context);
+    int densityDpi = context.getResources().getDisplayMetrics().densityDpi;
+    long key = ((long) (widthPixels & 0xFFFFF) << 40)
+        | ((long) (heightPixels & 0xFFFFF) << 20)
+        | (densityDpi & 0xFFFFF);
+
+    synchronized (cachedIndices) {
+      Integer cachedIndex = cachedIndices.get(key);
+      if (cachedIndex != null) {
+        return cachedIndex == NO_MATCH ? null : supportedSizes.get(cachedIndex);
+      }
+    }
+
+    AdSize closestSize = MediationUtils.findClosestSize(context, requestedSize, supportedSizes);
+    int index = closestSize == null ? NO_MATCH : supportedSizes.indexOf(closestSize);
+    if (closestSize != null && index == NO_MATCH) {
+      // Not one of the supported sizes, so it cannot be cached by index.
+      return closestSize;
+    }
+    synchronized (cachedIndices) {
+      if (cachedIndices.size() >= MAX_CACHED_SIZES) {
+        cachedIndices.clear();
+      }
+      cachedIndices.put(key, index);
+    }
+    return closestSize;
+  }
+}
@@ -14,8 +14,6 @@ import com.applovin.sdk.AppLovinSdk;
 import com.google.ads.mediation.applovin.AppLovinMediationAdapter;
 import com.google.android.gms.ads.AdRequest;
 import com.google.android.gms.ads.AdSize;
-import com.google.android.gms.ads.MediationUtils;
-import java.util.ArrayList;
 
 /**
  * A helper class used by {@link ApplovinAdapter}.
@@ -24,6 +22,12 @@ public class AppLovinUtils {
 
   private static final String DEFAULT_ZONE = "";
 
+  /**
+   * Banner sizes supported by AppLovin.
+   */
+  private static final AdSizeResolver SUPPORTED_AD_SIZES =
+      new AdSizeResolver(AdSize.BANNER, AdSize.LEADERBOARD);
+
   /**
    * Keys for retrieving values from the server parameters.
    */
@@ -138,11 +142,7 @@ public class AppLovinUtils {
   @Nullable
   public static AppLovinAdSize appLovinAdSizeFromAdMobAdSize(@NonNull Context context,
       @NonNull AdSize adSize) {
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(AdSize.BANNER);
-    potentials.add(AdSize.LEADERBOARD);
-
-    AdSize closestSize = MediationUtils.findClosestSize(context, adSize, potentials);
+    AdSize closestSize = SUPPORTED_AD_SIZES.resolve(context, adSize);
     if (AdSize.BANNER.equals(closestSize)) {
       return AppLovinAdSize.BANNER;
     } else if (AdSize.LEADERBOARD.equals(closestSize)) {
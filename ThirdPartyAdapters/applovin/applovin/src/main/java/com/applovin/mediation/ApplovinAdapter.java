@@ -18,6 +18,7 @@ import com.applovin.sdk.AppLovinAdLoadListener;
 import com.applovin.sdk.AppLovinAdSize;
 import com.applovin.sdk.AppLovinSdk;
 import com.applovin.sdk.AppLovinSdkUtils;
+import com.google.ads.mediation.applovin.AdapterTrace;
 import com.google.ads.mediation.applovin.AppLovinInitializer;
 import com.google.ads.mediation.applovin.AppLovinInitializer.OnInitializeSuccessListener;
 import com.google.ads.mediation.applovin.AppLovinMediationAdapter;
@@ -106,7 +107,8 @@ public class ApplovinAdapter extends AppLovinMediationAdapter
             log(DEBUG, "Requesting interstitial for zone: " + mZoneId);
 
             // Create Ad Load listener.
-            final AppLovinAdLoadListener adLoadListener =
+            final AppLovinAdLoadListener adLoadListener = AdapterTrace.traceAdLoad(
+                "loadInterstitialAd",
                 new AppLovinAdLoadListener() {
                   @Override
                   public void adReceived(final AppLovinAd ad) {
@@ -139,7 +141,7 @@ public class ApplovinAdapter extends AppLovinMediationAdapter
                           }
                         });
                   }
-                };
+                });
 
             if (!TextUtils.isEmpty(mZoneId)) {
               mSdk.getAdService().loadNextAdForZoneId(mZoneId, adLoadListener);
@@ -232,10 +234,12 @@ public class ApplovinAdapter extends AppLovinMediationAdapter
             mAdView.setAdClickListener(listener);
             mAdView.setAdViewEventListener(listener);
 
+            AppLovinAdLoadListener loadListener =
+                AdapterTrace.traceAdLoad("loadBannerAd", listener);
             if (!TextUtils.isEmpty(mZoneId)) {
-              mSdk.getAdService().loadNextAdForZoneId(mZoneId, listener);
+              mSdk.getAdService().loadNextAdForZoneId(mZoneId, loadListener);
             } else {
-              mSdk.getAdService().loadNextAd(appLovinAdSize, listener);
+              mSdk.getAdService().loadNextAd(appLovinAdSize, loadListener);
             }
           }
         });
@@ -16,6 +16,7 @@ import com.applovin.sdk.AppLovinAdDisplayListener;
 import com.applovin.sdk.AppLovinAdLoadListener;
 import com.applovin.sdk.AppLovinAdSize;
 import com.applovin.sdk.AppLovinSdk;
+import com.google.ads.mediation.applovin.AdapterTrace;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationBannerAd;
@@ -76,7 +77,8 @@ public final class AppLovinRtbBannerRenderer
     adView.setAdViewEventListener(this);
 
     // Load ad!
-    sdk.getAdService().loadNextAdForAdToken(adConfiguration.getBidResponse(), this);
+    sdk.getAdService().loadNextAdForAdToken(adConfiguration.getBidResponse(),
+        AdapterTrace.traceAdLoad("loadRtbBannerAd", this));
   }
 
   @NonNull
@@ -11,6 +11,7 @@ import com.applovin.sdk.AppLovinAdDisplayListener;
 import com.applovin.sdk.AppLovinAdLoadListener;
 import com.applovin.sdk.AppLovinAdVideoPlaybackListener;
 import com.applovin.sdk.AppLovinSdk;
+import com.google.ads.mediation.applovin.AdapterTrace;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
@@ -65,7 +66,8 @@ public final class AppLovinRtbInterstitialRenderer
     interstitialAd.setAdVideoPlaybackListener(this);
 
     // Load ad!
-    sdk.getAdService().loadNextAdForAdToken(adConfiguration.getBidResponse(), this);
+    sdk.getAdService().loadNextAdForAdToken(adConfiguration.getBidResponse(),
+        AdapterTrace.traceAdLoad("loadRtbInterstitialAd", this));
   }
 
   @Override
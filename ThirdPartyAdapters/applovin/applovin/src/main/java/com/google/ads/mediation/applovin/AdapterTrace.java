@@ -0,0 +1,100 @@
+package com.google.ads.mediation.applovin;
+
+import android.os.Build;
+import android.os.Trace;
+import androidx.annotation.NonNull;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
+import com.applovin.mediation.BuildConfig;
+import com.applovin.sdk.AppLovinAd;
+import com.applovin.sdk.AppLovinAdLoadListener;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Emits {@link Trace} sections around the AppLovin adapter's hot paths so that they can be
+ * attributed in Perfetto and systrace captures. All methods compile to no-ops unless the adapter
+ * is built with the {@code enableAdapterTracing} Gradle property, e.g. {@code ./gradlew
+ * assembleRelease -PenableAdapterTracing}.
+ *
+ * <p>Public only so that the ad loaders in {@code com.applovin.mediation} can use it.
+ */
+@RestrictTo(Scope.LIBRARY)
+public final class AdapterTrace {
+
+  private static final String SECTION_PREFIX = "AppLovin:";
+
+  private static final AtomicInteger nextCookie = new AtomicInteger();
+
+  private AdapterTrace() {
+  }
+
+  /**
+   * Begins a section on the current thread. Must be ended with {@link #endSection()} on the same
+   * thread.
+   */
+  public static void beginSection(@NonNull String name) {
+    if (BuildConfig.ENABLE_TRACING && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+      Trace.beginSection(SECTION_PREFIX + name);
+    }
+  }
+
+  /**
+   * Ends the most recent section begun on the current thread.
+   */
+  public static void endSection() {
+    if (BuildConfig.ENABLE_TRACING && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+      Trace.endSection();
+    }
+  }
+
+  /**
+   * Begins an asynchronous slice, such as an ad request waiting for its callback, which may end on
+   * another thread.
+   *
+   * @return the cookie to pass to {@link #endAsyncSection(String, int)}.
+   */
+  public static int beginAsyncSection(@NonNull String name) {
+    if (BuildConfig.ENABLE_TRACING && Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+      int cookie = nextCookie.incrementAndGet();
+      Trace.beginAsyncSection(SECTION_PREFIX + name, cookie);
+      return cookie;
+    }
+    return 0;
+  }
+
+  /**
+   * Ends an asynchronous slice begun with {@link #beginAsyncSection(String)}.
+   */
+  public static void endAsyncSection(@NonNull String name, int cookie) {
+    if (BuildConfig.ENABLE_TRACING && Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+      Trace.endAsyncSection(SECTION_PREFIX + name, cookie);
+    }
+  }
+
+  /**
+   * Begins an asynchronous slice for an ad load, and returns a listener that ends it before
+   * passing the load's outcome on to the given listener. Returns the given listener itself when
+   * asynchronous slices are not traced.
+   */
+  @NonNull
+  public static AppLovinAdLoadListener traceAdLoad(@NonNull final String name,
+      @NonNull final AppLovinAdLoadListener listener) {
+    if (!BuildConfig.ENABLE_TRACING || Build.VERSION.SDK_INT < Build.VERSION_CODES.Q) {
+      return listener;
+    }
+    final int cookie = beginAsyncSection(name);
+    return new AppLovinAdLoadListener() {
+      @Override
+      public void adReceived(AppLovinAd ad) {
+        endAsyncSection(name, cookie);
+        listener.adReceived(ad);
+      }
+
+      @Override
+      public void failedToReceiveAd(int code) {
+        endAsyncSection(name, cookie);
+        listener.failedToReceiveAd(code);
+      }
+    };
+  }
+}
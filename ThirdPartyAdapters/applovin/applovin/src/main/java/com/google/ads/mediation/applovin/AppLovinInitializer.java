@@ -85,22 +85,29 @@ public class AppLovinInitializer {
         .getInstance(sdkKey, AppLovinMediationAdapter.getSdkSettings(), context);
     sdk.setPluginVersion(BuildConfig.ADAPTER_VERSION);
     sdk.setMediationProvider(AppLovinMediationProvider.ADMOB);
-    sdk.initializeSdk(new SdkInitializationListener() {
-      @Override
-      public void onSdkInitialized(AppLovinSdkConfiguration config) {
-        // AppLovin currently has no method to check if initialization returned a failure, so assume
-        // it is always a success.
-        initializationStatus.put(sdkKey, INITIALIZED);
-
-        ArrayList<OnInitializeSuccessListener> listeners = initializerListeners.get(sdkKey);
-        if (listeners != null) {
-          for (OnInitializeSuccessListener onInitializeSuccessListener : listeners) {
-            onInitializeSuccessListener.onInitializeSuccess(sdkKey);
+    final int traceCookie = AdapterTrace.beginAsyncSection("initialize");
+    AdapterTrace.beginSection("AppLovinSdk.initializeSdk");
+    try {
+      sdk.initializeSdk(new SdkInitializationListener() {
+        @Override
+        public void onSdkInitialized(AppLovinSdkConfiguration config) {
+          AdapterTrace.endAsyncSection("initialize", traceCookie);
+          // AppLovin currently has no method to check if initialization returned a failure, so
+          // assume it is always a success.
+          initializationStatus.put(sdkKey, INITIALIZED);
+
+          ArrayList<OnInitializeSuccessListener> listeners = initializerListeners.get(sdkKey);
+          if (listeners != null) {
+            for (OnInitializeSuccessListener onInitializeSuccessListener : listeners) {
+              onInitializeSuccessListener.onInitializeSuccess(sdkKey);
+            }
+            listeners.clear();
           }
-          listeners.clear();
         }
-      }
-    });
+      });
+    } finally {
+      AdapterTrace.endSection();
+    }
   }
 
   public interface OnInitializeSuccessListener {
@@ -326,7 +326,7 @@ public class AppLovinMediationAdapter extends RtbAdapter
             });
       }
 
-      mIncentivizedInterstitial.preload(this);
+      mIncentivizedInterstitial.preload(AdapterTrace.traceAdLoad("loadRewardedAd", this));
     } else {
       mMediationAdLoadCallback = mediationAdLoadCallback;
       mNetworkExtras = adConfiguration.getMediationExtras();
@@ -335,7 +335,8 @@ public class AppLovinMediationAdapter extends RtbAdapter
       // Create rewarded video object
       mIncentivizedInterstitial = AppLovinIncentivizedInterstitial.create(mSdk);
       // Load ad!
-      mSdk.getAdService().loadNextAdForAdToken(adConfiguration.getBidResponse(), this);
+      mSdk.getAdService().loadNextAdForAdToken(adConfiguration.getBidResponse(),
+          AdapterTrace.traceAdLoad("loadRtbRewardedAd", this));
     }
   }
 
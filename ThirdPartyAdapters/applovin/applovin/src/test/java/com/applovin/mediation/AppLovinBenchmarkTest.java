@@ -0,0 +1,80 @@
+package com.applovin.mediation;
+
+import static org.junit.Assert.assertEquals;
+
+import android.content.Context;
+import com.applovin.sdk.AppLovinAdSize;
+import com.google.ads.mediation.applovin.AppLovinMediationAdapter;
+import com.google.ads.mediation.benchmark.Microbenchmark;
+import com.google.android.gms.ads.AdSize;
+import com.google.android.gms.ads.MediationUtils;
+import java.util.ArrayList;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+/**
+ * Microbenchmarks of the AppLovin adapter code that runs on every ad request: the banner size
+ * mapping and the version parsing reported to the Google Mobile Ads SDK. The size mapping is also
+ * compared with the uncached {@link MediationUtils#findClosestSize} lookup that it replaced.
+ *
+ * <p>Run it with {@code ./gradlew :applovin:testDebugUnitTest --tests '*BenchmarkTest' -i}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class AppLovinBenchmarkTest {
+
+  private static final int WARMUP_ROUNDS = 5;
+  private static final int MEASURED_ROUNDS = 11;
+  private static final int OPERATIONS_PER_ROUND = 10000;
+
+  @Test
+  public void benchmark() {
+    final Context context = RuntimeEnvironment.getApplication();
+    final AdSize requestedSize = new AdSize(320, 60);
+    final AppLovinMediationAdapter adapter = new AppLovinMediationAdapter();
+    final AdSizeResolver resolver = new AdSizeResolver(AdSize.BANNER, AdSize.LEADERBOARD);
+    assertEquals(AppLovinAdSize.BANNER,
+        AppLovinUtils.appLovinAdSizeFromAdMobAdSize(context, requestedSize));
+
+    String report = new Microbenchmark(WARMUP_ROUNDS, MEASURED_ROUNDS, OPERATIONS_PER_ROUND)
+        .add("AppLovinUtils.appLovinAdSizeFromAdMobAdSize", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return AppLovinUtils.appLovinAdSizeFromAdMobAdSize(context, requestedSize);
+          }
+        })
+        .add("AdSizeResolver.resolve", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return resolver.resolve(context, requestedSize);
+          }
+        })
+        .add("MediationUtils.findClosestSize", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            // The lookup AppLovinUtils made on every banner request before AdSizeResolver.
+            ArrayList<AdSize> potentials = new ArrayList<>();
+            potentials.add(AdSize.BANNER);
+            potentials.add(AdSize.LEADERBOARD);
+            return MediationUtils.findClosestSize(context, requestedSize, potentials);
+          }
+        })
+        .add("AppLovinMediationAdapter.getVersionInfo", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return adapter.getVersionInfo();
+          }
+        })
+        .add("AppLovinMediationAdapter.getSDKVersionInfo", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return adapter.getSDKVersionInfo();
+          }
+        })
+        .run();
+    System.out.println(report);
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2021 Google, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.ads.mediation.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A minimal microbenchmark runner for adapter code that runs on every ad request. Each
+ * {@link Benchmark} is warmed up, then run for a number of measured rounds, and reported as the
+ * median time per operation and the number of bytes allocated per operation.
+ *
+ * <p>The runner only uses the JDK, so that it runs on the JVM in an adapter's unit tests, with
+ * Robolectric providing the Android classes that the measured code uses. Adapters add this
+ * directory as a test source directory, see {@code README.md}.
+ */
+public final class Microbenchmark {
+
+  private static final String REPORT_HEADER = "benchmark\tnsPerOp\tbytesPerOp\n";
+
+  private final int warmupRounds;
+  private final int measuredRounds;
+  private final int operationsPerRound;
+  private final List<String> names = new ArrayList<>();
+  private final List<Benchmark> benchmarks = new ArrayList<>();
+
+  /**
+   * A single operation to measure.
+   */
+  public interface Benchmark {
+
+    /**
+     * Runs the operation once, and returns its result so that it cannot be optimized away.
+     */
+    Object run();
+  }
+
+  /**
+   * Creates a runner.
+   *
+   * @param warmupRounds       The number of rounds run before measuring.
+   * @param measuredRounds     The number of measured rounds, of which the median is reported.
+   * @param operationsPerRound The number of operations per round.
+   */
+  public Microbenchmark(int warmupRounds, int measuredRounds, int operationsPerRound) {
+    this.warmupRounds = warmupRounds;
+    this.measuredRounds = measuredRounds;
+    this.operationsPerRound = operationsPerRound;
+  }
+
+  public Microbenchmark add(String name, Benchmark benchmark) {
+    names.add(name);
+    benchmarks.add(benchmark);
+    return this;
+  }
+
+  /**
+   * Runs every benchmark and returns a tab-separated report with one row per benchmark.
+   */
+  public String run() {
+    AllocationCounter allocationCounter = AllocationCounter.create();
+    StringBuilder report = new StringBuilder(REPORT_HEADER);
+    for (int i = 0; i < benchmarks.size(); i++) {
+      Benchmark benchmark = benchmarks.get(i);
+      for (int round = 0; round < warmupRounds; round++) {
+        runRound(benchmark);
+      }
+
+      long[] roundNanos = new long[measuredRounds];
+      for (int round = 0; round < measuredRounds; round++) {
+        long start = System.nanoTime();
+        runRound(benchmark);
+        roundNanos[round] = System.nanoTime() - start;
+      }
+      Arrays.sort(roundNanos);
+      long medianNanos = roundNanos[measuredRounds / 2];
+
+      double bytesPerOperation = Double.NaN;
+      if (allocationCounter != null) {
+        long startBytes = allocationCounter.getAllocatedBytes();
+        runRound(benchmark);
+        long allocatedBytes = allocationCounter.getAllocatedBytes() - startBytes
+            - allocationCounter.overheadBytes;
+        bytesPerOperation = (double) Math.max(0, allocatedBytes) / operationsPerRound;
+      }
+
+      report.append(String.format(Locale.US, "%s\t%.1f\t%.1f\n", names.get(i),
+          (double) medianNanos / operationsPerRound, bytesPerOperation));
+    }
+    return report.toString();
+  }
+
+  private void runRound(Benchmark benchmark) {
+    Object sink = null;
+    for (int operation = 0; operation < operationsPerRound; operation++) {
+      sink = benchmark.run();
+    }
+    if (sink == this) {
+      // Never true. Keeps the results reachable.
+      throw new IllegalStateException();
+    }
+  }
+
+  /**
+   * Reads the bytes allocated by the current thread from the JVM's {@code
+   * com.sun.management.ThreadMXBean}. Unit tests compile against {@code android.jar}, which does
+   * not have {@code java.lang.management}, so the bean is looked up reflectively.
+   */
+  private static final class AllocationCounter {
+
+    private final Object threadBean;
+    private final Method getThreadAllocatedBytes;
+
+    /**
+     * Bytes allocated by a pair of reads themselves, subtracted from every measurement.
+     */
+    private long overheadBytes;
+
+    private AllocationCounter(Object threadBean, Method getThreadAllocatedBytes) {
+      this.threadBean = threadBean;
+      this.getThreadAllocatedBytes = getThreadAllocatedBytes;
+    }
+
+    /**
+     * Returns a counter, or {@code null} if the JVM does not count allocated bytes per thread.
+     */
+    static AllocationCounter create() {
+      try {
+        Object threadBean = Class.forName("java.lang.management.ManagementFactory")
+            .getMethod("getThreadMXBean").invoke(null);
+        Method getThreadAllocatedBytes = Class.forName("com.sun.management.ThreadMXBean")
+            .getMethod("getThreadAllocatedBytes", long.class);
+        AllocationCounter counter = new AllocationCounter(threadBean, getThreadAllocatedBytes);
+        long firstBytes = counter.getAllocatedBytes();
+        counter.overheadBytes = counter.getAllocatedBytes() - firstBytes;
+        return counter;
+      } catch (ReflectiveOperationException | IllegalArgumentException | IllegalStateException e) {
+        return null;
+      }
+    }
+
+    long getAllocatedBytes() {
+      try {
+        return (Long) getThreadAllocatedBytes.invoke(threadBean, Thread.currentThread().getId());
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
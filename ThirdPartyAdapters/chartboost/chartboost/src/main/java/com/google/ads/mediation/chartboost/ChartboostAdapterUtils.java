@@ -14,8 +14,6 @@ import com.chartboost.sdk.Events.ChartboostShowError;
 import com.chartboost.sdk.Model.CBError.CBImpressionError;
 import com.google.ads.mediation.chartboost.ChartboostMediationAdapter.AdapterError;
 import com.google.android.gms.ads.AdSize;
-import com.google.android.gms.ads.MediationUtils;
-import java.util.ArrayList;
 
 /** Utility methods for the Chartboost Adapter. */
 class ChartboostAdapterUtils {
@@ -29,6 +27,20 @@ class ChartboostAdapterUtils {
   /** Key to obtain Ad Location. This is added in adapter version 1.1.0. */
   static final String KEY_AD_LOCATION = "adLocation";
 
+  private static final AdSize STANDARD_SIZE =
+      new AdSize(
+          BannerSize.getWidth(BannerSize.STANDARD), BannerSize.getHeight(BannerSize.STANDARD));
+  private static final AdSize MEDIUM_SIZE =
+      new AdSize(BannerSize.getWidth(BannerSize.MEDIUM), BannerSize.getHeight(BannerSize.MEDIUM));
+  private static final AdSize LEADERBOARD_SIZE =
+      new AdSize(
+          BannerSize.getWidth(BannerSize.LEADERBOARD),
+          BannerSize.getHeight(BannerSize.LEADERBOARD));
+
+  /** Banner sizes supported by Chartboost. */
+  private static final AdSizeResolver SUPPORTED_AD_SIZES =
+      new AdSizeResolver(STANDARD_SIZE, MEDIUM_SIZE, LEADERBOARD_SIZE);
+
   /**
    * Creates and return a new {@link ChartboostParams} object populated with the parameters obtained
    * from the server parameters and network extras bundles.
@@ -259,31 +271,16 @@ class ChartboostAdapterUtils {
    */
   @Nullable
   static BannerSize findClosestBannerSize(@NonNull Context context, @NonNull AdSize adSize) {
-    AdSize standardSize =
-        new AdSize(
-            BannerSize.getWidth(BannerSize.STANDARD), BannerSize.getHeight(BannerSize.STANDARD));
-    AdSize mediumSize =
-        new AdSize(BannerSize.getWidth(BannerSize.MEDIUM), BannerSize.getHeight(BannerSize.MEDIUM));
-    AdSize leaderboardSize =
-        new AdSize(
-            BannerSize.getWidth(BannerSize.LEADERBOARD),
-            BannerSize.getHeight(BannerSize.LEADERBOARD));
-
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(standardSize);
-    potentials.add(mediumSize);
-    potentials.add(leaderboardSize);
-
-    AdSize supportedAdSize = MediationUtils.findClosestSize(context, adSize, potentials);
+    AdSize supportedAdSize = SUPPORTED_AD_SIZES.resolve(context, adSize);
     if (supportedAdSize == null) {
       return null;
     }
 
-    if (supportedAdSize.equals(standardSize)) {
+    if (supportedAdSize.equals(STANDARD_SIZE)) {
       return BannerSize.STANDARD;
-    } else if (supportedAdSize.equals(mediumSize)) {
+    } else if (supportedAdSize.equals(MEDIUM_SIZE)) {
       return BannerSize.MEDIUM;
-    } else if (supportedAdSize.equals(leaderboardSize)) {
+    } else if (supportedAdSize.equals(LEADERBOARD_SIZE)) {
       return BannerSize.LEADERBOARD;
     }
     return null;
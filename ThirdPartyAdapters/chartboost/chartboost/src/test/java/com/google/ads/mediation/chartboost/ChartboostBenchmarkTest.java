@@ -0,0 +1,53 @@
+package com.google.ads.mediation.chartboost;
+
+import static org.junit.Assert.assertEquals;
+
+import android.os.Bundle;
+import com.google.ads.mediation.benchmark.Microbenchmark;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+/**
+ * Microbenchmarks of the Chartboost adapter code that runs on every ad request: parsing the server
+ * parameters and the version parsing reported to the Google Mobile Ads SDK.
+ *
+ * <p>Run it with {@code ./gradlew :chartboost:testDebugUnitTest --tests '*BenchmarkTest' -i}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class ChartboostBenchmarkTest {
+
+  private static final int WARMUP_ROUNDS = 5;
+  private static final int MEASURED_ROUNDS = 11;
+  private static final int OPERATIONS_PER_ROUND = 10000;
+
+  @Test
+  public void benchmark() {
+    final Bundle serverParameters = new Bundle();
+    serverParameters.putString(ChartboostAdapterUtils.KEY_APP_ID, "app-id");
+    serverParameters.putString(ChartboostAdapterUtils.KEY_APP_SIGNATURE, "app-signature");
+    serverParameters.putString(ChartboostAdapterUtils.KEY_AD_LOCATION, "Default");
+    final Bundle networkExtras = new Bundle();
+    final ChartboostMediationAdapter adapter = new ChartboostMediationAdapter();
+    assertEquals("app-id",
+        ChartboostAdapterUtils.createChartboostParams(serverParameters, networkExtras).getAppId());
+
+    String report = new Microbenchmark(WARMUP_ROUNDS, MEASURED_ROUNDS, OPERATIONS_PER_ROUND)
+        .add("ChartboostAdapterUtils.createChartboostParams", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return ChartboostAdapterUtils.createChartboostParams(serverParameters, networkExtras);
+          }
+        })
+        .add("ChartboostMediationAdapter.getVersionInfo", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return adapter.getVersionInfo();
+          }
+        })
+        .run();
+    System.out.println(report);
+  }
+}
@@ -82,6 +82,13 @@ public final class FacebookAdapter extends FacebookMediationAdapter
   private FrameLayout mWrappedAdView;
   private boolean isNativeBanner;
 
+  /**
+   * Cookies of the async trace sections spanning the in-flight ad loads.
+   */
+  private int mBannerLoadTraceCookie;
+  private int mInterstitialLoadTraceCookie;
+  private int mNativeLoadTraceCookie;
+
   /**
    * Facebook interstitial ad instance.
    */
@@ -132,7 +139,8 @@ public final class FacebookAdapter extends FacebookMediationAdapter
       mNativeAd.destroy();
     }
     if (mMediaView != null) {
-      mMediaView.destroy();
+      MediaViewPool.getInstance().release(mMediaView);
+      mMediaView = null;
     }
     if (mNativeBannerAd != null) {
       mNativeBannerAd.unregisterView();
@@ -192,6 +200,7 @@ public final class FacebookAdapter extends FacebookMediationAdapter
                 mWrappedAdView = new FrameLayout(context);
                 mAdView.setLayoutParams(adViewLayoutParams);
                 mWrappedAdView.addView(mAdView);
+                mBannerLoadTraceCookie = AdapterTrace.beginAsyncSection("loadBannerAd");
                 mAdView.loadAd(
                     mAdView.buildLoadAdConfig()
                         .withAdListener(new BannerListener())
@@ -351,11 +360,13 @@ public final class FacebookAdapter extends FacebookMediationAdapter
 
     @Override
     public void onAdLoaded(Ad ad) {
+      AdapterTrace.endAsyncSection("loadBannerAd", mBannerLoadTraceCookie);
       FacebookAdapter.this.mBannerListener.onAdLoaded(FacebookAdapter.this);
     }
 
     @Override
     public void onError(Ad ad, AdError adError) {
+      AdapterTrace.endAsyncSection("loadBannerAd", mBannerLoadTraceCookie);
       String errorMessage = createSdkError(adError);
       Log.w(TAG, errorMessage);
       FacebookAdapter.this.mBannerListener
@@ -370,6 +381,7 @@ public final class FacebookAdapter extends FacebookMediationAdapter
       MediationAdRequest adRequest) {
     mInterstitialAd = new InterstitialAd(context, placementID);
     buildAdRequest(adRequest);
+    mInterstitialLoadTraceCookie = AdapterTrace.beginAsyncSection("loadInterstitialAd");
     mInterstitialAd.loadAd(
         mInterstitialAd.buildLoadAdConfig()
             .withAdListener(new InterstitialListener())
@@ -397,6 +409,7 @@ public final class FacebookAdapter extends FacebookMediationAdapter
 
     @Override
     public void onAdLoaded(Ad ad) {
+      AdapterTrace.endAsyncSection("loadInterstitialAd", mInterstitialLoadTraceCookie);
       FacebookAdapter.this.mInterstitialListener.onAdLoaded(FacebookAdapter.this);
     }
 
@@ -411,6 +424,7 @@ public final class FacebookAdapter extends FacebookMediationAdapter
         return;
       }
 
+      AdapterTrace.endAsyncSection("loadInterstitialAd", mInterstitialLoadTraceCookie);
       FacebookAdapter.this.mInterstitialListener.onAdFailedToLoad(
           FacebookAdapter.this, adError.getErrorCode());
     }
@@ -461,31 +475,37 @@ public final class FacebookAdapter extends FacebookMediationAdapter
       isNativeBanner = mediationExtras.getBoolean(NATIVE_BANNER);
     }
 
-    if (isNativeBanner) {
-      mNativeBannerAd = new NativeBannerAd(context, placementID);
-      buildAdRequest(adRequest);
-      mNativeBannerAd.loadAd(
-          mNativeBannerAd
-              .buildLoadAdConfig()
-              .withAdListener(new NativeBannerListener(context, mNativeBannerAd))
-              .withMediaCacheFlag(NativeAdBase.MediaCacheFlag.ALL)
-              .withPreloadedIconView(
-                  NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE,
-                  NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE)
-              .build());
-    } else {
-      mMediaView = new MediaView(context);
-      mNativeAd = new NativeAd(context, placementID);
-      buildAdRequest(adRequest);
-      mNativeAd.loadAd(
-          mNativeAd
-              .buildLoadAdConfig()
-              .withAdListener(new NativeListener(context, mNativeAd))
-              .withMediaCacheFlag(NativeAdBase.MediaCacheFlag.ALL)
-              .withPreloadedIconView(
-                  NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE,
-                  NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE)
-              .build());
+    mNativeLoadTraceCookie = AdapterTrace.beginAsyncSection("loadNativeAd");
+    AdapterTrace.beginSection("NativeAdBase.loadAd");
+    try {
+      if (isNativeBanner) {
+        mNativeBannerAd = new NativeBannerAd(context, placementID);
+        buildAdRequest(adRequest);
+        mNativeBannerAd.loadAd(
+            mNativeBannerAd
+                .buildLoadAdConfig()
+                .withAdListener(new NativeBannerListener(context, mNativeBannerAd))
+                .withMediaCacheFlag(NativeAdBase.MediaCacheFlag.ALL)
+                .withPreloadedIconView(
+                    NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE,
+                    NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE)
+                .build());
+      } else {
+        mMediaView = MediaViewPool.getInstance().acquire(context);
+        mNativeAd = new NativeAd(context, placementID);
+        buildAdRequest(adRequest);
+        mNativeAd.loadAd(
+            mNativeAd
+                .buildLoadAdConfig()
+                .withAdListener(new NativeListener(context, mNativeAd))
+                .withMediaCacheFlag(NativeAdBase.MediaCacheFlag.ALL)
+                .withPreloadedIconView(
+                    NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE,
+                    NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE)
+                .build());
+      }
+    } finally {
+      AdapterTrace.endSection();
     }
   }
 
@@ -513,6 +533,7 @@ public final class FacebookAdapter extends FacebookMediationAdapter
 
     @Override
     public void onError(Ad ad, AdError adError) {
+      AdapterTrace.endAsyncSection("loadNativeAd", mNativeLoadTraceCookie);
       String errorMessage = createSdkError(adError);
       if (!TextUtils.isEmpty(adError.getErrorMessage())) {
         Log.w(TAG, errorMessage);
@@ -523,6 +544,7 @@ public final class FacebookAdapter extends FacebookMediationAdapter
 
     @Override
     public void onAdLoaded(Ad ad) {
+      AdapterTrace.endAsyncSection("loadNativeAd", mNativeLoadTraceCookie);
       if (ad != mNativeBannerAd) {
         Log.w(TAG, createAdapterError(ERROR_WRONG_NATIVE_TYPE,
             "Ad loaded is not a native banner ad."));
@@ -540,20 +562,30 @@ public final class FacebookAdapter extends FacebookMediationAdapter
       }
 
       final UnifiedAdMapper mapper = new UnifiedAdMapper(mNativeBannerAd);
-      mapper.mapUnifiedNativeAd(context, new NativeAdMapperListener() {
-        @Override
-        public void onMappingSuccess() {
-          mNativeListener.onAdLoaded(FacebookAdapter.this, mapper);
-        }
+      AdapterTrace.beginSection("mapUnifiedNativeAd");
+      try {
+        mapper.mapUnifiedNativeAd(context, new NativeAdMapperListener() {
+          @Override
+          public void onMappingSuccess() {
+            AdapterTrace.beginSection("dispatchNativeAdLoaded");
+            try {
+              mNativeListener.onAdLoaded(FacebookAdapter.this, mapper);
+            } finally {
+              AdapterTrace.endSection();
+            }
+          }
 
-        @Override
-        public void onMappingFailed(String message) {
-          String errorMessage = createAdapterError(ERROR_MAPPING_NATIVE_ASSETS, message);
-          Log.w(TAG, errorMessage);
-          mNativeListener.onAdFailedToLoad(FacebookAdapter.this,
-              ERROR_MAPPING_NATIVE_ASSETS);
-        }
-      });
+          @Override
+          public void onMappingFailed(String message) {
+            String errorMessage = createAdapterError(ERROR_MAPPING_NATIVE_ASSETS, message);
+            Log.w(TAG, errorMessage);
+            mNativeListener.onAdFailedToLoad(FacebookAdapter.this,
+                ERROR_MAPPING_NATIVE_ASSETS);
+          }
+        });
+      } finally {
+        AdapterTrace.endSection();
+      }
     }
 
     @Override
@@ -618,6 +650,7 @@ public final class FacebookAdapter extends FacebookMediationAdapter
 
     @Override
     public void onAdLoaded(Ad ad) {
+      AdapterTrace.endAsyncSection("loadNativeAd", mNativeLoadTraceCookie);
       if (ad != mNativeAd) {
         String errorMessage = createAdapterError(ERROR_WRONG_NATIVE_TYPE,
             "Ad loaded is not a native ad.");
@@ -638,24 +671,35 @@ public final class FacebookAdapter extends FacebookMediationAdapter
       }
 
       final UnifiedAdMapper mapper = new UnifiedAdMapper(mNativeAd);
-      mapper.mapUnifiedNativeAd(context, new NativeAdMapperListener() {
-        @Override
-        public void onMappingSuccess() {
-          mNativeListener.onAdLoaded(FacebookAdapter.this, mapper);
-        }
+      AdapterTrace.beginSection("mapUnifiedNativeAd");
+      try {
+        mapper.mapUnifiedNativeAd(context, new NativeAdMapperListener() {
+          @Override
+          public void onMappingSuccess() {
+            AdapterTrace.beginSection("dispatchNativeAdLoaded");
+            try {
+              mNativeListener.onAdLoaded(FacebookAdapter.this, mapper);
+            } finally {
+              AdapterTrace.endSection();
+            }
+          }
 
-        @Override
-        public void onMappingFailed(String message) {
-          String errorMessage = createAdapterError(ERROR_MAPPING_NATIVE_ASSETS, message);
-          Log.w(TAG, errorMessage);
-          mNativeListener.onAdFailedToLoad(FacebookAdapter.this,
-              ERROR_MAPPING_NATIVE_ASSETS);
-        }
-      });
+          @Override
+          public void onMappingFailed(String message) {
+            String errorMessage = createAdapterError(ERROR_MAPPING_NATIVE_ASSETS, message);
+            Log.w(TAG, errorMessage);
+            mNativeListener.onAdFailedToLoad(FacebookAdapter.this,
+                ERROR_MAPPING_NATIVE_ASSETS);
+          }
+        });
+      } finally {
+        AdapterTrace.endSection();
+      }
     }
 
     @Override
     public void onError(Ad ad, AdError adError) {
+      AdapterTrace.endAsyncSection("loadNativeAd", mNativeLoadTraceCookie);
       String errorMessage = createSdkError(adError);
       if (!TextUtils.isEmpty(adError.getErrorMessage())) {
         Log.w(TAG, errorMessage);
@@ -13,6 +13,8 @@ class FacebookInitializer implements AudienceNetworkAds.InitListener {
 
   private ArrayList<Listener> mListeners;
 
+  private int mInitTraceCookie;
+
   static FacebookInitializer getInstance() {
     if (instance == null) {
       instance = new FacebookInitializer();
@@ -45,15 +47,22 @@ class FacebookInitializer implements AudienceNetworkAds.InitListener {
     mIsInitializing = true;
 
     getInstance().mListeners.add(listener);
-    AudienceNetworkAds.buildInitSettings(context)
-        .withMediationService("GOOGLE:" + BuildConfig.ADAPTER_VERSION)
-        .withPlacementIds(placements)
-        .withInitListener(FacebookInitializer.this)
-        .initialize();
+    mInitTraceCookie = AdapterTrace.beginAsyncSection("initialize");
+    AdapterTrace.beginSection("AudienceNetworkAds.initialize");
+    try {
+      AudienceNetworkAds.buildInitSettings(context)
+          .withMediationService("GOOGLE:" + BuildConfig.ADAPTER_VERSION)
+          .withPlacementIds(placements)
+          .withInitListener(FacebookInitializer.this)
+          .initialize();
+    } finally {
+      AdapterTrace.endSection();
+    }
   }
 
   @Override
   public void onInitialized(AudienceNetworkAds.InitResult initResult) {
+    AdapterTrace.endAsyncSection("initialize", mInitTraceCookie);
     mIsInitializing = false;
     mIsInitialized = initResult.isSuccess();
 
@@ -51,6 +51,11 @@ public class FacebookRewardedAd implements MediationRewardedAd, RewardedVideoAdE
   private boolean isRtbAd = false;
   private AtomicBoolean didRewardedAdClose = new AtomicBoolean();
 
+  /**
+   * Cookie of the async trace section spanning the in-flight rewarded ad load.
+   */
+  private int mLoadTraceCookie;
+
   public FacebookRewardedAd(MediationRewardedAdConfiguration adConfiguration,
       MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback> callback) {
     this.adConfiguration = adConfiguration;
@@ -83,6 +88,7 @@ public class FacebookRewardedAd implements MediationRewardedAd, RewardedVideoAdE
         rewardedAd.setExtraHints(new ExtraHints.Builder()
             .mediationData(adConfiguration.getWatermark()).build());
       }
+      mLoadTraceCookie = AdapterTrace.beginAsyncSection("loadRewardedAd");
       rewardedAd.loadAd(
           rewardedAd.buildLoadAdConfig()
               .withAdListener(this)
@@ -139,6 +145,7 @@ public class FacebookRewardedAd implements MediationRewardedAd, RewardedVideoAdE
 
   private void createAndLoadRewardedVideo(Context context, String placementID) {
     rewardedAd = new RewardedVideoAd(context, placementID);
+    mLoadTraceCookie = AdapterTrace.beginAsyncSection("loadRewardedAd");
     rewardedAd.loadAd(
         rewardedAd.buildLoadAdConfig()
             .withAdListener(this)
@@ -163,6 +170,7 @@ public class FacebookRewardedAd implements MediationRewardedAd, RewardedVideoAdE
         mRewardedAdCallback.onAdFailedToShow(errorMessage);
       }
     } else {
+      AdapterTrace.endAsyncSection("loadRewardedAd", mLoadTraceCookie);
       Log.w(TAG, "Failed to load rewarded ad: " + errorMessage);
       if (mMediationAdLoadCallback != null) {
         mMediationAdLoadCallback.onFailure(errorMessage);
@@ -174,6 +182,7 @@ public class FacebookRewardedAd implements MediationRewardedAd, RewardedVideoAdE
 
   @Override
   public void onAdLoaded(Ad ad) {
+    AdapterTrace.endAsyncSection("loadRewardedAd", mLoadTraceCookie);
     if (mMediationAdLoadCallback != null) {
       mRewardedAdCallback = mMediationAdLoadCallback.onSuccess(this);
     }
@@ -0,0 +1,245 @@
+package com.google.ads.mediation.facebook;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.os.Bundle;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
+import com.facebook.ads.MediaView;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * Pool of Facebook {@link MediaView}s, per context, so that feeds loading many Facebook native ads
+ * do not create a new media view for each of them. Media views are returned to the pool once the
+ * ad they were created for is destroyed, and handed out again to the next native ad loaded with
+ * the same context.
+ *
+ * <p>Views are pooled under the activity their context wraps, and dropped when that activity is
+ * destroyed. Views of the application context are pooled until {@link #clear()}. Views of any
+ * other context are never pooled, since nothing tells the pool when that context goes away.
+ */
+public final class MediaViewPool {
+
+  /**
+   * Default maximum number of pooled media views per context.
+   */
+  public static final int DEFAULT_MAX_SIZE_PER_CONTEXT = 4;
+
+  private static final MediaViewPool instance = new MediaViewPool();
+
+  /**
+   * Pooled views, keyed by the activity or application their context belongs to.
+   */
+  private final HashMap<Context, LinkedList<MediaView>> pooledViews = new HashMap<>();
+
+  private int maxSizePerContext = DEFAULT_MAX_SIZE_PER_CONTEXT;
+  private boolean isLifecycleCallbacksRegistered;
+  private long createdCount;
+  private long reusedCount;
+  private long totalCreationNanos;
+
+  public static MediaViewPool getInstance() {
+    return instance;
+  }
+
+  private MediaViewPool() {
+  }
+
+  /**
+   * Sets the maximum number of media views pooled per context. A size of 0 disables the pool and
+   * drops any pooled views.
+   */
+  public synchronized void setMaxSizePerContext(int maxSizePerContext) {
+    this.maxSizePerContext = Math.max(0, maxSizePerContext);
+    if (this.maxSizePerContext == 0) {
+      clear();
+    }
+  }
+
+  /**
+   * Returns the number of media views created because none was pooled.
+   */
+  public synchronized long getCreatedCount() {
+    return createdCount;
+  }
+
+  /**
+   * Returns the number of media views reused from the pool.
+   */
+  public synchronized long getReusedCount() {
+    return reusedCount;
+  }
+
+  /**
+   * Returns the estimated time, in milliseconds, saved by reusing media views, based on the
+   * average time it took to create one.
+   */
+  public synchronized long getSavedCreationMillis() {
+    if (createdCount == 0) {
+      return 0;
+    }
+    return reusedCount * (totalCreationNanos / createdCount) / 1000000;
+  }
+
+  /**
+   * Drops all pooled media views.
+   */
+  public synchronized void clear() {
+    for (LinkedList<MediaView> views : pooledViews.values()) {
+      for (MediaView view : views) {
+        view.destroy();
+      }
+    }
+    pooledViews.clear();
+  }
+
+  /**
+   * Returns a pooled media view for the given context, or a new one if there is none.
+   */
+  @RestrictTo(Scope.LIBRARY)
+  @NonNull
+  public MediaView acquire(@NonNull Context context) {
+    Context poolKey = getPoolKey(context);
+    if (poolKey != null) {
+      synchronized (this) {
+        LinkedList<MediaView> views = pooledViews.get(poolKey);
+        if (views != null) {
+          // Only reuse views created with the same context, so that they keep its theme.
+          Iterator<MediaView> iterator = views.iterator();
+          while (iterator.hasNext()) {
+            MediaView view = iterator.next();
+            if (view.getContext() == context) {
+              iterator.remove();
+              reusedCount++;
+              return view;
+            }
+          }
+        }
+      }
+    }
+
+    long startNanos = System.nanoTime();
+    MediaView mediaView = new MediaView(context);
+    long creationNanos = System.nanoTime() - startNanos;
+    synchronized (this) {
+      createdCount++;
+      totalCreationNanos += creationNanos;
+    }
+    return mediaView;
+  }
+
+  /**
+   * Returns the given media view to the pool, or destroys it if the pool of its context is full.
+   * The media view must no longer be registered with a native ad.
+   */
+  @RestrictTo(Scope.LIBRARY)
+  public void release(@NonNull MediaView mediaView) {
+    mediaView.setListener(null);
+    ViewParent parent = mediaView.getParent();
+    if (parent instanceof ViewGroup) {
+      ((ViewGroup) parent).removeView(mediaView);
+    }
+
+    Context poolKey = getPoolKey(mediaView.getContext());
+    boolean isPooled = false;
+    if (poolKey != null
+        && (!(poolKey instanceof Activity) || !((Activity) poolKey).isFinishing())) {
+      synchronized (this) {
+        LinkedList<MediaView> views = pooledViews.get(poolKey);
+        if (views == null) {
+          views = new LinkedList<>();
+        }
+        if (views.size() < maxSizePerContext) {
+          views.add(mediaView);
+          pooledViews.put(poolKey, views);
+          isPooled = true;
+        }
+      }
+      if (isPooled && poolKey instanceof Activity) {
+        registerLifecycleCallbacks((Activity) poolKey);
+      }
+    }
+    if (!isPooled) {
+      mediaView.destroy();
+    }
+  }
+
+  /**
+   * Returns the activity the given context wraps, the application if the context is the
+   * application context, or {@code null} if views of the context cannot be pooled safely.
+   */
+  @Nullable
+  private static Context getPoolKey(@NonNull Context context) {
+    if (context == context.getApplicationContext()) {
+      return context;
+    }
+    Context baseContext = context;
+    while (baseContext instanceof ContextWrapper) {
+      if (baseContext instanceof Activity) {
+        return baseContext;
+      }
+      baseContext = ((ContextWrapper) baseContext).getBaseContext();
+    }
+    return null;
+  }
+
+  /**
+   * Listens for activities being destroyed, to drop the media views pooled for them.
+   */
+  private void registerLifecycleCallbacks(@NonNull Activity activity) {
+    synchronized (this) {
+      if (isLifecycleCallbacksRegistered) {
+        return;
+      }
+      isLifecycleCallbacksRegistered = true;
+    }
+
+    activity.getApplication().registerActivityLifecycleCallbacks(
+        new Application.ActivityLifecycleCallbacks() {
+          @Override
+          public void onActivityDestroyed(Activity destroyedActivity) {
+            LinkedList<MediaView> views;
+            synchronized (MediaViewPool.this) {
+              views = pooledViews.remove(destroyedActivity);
+            }
+            if (views != null) {
+              for (MediaView view : views) {
+                view.destroy();
+              }
+            }
+          }
+
+          @Override
+          public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+          }
+
+          @Override
+          public void onActivityStarted(Activity activity) {
+          }
+
+          @Override
+          public void onActivityResumed(Activity activity) {
+          }
+
+          @Override
+          public void onActivityPaused(Activity activity) {
+          }
+
+          @Override
+          public void onActivityStopped(Activity activity) {
+          }
+
+          @Override
+          public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+          }
+        });
+  }
+}
@@ -20,6 +20,7 @@ import com.facebook.ads.AdError;
 import com.facebook.ads.AdListener;
 import com.facebook.ads.AdView;
 import com.facebook.ads.ExtraHints;
+import com.google.ads.mediation.facebook.AdapterTrace;
 import com.google.ads.mediation.facebook.FacebookMediationAdapter;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationBannerAd;
@@ -34,6 +35,11 @@ public class FacebookRtbBannerAd implements MediationBannerAd, AdListener {
   private FrameLayout mWrappedAdView;
   private MediationBannerAdCallback mBannerAdCallback;
 
+  /**
+   * Cookie of the async trace section spanning the in-flight banner ad load.
+   */
+  private int mLoadTraceCookie;
+
   public FacebookRtbBannerAd(MediationBannerAdConfiguration adConfiguration,
       MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback> callback) {
     this.adConfiguration = adConfiguration;
@@ -74,6 +80,7 @@ public class FacebookRtbBannerAd implements MediationBannerAd, AdListener {
     mWrappedAdView = new FrameLayout(context);
     adView.setLayoutParams(adViewLayoutParams);
     mWrappedAdView.addView(adView);
+    mLoadTraceCookie = AdapterTrace.beginAsyncSection("loadRtbBannerAd");
     adView.loadAd(
         adView.buildLoadAdConfig()
             .withAdListener(this)
@@ -90,6 +97,7 @@ public class FacebookRtbBannerAd implements MediationBannerAd, AdListener {
 
   @Override
   public void onError(Ad ad, AdError adError) {
+    AdapterTrace.endAsyncSection("loadRtbBannerAd", mLoadTraceCookie);
     String errorMessage = createSdkError(adError);
     Log.w(TAG, errorMessage);
     callback.onFailure(errorMessage);
@@ -97,6 +105,7 @@ public class FacebookRtbBannerAd implements MediationBannerAd, AdListener {
 
   @Override
   public void onAdLoaded(Ad ad) {
+    AdapterTrace.endAsyncSection("loadRtbBannerAd", mLoadTraceCookie);
     mBannerAdCallback = callback.onSuccess(this);
   }
 
@@ -16,6 +16,7 @@ import com.facebook.ads.AdError;
 import com.facebook.ads.ExtraHints;
 import com.facebook.ads.InterstitialAd;
 import com.facebook.ads.InterstitialAdExtendedListener;
+import com.google.ads.mediation.facebook.AdapterTrace;
 import com.google.ads.mediation.facebook.FacebookMediationAdapter;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
@@ -34,6 +35,11 @@ public class FacebookRtbInterstitialAd implements MediationInterstitialAd,
   private AtomicBoolean showAdCalled = new AtomicBoolean();
   private AtomicBoolean didInterstitialAdClose = new AtomicBoolean();
 
+  /**
+   * Cookie of the async trace section spanning the in-flight interstitial ad load.
+   */
+  private int mLoadTraceCookie;
+
   public FacebookRtbInterstitialAd(MediationInterstitialAdConfiguration adConfiguration,
       MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
           callback) {
@@ -59,6 +65,7 @@ public class FacebookRtbInterstitialAd implements MediationInterstitialAd,
           .mediationData(adConfiguration.getWatermark()).build());
     }
 
+    mLoadTraceCookie = AdapterTrace.beginAsyncSection("loadRtbInterstitialAd");
     interstitialAd.loadAd(
         interstitialAd.buildLoadAdConfig()
             .withBid(adConfiguration.getBidResponse())
@@ -109,11 +116,13 @@ public class FacebookRtbInterstitialAd implements MediationInterstitialAd,
       return;
     }
 
+    AdapterTrace.endAsyncSection("loadRtbInterstitialAd", mLoadTraceCookie);
     callback.onFailure(errorMessage);
   }
 
   @Override
   public void onAdLoaded(Ad ad) {
+    AdapterTrace.endAsyncSection("loadRtbInterstitialAd", mLoadTraceCookie);
     mInterstitalAdCallback = callback.onSuccess(this);
   }
 
@@ -0,0 +1,146 @@
+package com.google.ads.mediation.fyber;
+
+import static com.google.ads.mediation.fyber.FyberMediationAdapter.TAG;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.fyber.inneractive.sdk.external.InneractiveAdSpot;
+import java.util.HashMap;
+
+/**
+ * Keeps Fyber banner spots and their wrapper views alive between banner refreshes so that the next
+ * request for the same spot ID can reuse them instead of creating a new {@link InneractiveAdSpot},
+ * unit controller and wrapper view. Idle entries are destroyed after {@link
+ * #DEFAULT_IDLE_TIMEOUT_MILLIS}. All methods must be called on the main thread.
+ */
+public class FyberBannerSpotCache {
+
+  /**
+   * Default time an unused banner spot is kept before it is destroyed.
+   */
+  public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 60 * 1000;
+
+  private static final FyberBannerSpotCache instance = new FyberBannerSpotCache();
+
+  private final HashMap<String, Entry> mEntries = new HashMap<>();
+  private final Handler mHandler = new Handler(Looper.getMainLooper());
+  private long mIdleTimeoutMillis = DEFAULT_IDLE_TIMEOUT_MILLIS;
+
+  // Time spent creating spots, controllers and wrapper views, used to estimate savings on reuse.
+  private int mCreationCount;
+  private long mTotalCreationTimeNanos;
+  private int mReuseCount;
+  private long mSavedCreationTimeNanos;
+
+  public static FyberBannerSpotCache getInstance() {
+    return instance;
+  }
+
+  private FyberBannerSpotCache() {
+  }
+
+  /**
+   * Sets how long an unused banner spot is kept before it is destroyed.
+   */
+  public void setIdleTimeoutMillis(long idleTimeoutMillis) {
+    mIdleTimeoutMillis = idleTimeoutMillis;
+  }
+
+  /**
+   * Takes the cached spot and wrapper view for the given spot ID, if there is one that was created
+   * with the given context.
+   */
+  @Nullable
+  Entry acquire(@NonNull String spotId, @NonNull Context context) {
+    Entry entry = mEntries.remove(spotId);
+    if (entry == null) {
+      return null;
+    }
+    mHandler.removeCallbacks(entry.expiration);
+
+    if (entry.wrapperView.getContext() != context) {
+      entry.spot.destroy();
+      return null;
+    }
+
+    ViewParent parent = entry.wrapperView.getParent();
+    if (parent instanceof ViewGroup) {
+      ((ViewGroup) parent).removeView(entry.wrapperView);
+    }
+
+    mReuseCount++;
+    if (mCreationCount > 0) {
+      mSavedCreationTimeNanos += mTotalCreationTimeNanos / mCreationCount;
+    }
+    return entry;
+  }
+
+  /**
+   * Returns a spot and its wrapper view to the cache once the banner that used them is destroyed.
+   * Any spot previously cached for the same spot ID is destroyed.
+   */
+  void release(@NonNull String spotId, @NonNull InneractiveAdSpot spot,
+      @NonNull ViewGroup wrapperView) {
+    final Entry entry = new Entry(spotId, spot, wrapperView);
+    Entry previous = mEntries.put(spotId, entry);
+    if (previous != null) {
+      mHandler.removeCallbacks(previous.expiration);
+      previous.spot.destroy();
+    }
+    mHandler.postDelayed(entry.expiration, mIdleTimeoutMillis);
+  }
+
+  /**
+   * Records the time taken to create a spot, unit controller and wrapper view on a cache miss.
+   */
+  void recordCreation(long creationTimeNanos) {
+    mCreationCount++;
+    mTotalCreationTimeNanos += creationTimeNanos;
+  }
+
+  /**
+   * Returns the number of banner requests that reused a cached spot.
+   */
+  public int getReuseCount() {
+    return mReuseCount;
+  }
+
+  /**
+   * Returns the estimated main-thread time, in nanoseconds, saved by reusing cached spots.
+   */
+  public long getSavedCreationTimeNanos() {
+    return mSavedCreationTimeNanos;
+  }
+
+  /**
+   * A banner spot and the wrapper view its ads are bound to.
+   */
+  static class Entry {
+
+    final InneractiveAdSpot spot;
+    final ViewGroup wrapperView;
+    private final Runnable expiration;
+
+    private Entry(@NonNull final String spotId, @NonNull InneractiveAdSpot spot,
+        @NonNull ViewGroup wrapperView) {
+      this.spot = spot;
+      this.wrapperView = wrapperView;
+      this.expiration = new Runnable() {
+        @Override
+        public void run() {
+          if (instance.mEntries.get(spotId) == Entry.this) {
+            instance.mEntries.remove(spotId);
+            Entry.this.spot.destroy();
+            Log.d(TAG, "Destroyed idle Fyber banner spot for spot ID: " + spotId);
+          }
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.google.ads.mediation.fyber;
+
+import static com.google.ads.mediation.fyber.FyberMediationAdapter.TAG;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.fyber.inneractive.sdk.external.InneractiveAdManager;
+import com.fyber.inneractive.sdk.external.OnFyberMarketplaceInitializedListener;
+import com.fyber.inneractive.sdk.external.OnFyberMarketplaceInitializedListener.FyberInitStatus;
+import java.util.ArrayList;
+
+/**
+ * Single entry point for initializing the Fyber Marketplace SDK. Ad loads may arrive before
+ * {@link FyberMediationAdapter#initialize}, so every load goes through this gate, which
+ * initializes the SDK once, coalesces concurrent callers and answers synchronously once the SDK
+ * is initialized. Failed initializations are retried with exponential backoff.
+ */
+public class FyberInitializer implements OnFyberMarketplaceInitializedListener {
+
+  /**
+   * Delay before the first retry after a failed initialization.
+   */
+  private static final long INITIAL_RETRY_BACKOFF_MILLIS = 1000;
+
+  /**
+   * Upper bound for the delay between initialization retries.
+   */
+  private static final long MAX_RETRY_BACKOFF_MILLIS = 60 * 1000;
+
+  private static final FyberInitializer instance = new FyberInitializer();
+
+  /**
+   * Callers waiting for the in-flight initialization to complete.
+   */
+  private final ArrayList<PendingListener> mPendingListeners = new ArrayList<>();
+
+  /**
+   * Result of the last completed initialization, or {@code null} if none has completed yet.
+   */
+  @Nullable
+  private FyberInitStatus mInitStatus;
+
+  private boolean mIsInitializing;
+  private int mFailedAttempts;
+  private long mRetryAtMillis;
+
+  // Time callers spent waiting on initialization.
+  private int mWaitCount;
+  private long mTotalWaitTimeMillis;
+
+  public static FyberInitializer getInstance() {
+    return instance;
+  }
+
+  private FyberInitializer() {
+  }
+
+  /**
+   * Initializes the Fyber Marketplace SDK with the given app ID if needed, and notifies the
+   * listener with the initialization status. The listener is called synchronously if the SDK is
+   * already initialized, or if the last attempt failed and its retry backoff has not elapsed yet.
+   */
+  void initialize(@NonNull Context context, @NonNull String appId,
+      @NonNull OnFyberMarketplaceInitializedListener listener) {
+    FyberInitStatus cachedStatus;
+    synchronized (this) {
+      if (mInitStatus == null && InneractiveAdManager.wasInitialized()) {
+        mInitStatus = FyberInitStatus.SUCCESSFULLY;
+      }
+
+      cachedStatus = mInitStatus;
+      if (cachedStatus != FyberInitStatus.SUCCESSFULLY
+          && SystemClock.elapsedRealtime() >= mRetryAtMillis) {
+        mPendingListeners.add(new PendingListener(listener));
+        if (mIsInitializing) {
+          return;
+        }
+        mIsInitializing = true;
+        cachedStatus = null;
+      }
+    }
+
+    if (cachedStatus != null) {
+      listener.onFyberMarketplaceInitialized(cachedStatus);
+      return;
+    }
+
+    InneractiveAdManager.initialize(context, appId, this);
+  }
+
+  @Override
+  public void onFyberMarketplaceInitialized(FyberInitStatus fyberInitStatus) {
+    ArrayList<PendingListener> listeners;
+    synchronized (this) {
+      mInitStatus = fyberInitStatus;
+      mIsInitializing = false;
+      if (fyberInitStatus == FyberInitStatus.SUCCESSFULLY) {
+        mFailedAttempts = 0;
+        mRetryAtMillis = 0;
+      } else {
+        long backoff = Math.min(MAX_RETRY_BACKOFF_MILLIS,
+            INITIAL_RETRY_BACKOFF_MILLIS << Math.min(mFailedAttempts, 16));
+        mFailedAttempts++;
+        mRetryAtMillis = SystemClock.elapsedRealtime() + backoff;
+        Log.w(TAG, "Fyber initialization failed with status " + fyberInitStatus
+            + ". Retrying in " + backoff + "ms at the earliest.");
+      }
+
+      long now = SystemClock.elapsedRealtime();
+      for (PendingListener pendingListener : mPendingListeners) {
+        mWaitCount++;
+        mTotalWaitTimeMillis += now - pendingListener.startTimeMillis;
+      }
+      listeners = new ArrayList<>(mPendingListeners);
+      mPendingListeners.clear();
+    }
+
+    for (PendingListener pendingListener : listeners) {
+      pendingListener.listener.onFyberMarketplaceInitialized(fyberInitStatus);
+    }
+  }
+
+  /**
+   * Returns the number of callers that had to wait for an initialization to complete.
+   */
+  public synchronized int getWaitCount() {
+    return mWaitCount;
+  }
+
+  /**
+   * Returns the total time, in milliseconds, callers spent waiting for initialization.
+   */
+  public synchronized long getTotalWaitTimeMillis() {
+    return mTotalWaitTimeMillis;
+  }
+
+  /**
+   * A caller waiting on initialization, with the time it started waiting.
+   */
+  private static class PendingListener {
+
+    private final OnFyberMarketplaceInitializedListener listener;
+    private final long startTimeMillis;
+
+    private PendingListener(OnFyberMarketplaceInitializedListener listener) {
+      this.listener = listener;
+      this.startTimeMillis = SystemClock.elapsedRealtime();
+    }
+  }
+}
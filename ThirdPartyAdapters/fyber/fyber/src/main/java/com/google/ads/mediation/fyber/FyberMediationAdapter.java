@@ -78,6 +78,12 @@ public class FyberMediationAdapter extends Adapter
    */
   static final String KEY_SPOT_ID = "spotId";
 
+  /**
+   * Mediation extras key to keep the banner spot and wrapper view alive after the banner is
+   * destroyed, so that the next banner request for the same spot ID reuses them.
+   */
+  public static final String KEY_REUSE_BANNER_SPOT = "reuseBannerSpot";
+
   /**
    * Requested banner ad size.
    */
@@ -93,6 +99,21 @@ public class FyberMediationAdapter extends Adapter
    */
   private ViewGroup mBannerWrapperView;
 
+  /**
+   * Spot ID of the banner, set when the banner spot should be cached for reuse once destroyed.
+   */
+  private String mReusableBannerSpotId;
+
+  /**
+   * Times the banner ad load.
+   */
+  private LoadLatencyMetrics.LoadTrace mBannerLoadTrace;
+
+  /**
+   * Times the interstitial ad load.
+   */
+  private LoadLatencyMetrics.LoadTrace mInterstitialLoadTrace;
+
   /**
    * AdMob's external Banner listener.
    */
@@ -167,7 +188,11 @@ public class FyberMediationAdapter extends Adapter
    */
   public void loadRewardedAd(final MediationRewardedAdConfiguration configuration,
       @NonNull final MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback> callback) {
-    // Sometimes loadRewardedAd is called before initialize.
+    final LoadLatencyMetrics.LoadTrace loadTrace =
+        LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_REWARDED);
+
+    // Sometimes loadRewardedAd is called before initialize. The initializer completes immediately
+    // once the SDK has been initialized.
     String keyAppID = configuration.getServerParameters().getString(KEY_APP_ID);
     if (TextUtils.isEmpty(keyAppID)) {
       AdError error = new AdError(ERROR_INVALID_SERVER_PARAMETERS, "App ID is null or empty.",
@@ -177,17 +202,19 @@ public class FyberMediationAdapter extends Adapter
       return;
     }
 
-    InneractiveAdManager.initialize(configuration.getContext(), keyAppID,
+    FyberInitializer.getInstance().initialize(configuration.getContext(), keyAppID,
         new OnFyberMarketplaceInitializedListener() {
           @Override
           public void onFyberMarketplaceInitialized(FyberInitStatus fyberInitStatus) {
+            loadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
             if (fyberInitStatus != FyberInitStatus.SUCCESSFULLY) {
               AdError error = getAdError(fyberInitStatus);
               Log.w(TAG, error.getMessage());
               callback.onFailure(error);
               return;
             }
-            mRewardedRenderer = new FyberRewardedVideoRenderer(configuration, callback);
+            mRewardedRenderer =
+                new FyberRewardedVideoRenderer(configuration, callback, loadTrace);
             mRewardedRenderer.render();
           }
         });
@@ -197,12 +224,6 @@ public class FyberMediationAdapter extends Adapter
   public void initialize(@NonNull Context context,
       @NonNull final InitializationCompleteCallback completionCallback,
       @NonNull List<MediationConfiguration> mediationConfigurations) {
-    // Initialize only once.
-    if (InneractiveAdManager.wasInitialized()) {
-      completionCallback.onInitializationSucceeded();
-      return;
-    }
-
     List<String> configuredAppIds = new ArrayList<>();
     for (MediationConfiguration configuration : mediationConfigurations) {
       Bundle serverParameters = configuration.getServerParameters();
@@ -241,7 +262,7 @@ public class FyberMediationAdapter extends Adapter
       return;
     }
 
-    InneractiveAdManager.initialize(context, appIdForInitialization,
+    FyberInitializer.getInstance().initialize(context, appIdForInitialization,
         new OnFyberMarketplaceInitializedListener() {
           @Override
           public void onFyberMarketplaceInitialized(FyberInitStatus fyberInitStatus) {
@@ -301,6 +322,7 @@ public class FyberMediationAdapter extends Adapter
       final Bundle serverParameters, @NonNull final AdSize adSize,
       @NonNull MediationAdRequest mediationAdRequest, @Nullable final Bundle mediationExtras) {
     mMediationBannerListener = mediationBannerListener;
+    mBannerLoadTrace = LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_BANNER);
     String keyAppId = serverParameters.getString(KEY_APP_ID);
     if (TextUtils.isEmpty(keyAppId)) {
       AdError error = new AdError(ERROR_INVALID_SERVER_PARAMETERS, "App ID is null or empty.",
@@ -310,9 +332,10 @@ public class FyberMediationAdapter extends Adapter
       return;
     }
 
-    InneractiveAdManager.initialize(context, keyAppId, new OnFyberMarketplaceInitializedListener() {
+    FyberInitializer.getInstance().initialize(context, keyAppId, new OnFyberMarketplaceInitializedListener() {
       @Override
       public void onFyberMarketplaceInitialized(FyberInitStatus fyberInitStatus) {
+        mBannerLoadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
         if (fyberInitStatus != FyberInitStatus.SUCCESSFULLY) {
           AdError error = getAdError(fyberInitStatus);
           Log.w(TAG, error.getMessage());
@@ -331,14 +354,29 @@ public class FyberMediationAdapter extends Adapter
           return;
         }
 
-        mBannerSpot = InneractiveAdSpotManager.get().createSpot();
-        mBannerSpot.setMediationName(MEDIATOR_NAME);
-
-        InneractiveAdViewUnitController controller = new InneractiveAdViewUnitController();
-        mBannerSpot.addUnitController(controller);
-
-        // Prepare wrapper view before making request.
-        mBannerWrapperView = new RelativeLayout(context);
+        boolean reuseSpot = mediationExtras != null
+            && mediationExtras.getBoolean(KEY_REUSE_BANNER_SPOT, false);
+        FyberBannerSpotCache.Entry cachedSpot =
+            reuseSpot ? FyberBannerSpotCache.getInstance().acquire(spotId, context) : null;
+        if (cachedSpot != null) {
+          mBannerSpot = cachedSpot.spot;
+          mBannerWrapperView = cachedSpot.wrapperView;
+        } else {
+          long creationStartTime = System.nanoTime();
+          mBannerSpot = InneractiveAdSpotManager.get().createSpot();
+          mBannerSpot.setMediationName(MEDIATOR_NAME);
+
+          InneractiveAdViewUnitController controller = new InneractiveAdViewUnitController();
+          mBannerSpot.addUnitController(controller);
+
+          // Prepare wrapper view before making request.
+          mBannerWrapperView = new RelativeLayout(context);
+          if (reuseSpot) {
+            FyberBannerSpotCache.getInstance()
+                .recordCreation(System.nanoTime() - creationStartTime);
+          }
+        }
+        mReusableBannerSpotId = reuseSpot ? spotId : null;
 
         InneractiveAdSpot.RequestListener requestListener = createFyberBannerAdListener();
         mBannerSpot.setRequestListener(requestListener);
@@ -349,6 +387,7 @@ public class FyberMediationAdapter extends Adapter
             .generateUserConfig(mediationExtras);
         request.setUserParams(inneractiveUserConfig);
         mBannerSpot.requestAd(request);
+        mBannerLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
       }
     });
   }
@@ -362,7 +401,13 @@ public class FyberMediationAdapter extends Adapter
   @Override
   public void onDestroy() {
     if (mBannerSpot != null) {
-      mBannerSpot.destroy();
+      if (mReusableBannerSpotId != null) {
+        FyberBannerSpotCache.getInstance()
+            .release(mReusableBannerSpotId, mBannerSpot, mBannerWrapperView);
+        mReusableBannerSpotId = null;
+      } else {
+        mBannerSpot.destroy();
+      }
       mBannerSpot = null;
     }
 
@@ -397,6 +442,8 @@ public class FyberMediationAdapter extends Adapter
     return new InneractiveAdSpot.RequestListener() {
       @Override
       public void onInneractiveSuccessfulAdRequest(InneractiveAdSpot adSpot) {
+        mBannerLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
+
         // Just a double check that we have the right type of selected controller.
         if (!(mBannerSpot.getSelectedUnitController() instanceof
             InneractiveAdViewUnitController)) {
@@ -408,6 +455,7 @@ public class FyberMediationAdapter extends Adapter
           mMediationBannerListener
               .onAdFailedToLoad(FyberMediationAdapter.this, error);
           mBannerSpot.destroy();
+          mReusableBannerSpotId = null;
         }
 
         InneractiveAdViewUnitController controller =
@@ -422,6 +470,9 @@ public class FyberMediationAdapter extends Adapter
         int fyberAdWidth = Math.round(controller.getAdContentWidth() / density);
         int fyberAdHeight = Math.round(controller.getAdContentHeight() / density);
 
+        // The only candidate is the size of the creative Fyber returned, which can change with
+        // every response, so there is no fixed size table to cache here. This also runs once per
+        // loaded ad rather than per request.
         ArrayList<AdSize> potentials = new ArrayList<>();
         potentials.add(new AdSize(fyberAdWidth, fyberAdHeight));
         AdSize supportedAdSize = MediationUtils
@@ -438,6 +489,7 @@ public class FyberMediationAdapter extends Adapter
           return;
         }
         mMediationBannerListener.onAdLoaded(FyberMediationAdapter.this);
+        mBannerLoadTrace.finish();
       }
 
       @Override
@@ -492,6 +544,7 @@ public class FyberMediationAdapter extends Adapter
       @NonNull final Bundle mediationExtras) {
 
     mMediationInterstitialListener = mediationInterstitialListener;
+    mInterstitialLoadTrace = LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_INTERSTITIAL);
 
     String keyAppId = serverParameters.getString(KEY_APP_ID);
     AdError error = new AdError(ERROR_INVALID_SERVER_PARAMETERS, "App ID is null or empty.",
@@ -503,9 +556,10 @@ public class FyberMediationAdapter extends Adapter
       return;
     }
 
-    InneractiveAdManager.initialize(context, keyAppId, new OnFyberMarketplaceInitializedListener() {
+    FyberInitializer.getInstance().initialize(context, keyAppId, new OnFyberMarketplaceInitializedListener() {
       @Override
       public void onFyberMarketplaceInitialized(FyberInitStatus fyberInitStatus) {
+        mInterstitialLoadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
         if (fyberInitStatus != FyberInitStatus.SUCCESSFULLY) {
           AdError error = getAdError(fyberInitStatus);
           Log.w(TAG, error.getMessage());
@@ -542,6 +596,7 @@ public class FyberMediationAdapter extends Adapter
             .generateUserConfig(mediationExtras);
         request.setUserParams(inneractiveUserConfig);
         mInterstitialSpot.requestAd(request);
+        mInterstitialLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
       }
     });
   }
@@ -580,6 +635,7 @@ public class FyberMediationAdapter extends Adapter
     return new InneractiveAdSpot.RequestListener() {
       @Override
       public void onInneractiveSuccessfulAdRequest(InneractiveAdSpot adSpot) {
+        mInterstitialLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
         if (!(mInterstitialSpot.getSelectedUnitController() instanceof
             InneractiveFullscreenUnitController)) {
           String message = String.format("Unexpected controller type. Expected: %s. Actual: %s",
@@ -597,6 +653,7 @@ public class FyberMediationAdapter extends Adapter
         controller.setEventsListener(listener);
 
         mMediationInterstitialListener.onAdLoaded(FyberMediationAdapter.this);
+        mInterstitialLoadTrace.finish();
       }
 
       @Override
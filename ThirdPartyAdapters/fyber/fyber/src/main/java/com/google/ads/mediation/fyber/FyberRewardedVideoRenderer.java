@@ -55,16 +55,24 @@ public class FyberRewardedVideoRenderer implements MediationRewardedAd {
   private InneractiveAdSpot mRewardedSpot;
   private InneractiveFullscreenUnitController mUnitController;
 
+  /**
+   * Times the rewarded ad load.
+   */
+  private final LoadLatencyMetrics.LoadTrace mLoadTrace;
+
   /**
    * Constructor.
    *
    * @param adConfiguration AdMob interstitial ad configuration.
    * @param adLoadCallback  AdMob load callback.
+   * @param loadTrace       times the ad load.
    */
   FyberRewardedVideoRenderer(MediationRewardedAdConfiguration adConfiguration,
-      MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback> adLoadCallback) {
+      MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback> adLoadCallback,
+      LoadLatencyMetrics.LoadTrace loadTrace) {
     mAdConfiguration = adConfiguration;
     mAdLoadCallback = adLoadCallback;
+    mLoadTrace = loadTrace;
   }
 
   void render() {
@@ -93,15 +101,18 @@ public class FyberRewardedVideoRenderer implements MediationRewardedAd {
         .generateUserConfig(mAdConfiguration.getMediationExtras());
     request.setUserParams(inneractiveUserConfig);
     mRewardedSpot.requestAd(request);
+    mLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
   }
 
   private InneractiveAdSpot.RequestListener createRequestListener() {
     return new InneractiveAdSpot.RequestListener() {
       @Override
       public void onInneractiveSuccessfulAdRequest(InneractiveAdSpot adSpot) {
+        mLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
         // Report load success to AdMob, and cache the returned callback for a later use
         mRewardedAdCallback = mAdLoadCallback.onSuccess(FyberRewardedVideoRenderer.this);
         registerFyberAdListener(mUnitController);
+        mLoadTrace.finish();
       }
 
       @Override
@@ -13,13 +13,11 @@ import android.view.ViewGroup;
 import android.widget.FrameLayout;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
-import com.google.android.gms.ads.MediationUtils;
 import com.google.android.gms.ads.mediation.MediationAdRequest;
 import com.google.android.gms.ads.mediation.MediationBannerAdapter;
 import com.google.android.gms.ads.mediation.MediationBannerListener;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdapter;
 import com.google.android.gms.ads.mediation.MediationInterstitialListener;
-import java.util.ArrayList;
 import jp.co.imobile.sdkads.android.AdMobMediationSupportAdSize;
 import jp.co.imobile.sdkads.android.FailNotificationReason;
 import jp.co.imobile.sdkads.android.ImobileSdkAd;
@@ -51,15 +49,16 @@ public final class IMobileAdapter implements MediationBannerAdapter, MediationIn
   /**
    * Supported ad sizes.
    */
-  private static final ArrayList<AdSize> supportedSizes;
+  private static final AdSizeResolver supportedSizes;
 
   static {
     // Initialize static fields.
     AdMobMediationSupportAdSize[] iMobileAdSizes = AdMobMediationSupportAdSize.values();
-    supportedSizes = new ArrayList<>();
-    for (AdMobMediationSupportAdSize adSize : iMobileAdSizes) {
-      supportedSizes.add(new AdSize(adSize.getWidth(), adSize.getHeight()));
+    AdSize[] adSizes = new AdSize[iMobileAdSizes.length];
+    for (int i = 0; i < iMobileAdSizes.length; i++) {
+      adSizes[i] = new AdSize(iMobileAdSizes[i].getWidth(), iMobileAdSizes[i].getHeight());
     }
+    supportedSizes = new AdSizeResolver(adSizes);
   }
   // endregion
 
@@ -83,7 +82,7 @@ public final class IMobileAdapter implements MediationBannerAdapter, MediationIn
     }
 
     // Validate AdSize.
-    AdSize supportedAdSize = MediationUtils.findClosestSize(context, adSize, supportedSizes);
+    AdSize supportedAdSize = supportedSizes.resolve(context, adSize);
     if (supportedAdSize == null) {
       AdError error = new AdError(ERROR_BANNER_SIZE_MISMATCH,
           "Ad size" + adSize.toString() + "is not supported.", ERROR_DOMAIN);
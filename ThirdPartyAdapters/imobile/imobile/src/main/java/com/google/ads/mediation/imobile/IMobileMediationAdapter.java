@@ -6,6 +6,7 @@ import android.graphics.Bitmap;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.util.Log;
 import androidx.annotation.IntDef;
 import com.google.android.gms.ads.AdError;
@@ -147,19 +148,48 @@ public final class IMobileMediationAdapter extends Adapter implements MediationN
     this.mediationNativeListener = listener;
 
     // Get parameters for i-mobile SDK.
-    String publisherId = serverParameters.getString(Constants.KEY_PUBLISHER_ID);
-    String mediaId = serverParameters.getString(Constants.KEY_MEDIA_ID);
-    String spotId = serverParameters.getString(Constants.KEY_SPOT_ID);
+    final String publisherId = serverParameters.getString(Constants.KEY_PUBLISHER_ID);
+    final String mediaId = serverParameters.getString(Constants.KEY_MEDIA_ID);
+    final String spotId = serverParameters.getString(Constants.KEY_SPOT_ID);
 
+    // Serve the request from the surplus ads of a previous request, if any.
+    final NativeAdBuffer.BufferedAd bufferedAd =
+        NativeAdBuffer.getInstance().poll(activity, publisherId, mediaId, spotId);
+    if (bufferedAd != null) {
+      bufferedAd.loadImage(
+          new NativeAdBuffer.ImageCallback() {
+            @Override
+            public void onImageLoaded(Bitmap image) {
+              onNativeAdImageLoaded(activity, bufferedAd.getAdData(), image);
+            }
+
+            @Override
+            public void onImageTimedOut() {
+              Log.d(TAG, "Timed out loading the image of a buffered native ad.");
+              if (mediationNativeListener != null) {
+                fetchNativeAd(activity, publisherId, mediaId, spotId);
+              }
+            }
+          });
+      return;
+    }
+
+    fetchNativeAd(activity, publisherId, mediaId, spotId);
+  }
+
+  private void fetchNativeAd(final Activity activity, final String publisherId,
+      final String mediaId, final String spotId) {
     // Call i-mobile SDK.
-    ImobileSdkAd.registerSpotInline(activity, publisherId, mediaId, spotId);
-    ImobileSdkAd.start(spotId);
+    SpotRegistry.getInstance().registerInlineSpot(activity, publisherId, mediaId, spotId);
+    final long fetchStartMillis = SystemClock.elapsedRealtime();
     ImobileSdkAd.getNativeAdData(
         activity,
         spotId,
         new ImobileSdkAdListener() {
           @Override
           public void onNativeAdDataReciveCompleted(List<ImobileSdkAdsNativeAdData> adDataList) {
+            SpotRegistry.getInstance()
+                .onFetched(spotId, SystemClock.elapsedRealtime() - fetchStartMillis);
             if (mediationNativeListener == null) {
               return;
             }
@@ -174,21 +204,24 @@ public final class IMobileMediationAdapter extends Adapter implements MediationN
             }
 
             final ImobileSdkAdsNativeAdData adData = adDataList.get(0);
+            if (adDataList.size() > 1) {
+              NativeAdBuffer.getInstance()
+                  .offer(activity, publisherId, mediaId, spotId,
+                      adDataList.subList(1, adDataList.size()));
+            }
             adData.getAdImage(
                 activity,
                 new ImobileSdkAdListener() {
                   @Override
                   public void onNativeAdImageReciveCompleted(Bitmap image) {
-                    Drawable drawable = new BitmapDrawable(activity.getResources(), image);
-                    mediationNativeListener.onAdLoaded(
-                        IMobileMediationAdapter.this,
-                        new IMobileUnifiedNativeAdMapper(adData, drawable));
+                    onNativeAdImageLoaded(activity, adData, image);
                   }
                 });
           }
 
           @Override
           public void onFailed(FailNotificationReason reason) {
+            SpotRegistry.getInstance().unregisterInlineSpot(publisherId, mediaId, spotId);
             AdError error = AdapterHelper.getAdError(reason);
             Log.w(TAG, error.getMessage());
             if (mediationNativeListener != null) {
@@ -197,6 +230,16 @@ public final class IMobileMediationAdapter extends Adapter implements MediationN
           }
         });
   }
+
+  private void onNativeAdImageLoaded(
+      Activity activity, ImobileSdkAdsNativeAdData adData, Bitmap image) {
+    if (mediationNativeListener == null) {
+      return;
+    }
+    Drawable drawable = new BitmapDrawable(activity.getResources(), image);
+    mediationNativeListener.onAdLoaded(
+        this, new IMobileUnifiedNativeAdMapper(adData, drawable));
+  }
   // endregion
 
   // region - Methods of life cycle.
@@ -0,0 +1,312 @@
+package com.google.ads.mediation.imobile;
+
+import android.app.Activity;
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import jp.co.imobile.sdkads.android.ImobileSdkAdListener;
+import jp.co.imobile.sdkads.android.ImobileSdkAdsNativeAdData;
+
+/**
+ * Buffer of the surplus native ads returned by i-mobile. {@code getNativeAdData} returns a list of
+ * ads of which only the first one is used by a request; the others are buffered per publisher ID,
+ * media ID and spot ID, like the spots of {@link SpotRegistry}, and serve subsequent native
+ * requests for that spot without an ad request. Their images are prefetched with the requesting
+ * activity as soon as they are buffered, so a buffered ad is only served to that same activity;
+ * ads buffered for another activity, or for one that is finishing, are discarded instead. Buffered
+ * ads older than the maximum age are discarded as well.
+ *
+ * <p>If i-mobile does not deliver an image within {@link #IMAGE_TIMEOUT_MILLIS}, the request
+ * waiting for it is told so, and the image is loaded again for the next request.
+ */
+public final class NativeAdBuffer {
+
+  /**
+   * Default maximum number of buffered ads per spot.
+   */
+  public static final int DEFAULT_MAX_ADS_PER_SPOT = 5;
+
+  /**
+   * Default maximum age of a buffered ad.
+   */
+  public static final long DEFAULT_MAX_AGE_MILLIS = 30 * 60 * 1000;
+
+  /**
+   * Time to wait for i-mobile to deliver the image of a buffered ad.
+   */
+  public static final long IMAGE_TIMEOUT_MILLIS = 10 * 1000;
+
+  private static final NativeAdBuffer instance = new NativeAdBuffer();
+
+  /**
+   * Buffered ads per publisher ID, media ID and spot ID, oldest first.
+   */
+  private final HashMap<String, LinkedList<BufferedAd>> bufferedAds = new HashMap<>();
+
+  private int maxAdsPerSpot = DEFAULT_MAX_ADS_PER_SPOT;
+  private long maxAgeMillis = DEFAULT_MAX_AGE_MILLIS;
+  private long hitCount;
+  private long missCount;
+
+  public static NativeAdBuffer getInstance() {
+    return instance;
+  }
+
+  private NativeAdBuffer() {
+  }
+
+  /**
+   * Sets the maximum number of ads to buffer per spot. A value of 0 disables the buffer and
+   * discards any buffered ads.
+   */
+  public synchronized void setMaxAdsPerSpot(int maxAdsPerSpot) {
+    this.maxAdsPerSpot = Math.max(0, maxAdsPerSpot);
+    if (this.maxAdsPerSpot == 0) {
+      bufferedAds.clear();
+    }
+  }
+
+  /**
+   * Sets the age after which a buffered ad is considered expired and is no longer served.
+   */
+  public synchronized void setMaxAgeMillis(long maxAgeMillis) {
+    this.maxAgeMillis = maxAgeMillis;
+  }
+
+  /**
+   * Returns the number of native requests served from the buffer.
+   */
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Returns the number of native requests made while the buffer was enabled that could not be
+   * served from it.
+   */
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Returns the fraction of native requests, between 0 and 1, served from the buffer.
+   */
+  public synchronized float getHitRate() {
+    long requests = hitCount + missCount;
+    return requests == 0 ? 0 : (float) hitCount / requests;
+  }
+
+  /**
+   * Discards all buffered ads.
+   */
+  public synchronized void clear() {
+    bufferedAds.clear();
+  }
+
+  /**
+   * Removes and returns an ad buffered for the given spot and activity, or returns {@code null} if
+   * there is none.
+   */
+  @Nullable
+  synchronized BufferedAd poll(@NonNull Activity activity, String publisherId, String mediaId,
+      String spotId) {
+    if (maxAdsPerSpot == 0) {
+      return null;
+    }
+
+    LinkedList<BufferedAd> ads = bufferedAds.get(SpotRegistry.getKey(publisherId, mediaId, spotId));
+    long now = SystemClock.elapsedRealtime();
+    while (ads != null && !ads.isEmpty()) {
+      BufferedAd candidate = ads.removeFirst();
+      if (candidate.isBufferedFor(activity)
+          && now - candidate.bufferedAtMillis <= maxAgeMillis) {
+        hitCount++;
+        return candidate;
+      }
+    }
+    missCount++;
+    return null;
+  }
+
+  /**
+   * Buffers the given surplus ads of the given spot, up to the maximum number of ads per spot, and
+   * starts loading their images with the given activity. Ads buffered for other activities are
+   * discarded.
+   */
+  void offer(@NonNull Activity activity, String publisherId, String mediaId, String spotId,
+      @NonNull List<ImobileSdkAdsNativeAdData> adDataList) {
+    List<BufferedAd> accepted = new ArrayList<>();
+    synchronized (this) {
+      String key = SpotRegistry.getKey(publisherId, mediaId, spotId);
+      LinkedList<BufferedAd> ads = bufferedAds.get(key);
+      if (ads == null) {
+        ads = new LinkedList<>();
+        bufferedAds.put(key, ads);
+      }
+      Iterator<BufferedAd> iterator = ads.iterator();
+      while (iterator.hasNext()) {
+        if (!iterator.next().isBufferedFor(activity)) {
+          iterator.remove();
+        }
+      }
+      long now = SystemClock.elapsedRealtime();
+      for (ImobileSdkAdsNativeAdData adData : adDataList) {
+        if (ads.size() >= maxAdsPerSpot) {
+          break;
+        }
+        BufferedAd bufferedAd = new BufferedAd(activity, adData, now);
+        ads.add(bufferedAd);
+        accepted.add(bufferedAd);
+      }
+    }
+
+    for (BufferedAd bufferedAd : accepted) {
+      bufferedAd.loadImage(null);
+    }
+  }
+
+  /**
+   * Receives the image of a buffered ad.
+   */
+  interface ImageCallback {
+
+    void onImageLoaded(@NonNull Bitmap image);
+
+    /**
+     * Called if i-mobile did not deliver the image within {@link #IMAGE_TIMEOUT_MILLIS}.
+     */
+    void onImageTimedOut();
+  }
+
+  /**
+   * A buffered ad, and its image once loaded.
+   */
+  static final class BufferedAd {
+
+    private final WeakReference<Activity> activity;
+    private final ImobileSdkAdsNativeAdData adData;
+    private final long bufferedAtMillis;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    @Nullable
+    private Bitmap image;
+
+    /**
+     * Fails the pending image callbacks while an image is loading, {@code null} otherwise.
+     */
+    @Nullable
+    private Runnable imageTimeout;
+
+    /**
+     * Callbacks waiting for the image to be loaded.
+     */
+    private final List<ImageCallback> imageCallbacks = new ArrayList<>();
+
+    private BufferedAd(@NonNull Activity activity, @NonNull ImobileSdkAdsNativeAdData adData,
+        long bufferedAtMillis) {
+      this.activity = new WeakReference<>(activity);
+      this.adData = adData;
+      this.bufferedAtMillis = bufferedAtMillis;
+    }
+
+    private boolean isBufferedFor(@NonNull Activity requestingActivity) {
+      return activity.get() == requestingActivity && !requestingActivity.isFinishing();
+    }
+
+    @NonNull
+    ImobileSdkAdsNativeAdData getAdData() {
+      return adData;
+    }
+
+    /**
+     * Passes the ad's image to the given callback, loading it first with the activity the ad was
+     * buffered for if it has not been loaded yet.
+     */
+    void loadImage(@Nullable ImageCallback callback) {
+      Bitmap loadedImage;
+      final Runnable timeout;
+      synchronized (this) {
+        loadedImage = image;
+        if (loadedImage == null) {
+          if (callback != null) {
+            imageCallbacks.add(callback);
+          }
+          if (imageTimeout != null) {
+            return;
+          }
+          timeout = new Runnable() {
+            @Override
+            public void run() {
+              onImageTimedOut(this);
+            }
+          };
+          imageTimeout = timeout;
+        } else {
+          timeout = null;
+        }
+      }
+
+      if (loadedImage != null) {
+        if (callback != null) {
+          callback.onImageLoaded(loadedImage);
+        }
+        return;
+      }
+
+      Activity imageActivity = activity.get();
+      if (imageActivity == null) {
+        onImageTimedOut(timeout);
+        return;
+      }
+      handler.postDelayed(timeout, IMAGE_TIMEOUT_MILLIS);
+      adData.getAdImage(
+          imageActivity,
+          new ImobileSdkAdListener() {
+            @Override
+            public void onNativeAdImageReciveCompleted(Bitmap loaded) {
+              List<ImageCallback> callbacks;
+              synchronized (BufferedAd.this) {
+                image = loaded;
+                if (imageTimeout == timeout) {
+                  imageTimeout = null;
+                }
+                callbacks = new ArrayList<>(imageCallbacks);
+                imageCallbacks.clear();
+              }
+              handler.removeCallbacks(timeout);
+              for (ImageCallback imageCallback : callbacks) {
+                imageCallback.onImageLoaded(loaded);
+              }
+            }
+          });
+    }
+
+    /**
+     * Fails the callbacks waiting for the load that the given timeout belongs to, so that the next
+     * request loads the image again.
+     */
+    private void onImageTimedOut(@NonNull Runnable timeout) {
+      List<ImageCallback> callbacks;
+      synchronized (this) {
+        if (imageTimeout != timeout) {
+          return;
+        }
+        imageTimeout = null;
+        callbacks = new ArrayList<>(imageCallbacks);
+        imageCallbacks.clear();
+      }
+      for (ImageCallback imageCallback : callbacks) {
+        imageCallback.onImageTimedOut();
+      }
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.google.ads.mediation.imobile;
+
+import android.app.Activity;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import jp.co.imobile.sdkads.android.ImobileSdkAd;
+
+/**
+ * Registers and starts i-mobile inline spots once per process. A spot that is already registered
+ * and started for the requesting activity is not registered again, so that requests for it go
+ * straight to fetching an ad. A spot is registered again when it is requested from another
+ * activity, or when the activity it was registered with has been destroyed.
+ *
+ * <p>Also keeps the time spent registering spots and fetching ads, to compare the two.
+ */
+public final class SpotRegistry {
+
+  private static final String TAG = SpotRegistry.class.getSimpleName();
+
+  private static final SpotRegistry instance = new SpotRegistry();
+
+  /**
+   * The activity each spot was last registered with, keyed by publisher ID, media ID and spot ID.
+   */
+  private final HashMap<String, WeakReference<Activity>> registeredSpots = new HashMap<>();
+
+  private long registrationCount;
+  private long skippedRegistrationCount;
+  private long totalRegistrationMillis;
+  private long fetchCount;
+  private long totalFetchMillis;
+
+  public static SpotRegistry getInstance() {
+    return instance;
+  }
+
+  private SpotRegistry() {
+  }
+
+  /**
+   * Returns the number of times a spot was registered and started.
+   */
+  public synchronized long getRegistrationCount() {
+    return registrationCount;
+  }
+
+  /**
+   * Returns the number of requests that skipped registration because their spot was already
+   * started.
+   */
+  public synchronized long getSkippedRegistrationCount() {
+    return skippedRegistrationCount;
+  }
+
+  /**
+   * Returns the average time, in milliseconds, spent registering and starting a spot.
+   */
+  public synchronized long getAverageRegistrationMillis() {
+    return registrationCount == 0 ? 0 : totalRegistrationMillis / registrationCount;
+  }
+
+  /**
+   * Returns the average time, in milliseconds, between requesting native ad data and receiving
+   * it.
+   */
+  public synchronized long getAverageFetchMillis() {
+    return fetchCount == 0 ? 0 : totalFetchMillis / fetchCount;
+  }
+
+  /**
+   * Forgets all registered spots, so that they are registered again on their next request.
+   */
+  public synchronized void clear() {
+    registeredSpots.clear();
+  }
+
+  /**
+   * Registers and starts the given inline spot, unless it is already registered with the given
+   * activity.
+   */
+  void registerInlineSpot(@NonNull Activity activity, String publisherId, String mediaId,
+      String spotId) {
+    String key = getKey(publisherId, mediaId, spotId);
+    synchronized (this) {
+      WeakReference<Activity> registeredActivity = registeredSpots.get(key);
+      if (registeredActivity != null && registeredActivity.get() == activity
+          && !activity.isFinishing()) {
+        skippedRegistrationCount++;
+        return;
+      }
+      registeredSpots.put(key, new WeakReference<>(activity));
+    }
+
+    long startMillis = SystemClock.elapsedRealtime();
+    ImobileSdkAd.registerSpotInline(activity, publisherId, mediaId, spotId);
+    ImobileSdkAd.start(spotId);
+    long registrationMillis = SystemClock.elapsedRealtime() - startMillis;
+    synchronized (this) {
+      registrationCount++;
+      totalRegistrationMillis += registrationMillis;
+    }
+    Log.d(TAG, "Registered i-mobile spot " + spotId + " in " + registrationMillis + "ms.");
+  }
+
+  /**
+   * Forgets the given spot after a failed request, so that it is registered again on its next
+   * request.
+   */
+  synchronized void unregisterInlineSpot(String publisherId, String mediaId, String spotId) {
+    registeredSpots.remove(getKey(publisherId, mediaId, spotId));
+  }
+
+  /**
+   * Records the time taken to fetch native ad data.
+   */
+  void onFetched(@NonNull String spotId, long fetchMillis) {
+    synchronized (this) {
+      fetchCount++;
+      totalFetchMillis += fetchMillis;
+    }
+    Log.d(TAG, "Fetched i-mobile native ad data for spot " + spotId + " in " + fetchMillis
+        + "ms.");
+  }
+
+  /**
+   * Returns the key of the given spot, unique per publisher ID, media ID and spot ID.
+   */
+  static String getKey(String publisherId, String mediaId, String spotId) {
+    return publisherId + "/" + mediaId + "/" + spotId;
+  }
+}
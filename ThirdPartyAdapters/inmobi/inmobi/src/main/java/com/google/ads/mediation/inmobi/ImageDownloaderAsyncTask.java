@@ -82,7 +82,13 @@ class ImageDownloaderAsyncTask extends AsyncTask<Object, Void, HashMap<String, D
 
       public Drawable call() throws Exception {
         InputStream in = url.openStream();
-        Bitmap bitmap = BitmapFactory.decodeStream(in);
+        AdapterTrace.beginSection("decodeImage");
+        Bitmap bitmap;
+        try {
+          bitmap = BitmapFactory.decodeStream(in);
+        } finally {
+          AdapterTrace.endSection();
+        }
         // Defaulting to a scale of 1.
         bitmap.setDensity(DisplayMetrics.DENSITY_DEFAULT);
         return new BitmapDrawable(Resources.getSystem(), bitmap);
@@ -12,7 +12,6 @@ import androidx.annotation.Nullable;
 import com.google.ads.mediation.inmobi.InMobiInitializer.Listener;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
-import com.google.android.gms.ads.MediationUtils;
 import com.google.android.gms.ads.mediation.MediationAdRequest;
 import com.google.android.gms.ads.mediation.MediationBannerAdapter;
 import com.google.android.gms.ads.mediation.MediationBannerListener;
@@ -33,7 +32,6 @@ import com.inmobi.ads.listeners.BannerAdEventListener;
 import com.inmobi.ads.listeners.InterstitialAdEventListener;
 import com.inmobi.ads.listeners.NativeAdEventListener;
 import com.inmobi.ads.listeners.VideoEventListener;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -47,6 +45,15 @@ public final class InMobiAdapter extends InMobiMediationAdapter
 
   private static final String TAG = InMobiAdapter.class.getSimpleName();
 
+  /*
+      Supported Sizes (ref: https://www.inmobi.com/ui/pdfs/ad-specs.pdf)
+      320x50,
+      300x250,
+      728x90.
+   */
+  private static final AdSizeResolver SUPPORTED_AD_SIZES = new AdSizeResolver(
+      new AdSize(320, 50), new AdSize(300, 250), new AdSize(728, 90));
+
   // Callback listeners.
   private MediationBannerListener mBannerListener;
   private MediationInterstitialListener mInterstitialListener;
@@ -55,6 +62,10 @@ public final class InMobiAdapter extends InMobiMediationAdapter
   private InMobiInterstitial mAdInterstitial;
   private FrameLayout mWrappedAdView;
 
+  // Cookies of the async trace sections spanning the in-flight banner and interstitial loads.
+  private int mBannerLoadTraceCookie;
+  private int mInterstitialLoadTraceCookie;
+
   private static Boolean sDisableHardwareFlag = false;
 
   private NativeMediationAdRequest mNativeMedAdReq;
@@ -121,18 +132,7 @@ public final class InMobiAdapter extends InMobiMediationAdapter
 
   @Nullable
   private AdSize getSupportedAdSize(@NonNull Context context, @NonNull AdSize adSize) {
-    /*
-        Supported Sizes (ref: https://www.inmobi.com/ui/pdfs/ad-specs.pdf)
-        320x50,
-        300x250,
-        728x90.
-     */
-
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(new AdSize(320, 50));
-    potentials.add(new AdSize(300, 250));
-    potentials.add(new AdSize(728, 90));
-    return MediationUtils.findClosestSize(context, adSize, potentials);
+    return SUPPORTED_AD_SIZES.resolve(context, adSize);
   }
 
   @Override
@@ -289,6 +289,7 @@ public final class InMobiAdapter extends InMobiMediationAdapter
       @Override
       public void onAdLoadSucceeded(@NonNull InMobiBanner inMobiBanner,
           @NonNull AdMetaInfo adMetaInfo) {
+        AdapterTrace.endAsyncSection("loadBannerAd", mBannerLoadTraceCookie);
         Log.d(TAG, "InMobi banner has been loaded.");
         mBannerListener.onAdLoaded(InMobiAdapter.this);
       }
@@ -296,6 +297,7 @@ public final class InMobiAdapter extends InMobiMediationAdapter
       @Override
       public void onAdLoadFailed(@NonNull InMobiBanner inMobiBanner,
           @NonNull InMobiAdRequestStatus requestStatus) {
+        AdapterTrace.endAsyncSection("loadBannerAd", mBannerLoadTraceCookie);
         AdError error = new AdError(InMobiAdapterUtils.getMediationErrorCode(requestStatus),
             requestStatus.getMessage(), INMOBI_SDK_ERROR_DOMAIN);
         Log.w(TAG, error.getMessage());
@@ -343,6 +345,7 @@ public final class InMobiAdapter extends InMobiMediationAdapter
     InMobiAdapterUtils.setGlobalTargeting(mediationAdRequest, mediationExtras);
 
     Log.d(TAG, "Requesting banner with ad size: " + mediationAdSize.toString());
+    mBannerLoadTraceCookie = AdapterTrace.beginAsyncSection("loadBannerAd");
     adView.load();
   }
 
@@ -390,6 +393,7 @@ public final class InMobiAdapter extends InMobiMediationAdapter
             @Override
             public void onAdLoadSucceeded(@NonNull InMobiInterstitial inMobiInterstitial,
                 @NonNull AdMetaInfo adMetaInfo) {
+              AdapterTrace.endAsyncSection("loadInterstitialAd", mInterstitialLoadTraceCookie);
               Log.d(TAG, "InMobi interstitial ad has been loaded.");
               mInterstitialListener.onAdLoaded(InMobiAdapter.this);
             }
@@ -397,6 +401,7 @@ public final class InMobiAdapter extends InMobiMediationAdapter
             @Override
             public void onAdLoadFailed(@NonNull InMobiInterstitial inMobiInterstitial,
                 @NonNull InMobiAdRequestStatus requestStatus) {
+              AdapterTrace.endAsyncSection("loadInterstitialAd", mInterstitialLoadTraceCookie);
               AdError error = new AdError(InMobiAdapterUtils.getMediationErrorCode(requestStatus),
                   requestStatus.getMessage(), INMOBI_SDK_ERROR_DOMAIN);
               Log.w(TAG, error.getMessage());
@@ -453,6 +458,7 @@ public final class InMobiAdapter extends InMobiMediationAdapter
     }
 
     InMobiAdapterUtils.setGlobalTargeting(mediationAdRequest, mediationExtras);
+    mInterstitialLoadTraceCookie = AdapterTrace.beginAsyncSection("loadInterstitialAd");
     mAdInterstitial.load();
   }
 
@@ -468,6 +474,8 @@ public final class InMobiAdapter extends InMobiMediationAdapter
       return;
     }
 
+    final int mediaViewWidth =
+        InMobiAdapterUtils.getMediaViewWidthInPixels(context, mediationExtras);
     try {
       mAdNative = new InMobiNative(context, placement, new NativeAdEventListener() {
         @Override
@@ -486,8 +494,13 @@ public final class InMobiAdapter extends InMobiMediationAdapter
 
           InMobiUnifiedNativeAdMapper inMobiUnifiedNativeAdMapper =
               new InMobiUnifiedNativeAdMapper(InMobiAdapter.this, imNativeAd, mIsOnlyUrl,
-                  mNativeListener);
-          inMobiUnifiedNativeAdMapper.mapUnifiedNativeAd(context);
+                  mediaViewWidth, mNativeListener);
+          AdapterTrace.beginSection("mapUnifiedNativeAd");
+          try {
+            inMobiUnifiedNativeAdMapper.mapUnifiedNativeAd(context);
+          } finally {
+            AdapterTrace.endSection();
+          }
         }
 
         @Override
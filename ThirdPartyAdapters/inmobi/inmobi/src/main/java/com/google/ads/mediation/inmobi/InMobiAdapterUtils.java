@@ -1,10 +1,12 @@
 package com.google.ads.mediation.inmobi;
 
+import android.content.Context;
 import android.os.Build;
 import android.os.Bundle;
 import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import com.google.android.gms.ads.AdRequest;
 import com.google.android.gms.ads.mediation.MediationAdConfiguration;
 import com.google.android.gms.ads.mediation.MediationAdRequest;
@@ -45,6 +47,18 @@ class InMobiAdapterUtils {
     return placement;
   }
 
+  /**
+   * Returns the expected width, in pixels, of native ad media views set with {@link
+   * InMobiNetworkKeys#MEDIA_VIEW_WIDTH}, or 0 if it is not set.
+   */
+  static int getMediaViewWidthInPixels(@NonNull Context context, @Nullable Bundle extras) {
+    int widthDp = extras != null ? extras.getInt(InMobiNetworkKeys.MEDIA_VIEW_WIDTH) : 0;
+    if (widthDp <= 0) {
+      return 0;
+    }
+    return Math.round(widthDp * context.getResources().getDisplayMetrics().density);
+  }
+
   static void setGlobalTargeting(MediationAdRequest mediationAdRequest, Bundle extras) {
     configureGlobalTargeting(extras);
 
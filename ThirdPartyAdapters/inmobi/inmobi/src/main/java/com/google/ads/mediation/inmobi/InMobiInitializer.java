@@ -75,29 +75,36 @@ public class InMobiInitializer {
 
     initializationStatus = INITIALIZING;
 
-    InMobiSdk.init(context, accountID, InMobiConsent.getConsentObj(),
-        new SdkInitializationListener() {
-          @Override
-          public void onInitializationComplete(Error error) {
-            if (error == null) {
-              Log.d(TAG, "InMobi SDK initialized.");
-
-              initializationStatus = INITIALIZED;
-              for (Listener initListener : mListeners) {
-                initListener.onInitializeSuccess();
-              }
-            } else {
-              initializationStatus = UNINITIALIZED;
-
-              AdError initializationError = new AdError(ERROR_INMOBI_FAILED_INITIALIZATION,
-                  error.getLocalizedMessage(), ERROR_DOMAIN);
-              for (Listener initListener : mListeners) {
-                initListener.onInitializeError(initializationError);
+    final int traceCookie = AdapterTrace.beginAsyncSection("initialize");
+    AdapterTrace.beginSection("InMobiSdk.init");
+    try {
+      InMobiSdk.init(context, accountID, InMobiConsent.getConsentObj(),
+          new SdkInitializationListener() {
+            @Override
+            public void onInitializationComplete(Error error) {
+              AdapterTrace.endAsyncSection("initialize", traceCookie);
+              if (error == null) {
+                Log.d(TAG, "InMobi SDK initialized.");
+
+                initializationStatus = INITIALIZED;
+                for (Listener initListener : mListeners) {
+                  initListener.onInitializeSuccess();
+                }
+              } else {
+                initializationStatus = UNINITIALIZED;
+
+                AdError initializationError = new AdError(ERROR_INMOBI_FAILED_INITIALIZATION,
+                    error.getLocalizedMessage(), ERROR_DOMAIN);
+                for (Listener initListener : mListeners) {
+                  initListener.onInitializeError(initializationError);
+                }
               }
+              mListeners.clear();
             }
-            mListeners.clear();
-          }
-        });
+          });
+    } finally {
+      AdapterTrace.endSection();
+    }
   }
 
   interface Listener {
@@ -54,14 +54,16 @@ class InMobiMemoryCache {
       mCache.put(id, drawable);
       mSize += getSizeInBytes(((BitmapDrawable) drawable).getBitmap());
       checkSize();
-      Log.d(TAG, "Drawable used from cache");
+      AdapterLog.log(Log.DEBUG, TAG, "Drawable used from cache");
     } catch (Throwable th) {
       th.printStackTrace();
     }
   }
 
   private void checkSize() {
-    Log.i(TAG, "cache size=" + mSize + " length=" + mCache.size());
+    if (AdapterLog.isLoggable(Log.INFO)) {
+      Log.i(TAG, "cache size=" + mSize + " length=" + mCache.size());
+    }
     if (mSize > mLimit) {
       Iterator<Map.Entry<String, Drawable>> iter = mCache.entrySet().iterator();//least
       // recently accessed item will be the first one iterated
@@ -73,7 +75,9 @@ class InMobiMemoryCache {
           break;
         }
       }
-      Log.i(TAG, "Clean cache. New size " + mCache.size());
+      if (AdapterLog.isLoggable(Log.INFO)) {
+        Log.i(TAG, "Clean cache. New size " + mCache.size());
+      }
     }
   }
 
@@ -22,4 +22,11 @@ public interface InMobiNetworkKeys {
   String STATE = "STATE";
   String COUNTRY = "COUNTRY";
   String LOGLEVEL = "LOGLEVEL";
+
+  /**
+   * Expected width, in dp, of the media views of native ads, as an {@code int}. When set, the
+   * primary view of InMobi native ads is created with this width before the ad is delivered,
+   * instead of after the media view has been laid out.
+   */
+  String MEDIA_VIEW_WIDTH = "MEDIA_VIEW_WIDTH";
 }
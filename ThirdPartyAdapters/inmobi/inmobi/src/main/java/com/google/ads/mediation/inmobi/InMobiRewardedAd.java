@@ -37,6 +37,11 @@ public class InMobiRewardedAd implements MediationRewardedAd {
       mMediationAdLoadCallback;
   private MediationRewardedAdCallback mRewardedAdCallback;
 
+  /**
+   * Cookie of the async trace section spanning the in-flight rewarded ad load.
+   */
+  private int mLoadTraceCookie;
+
   public InMobiRewardedAd(
       @NonNull MediationRewardedAdConfiguration mediationRewardedAdConfiguration,
       @NonNull MediationAdLoadCallback<MediationRewardedAd,
@@ -190,6 +195,7 @@ public class InMobiRewardedAd implements MediationRewardedAd {
             @Override
             public void onAdLoadSucceeded(@NonNull InMobiInterstitial inMobiInterstitial,
                 @NonNull AdMetaInfo adMetaInfo) {
+              AdapterTrace.endAsyncSection("loadRewardedAd", mLoadTraceCookie);
               Log.d(TAG, "InMobi rewaded ad has been loaded.");
               if (mMediationAdLoadCallback != null) {
                 mRewardedAdCallback =
@@ -200,6 +206,7 @@ public class InMobiRewardedAd implements MediationRewardedAd {
             @Override
             public void onAdLoadFailed(@NonNull InMobiInterstitial inMobiInterstitial,
                 @NonNull InMobiAdRequestStatus inMobiAdRequestStatus) {
+              AdapterTrace.endAsyncSection("loadRewardedAd", mLoadTraceCookie);
               AdError error = new AdError(
                   InMobiAdapterUtils.getMediationErrorCode(inMobiAdRequestStatus),
                   inMobiAdRequestStatus.getMessage(), INMOBI_SDK_ERROR_DOMAIN);
@@ -244,6 +251,7 @@ public class InMobiRewardedAd implements MediationRewardedAd {
         InMobiAdapterUtils.createInMobiParameterMap(mRewardedAdConfiguration);
     mInMobiRewardedAd.setExtras(paramMap);
     InMobiAdapterUtils.setGlobalTargeting(mRewardedAdConfiguration, extras);
+    mLoadTraceCookie = AdapterTrace.beginAsyncSection("loadRewardedAd");
     mInMobiRewardedAd.load();
   }
   // endregion
@@ -43,6 +43,11 @@ class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
    */
   private final boolean mIsOnlyURL;
 
+  /**
+   * Expected width of the media view in pixels, or 0 if unknown.
+   */
+  private final int mMediaViewWidth;
+
   /**
    * MediationNativeListener instance.
    */
@@ -54,10 +59,11 @@ class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
   private final InMobiAdapter mInMobiAdapter;
 
   public InMobiUnifiedNativeAdMapper(InMobiAdapter inMobiAdapter, InMobiNative inMobiNative,
-      Boolean isOnlyURL, MediationNativeListener mediationNativeListener) {
+      Boolean isOnlyURL, int mediaViewWidth, MediationNativeListener mediationNativeListener) {
     this.mInMobiAdapter = inMobiAdapter;
     this.mInMobiNative = inMobiNative;
     this.mIsOnlyURL = isOnlyURL;
+    this.mMediaViewWidth = mediaViewWidth;
     this.mMediationNativeListener = mediationNativeListener;
     setOverrideImpressionRecording(true);
   }
@@ -139,24 +145,19 @@ class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
         new RelativeLayout.LayoutParams(
             RelativeLayout.LayoutParams.MATCH_PARENT, RelativeLayout.LayoutParams.MATCH_PARENT));
     placeHolderView.setGravity(Gravity.CENTER);
-    placeHolderView.post(
-        new Runnable() {
-          @Override
-          public void run() {
-            final View primaryView =
-                mInMobiNative.getPrimaryViewOfWidth(context, null, placeHolderView,
-                    placeHolderView.getWidth());
-            if (primaryView == null) {
-              return;
-            }
-
-            placeHolderView.addView(primaryView);
-            int viewHeight = primaryView.getLayoutParams().height;
-            if (viewHeight > 0) {
-              setMediaContentAspectRatio((float) primaryView.getLayoutParams().width / viewHeight);
+    if (mMediaViewWidth > 0) {
+      // The media view width is known up front, so create the primary view now and deliver the
+      // ad with its final aspect ratio, instead of after the placeholder has been laid out.
+      addPrimaryView(context, placeHolderView, mMediaViewWidth);
+    } else {
+      placeHolderView.post(
+          new Runnable() {
+            @Override
+            public void run() {
+              addPrimaryView(context, placeHolderView, placeHolderView.getWidth());
             }
-          }
-        });
+          });
+    }
 
     setMediaView(placeHolderView);
     boolean hasVideo = (mInMobiNative.isVideo() == null) ? false : mInMobiNative.isVideo();
@@ -201,6 +202,25 @@ class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
     }
   }
 
+  private void addPrimaryView(Context context, RelativeLayout placeHolderView, int width) {
+    final View primaryView;
+    AdapterTrace.beginSection("getPrimaryViewOfWidth");
+    try {
+      primaryView = mInMobiNative.getPrimaryViewOfWidth(context, null, placeHolderView, width);
+    } finally {
+      AdapterTrace.endSection();
+    }
+    if (primaryView == null) {
+      return;
+    }
+
+    placeHolderView.addView(primaryView);
+    int viewHeight = primaryView.getLayoutParams().height;
+    if (viewHeight > 0) {
+      setMediaContentAspectRatio((float) primaryView.getLayoutParams().width / viewHeight);
+    }
+  }
+
   @Override
   public void handleClick(View view) {
     // Handle click.
@@ -50,7 +50,7 @@ class IronSourceManager
     IronSource.setISDemandOnlyInterstitialListener(this);
   }
 
-  void initIronSourceSDK(@Nullable Context context, @Nullable String appKey,
+  void initIronSourceSDK(@Nullable Context context, @Nullable final String appKey,
       @NonNull InitializationCallback listener) {
     if (isInitialized.get()) {
       listener.onInitializeSuccess();
@@ -62,7 +62,7 @@ class IronSourceManager
           "IronSource SDK requires an Activity context to initialize.");
       return;
     }
-    Activity activity = (Activity) context;
+    final Activity activity = (Activity) context;
 
     if (TextUtils.isEmpty(appKey)) {
       listener.onInitializeError(ERROR_INVALID_SERVER_PARAMETERS, "Missing or invalid app key.");
@@ -71,14 +71,19 @@ class IronSourceManager
 
     IronSource.setMediationType(MEDIATION_NAME + ADAPTER_VERSION_NAME);
     Log.d(TAG, "Initializing IronSource SDK with app key: " + appKey);
-    IronSource.initISDemandOnly(activity, appKey, IronSource.AD_UNIT.INTERSTITIAL,
-        IronSource.AD_UNIT.REWARDED_VIDEO);
+    MainThreadWatchdog.run("IronSourceManager.initIronSourceSDK", new Runnable() {
+      @Override
+      public void run() {
+        IronSource.initISDemandOnly(activity, appKey, IronSource.AD_UNIT.INTERSTITIAL,
+            IronSource.AD_UNIT.REWARDED_VIDEO);
+      }
+    });
 
     isInitialized.set(true);
     listener.onInitializeSuccess();
   }
 
-  void loadInterstitial(@NonNull String instanceId, @NonNull IronSourceAdapter adapter) {
+  void loadInterstitial(@NonNull final String instanceId, @NonNull IronSourceAdapter adapter) {
     if (TextUtils.isEmpty(instanceId)) {
       adapter.onAdFailedToLoad(
           ERROR_INVALID_SERVER_PARAMETERS, "Missing or invalid instance ID.");
@@ -93,10 +98,16 @@ class IronSourceManager
     }
 
     registerISInterstitialAdapter(instanceId, new WeakReference<>(adapter));
-    IronSource.loadISDemandOnlyInterstitial(instanceId);
+    MainThreadWatchdog.run("IronSourceManager.loadInterstitial", new Runnable() {
+      @Override
+      public void run() {
+        IronSource.loadISDemandOnlyInterstitial(instanceId);
+      }
+    });
   }
 
-  void loadRewardedVideo(@NonNull String instanceId, @NonNull IronSourceMediationAdapter adapter) {
+  void loadRewardedVideo(@NonNull final String instanceId,
+      @NonNull IronSourceMediationAdapter adapter) {
     if (TextUtils.isEmpty(instanceId)) {
       adapter.onAdFailedToLoad(
           ERROR_INVALID_SERVER_PARAMETERS, "Missing or invalid instance ID.");
@@ -111,7 +122,12 @@ class IronSourceManager
     }
 
     registerISRewardedVideoAdapter(instanceId, new WeakReference<>(adapter));
-    IronSource.loadISDemandOnlyRewardedVideo(instanceId);
+    MainThreadWatchdog.run("IronSourceManager.loadRewardedVideo", new Runnable() {
+      @Override
+      public void run() {
+        IronSource.loadISDemandOnlyRewardedVideo(instanceId);
+      }
+    });
   }
 
   private boolean canLoadInterstitialInstance(@NonNull String instanceId) {
@@ -132,7 +148,8 @@ class IronSourceManager
     return (ironSourceMediationAdapter == null);
   }
 
-  void showRewardedVideo(@NonNull String instanceId, @NonNull IronSourceMediationAdapter adapter) {
+  void showRewardedVideo(@NonNull final String instanceId,
+      @NonNull IronSourceMediationAdapter adapter) {
     WeakReference<IronSourceMediationAdapter> adapterReference = availableInstances.get(instanceId);
     if (adapterReference == null || adapterReference.get() == null || !adapter
         .equals(adapterReference.get())) {
@@ -145,11 +162,21 @@ class IronSourceManager
     // rewarded ads. Store the adapter reference so callbacks can be forwarded properly regardless
     // of order.
     currentlyShowingRewardedAdapter = adapterReference;
-    IronSource.showISDemandOnlyRewardedVideo(instanceId);
+    MainThreadWatchdog.run("IronSourceManager.showRewardedVideo", new Runnable() {
+      @Override
+      public void run() {
+        IronSource.showISDemandOnlyRewardedVideo(instanceId);
+      }
+    });
   }
 
-  void showInterstitial(@NonNull String instanceId) {
-    IronSource.showISDemandOnlyInterstitial(instanceId);
+  void showInterstitial(@NonNull final String instanceId) {
+    MainThreadWatchdog.run("IronSourceManager.showInterstitial", new Runnable() {
+      @Override
+      public void run() {
+        IronSource.showISDemandOnlyInterstitial(instanceId);
+      }
+    });
   }
 
   private void registerISInterstitialAdapter(
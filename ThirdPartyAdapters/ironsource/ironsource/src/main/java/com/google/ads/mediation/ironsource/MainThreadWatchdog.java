@@ -0,0 +1,105 @@
+package com.google.ads.mediation.ironsource;
+
+import static com.google.ads.mediation.ironsource.IronSourceAdapterUtils.TAG;
+
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Opt-in watchdog that measures how long the IronSource adapter blocks the main thread in its calls
+ * into the IronSource SDK. Only SDK entry points that can do real work on the calling thread, such
+ * as initialization, ad requests and ad presentation, are measured. Calls that take longer than the
+ * budget set with {@link #setBudgetMillis(long)} are logged with the method name and counted, so
+ * that regressions can be caught before they surface as ANRs. Calls made on other threads are not
+ * measured. The watchdog is disabled by default.
+ */
+public final class MainThreadWatchdog {
+
+  /**
+   * Default main-thread budget of a single call, roughly one frame at 60Hz.
+   */
+  public static final long DEFAULT_BUDGET_MILLIS = 16;
+
+  private static volatile boolean enabled;
+  private static volatile long budgetMillis = DEFAULT_BUDGET_MILLIS;
+
+  private static final ConcurrentHashMap<String, AtomicInteger> overBudgetCounts =
+      new ConcurrentHashMap<>();
+
+  private MainThreadWatchdog() {
+  }
+
+  /**
+   * Enables or disables the watchdog.
+   */
+  public static void setEnabled(boolean enabled) {
+    MainThreadWatchdog.enabled = enabled;
+  }
+
+  /**
+   * Sets the main-thread time, in milliseconds, above which a single call is flagged.
+   */
+  public static void setBudgetMillis(long budgetMillis) {
+    MainThreadWatchdog.budgetMillis = budgetMillis;
+  }
+
+  /**
+   * Returns the number of over-budget calls of every method that exceeded the budget at least
+   * once.
+   */
+  @NonNull
+  public static Map<String, Integer> getOverBudgetCounts() {
+    HashMap<String, Integer> counts = new HashMap<>();
+    for (Map.Entry<String, AtomicInteger> entry : overBudgetCounts.entrySet()) {
+      counts.put(entry.getKey(), entry.getValue().get());
+    }
+    return counts;
+  }
+
+  /**
+   * Clears all counts.
+   */
+  public static void reset() {
+    overBudgetCounts.clear();
+  }
+
+  /**
+   * Runs the given SDK call, and flags it if it held the main thread for longer than the budget.
+   *
+   * @param method the adapter class and method name, e.g.
+   *               {@code "IronSourceManager.initIronSourceSDK"}.
+   * @param call   the SDK call to measure.
+   */
+  static void run(@NonNull String method, @NonNull Runnable call) {
+    if (!enabled || Looper.myLooper() != Looper.getMainLooper()) {
+      call.run();
+      return;
+    }
+    long startMillis = SystemClock.uptimeMillis();
+    try {
+      call.run();
+    } finally {
+      long durationMillis = SystemClock.uptimeMillis() - startMillis;
+      long budget = budgetMillis;
+      if (durationMillis > budget) {
+        AtomicInteger count = overBudgetCounts.get(method);
+        if (count == null) {
+          AtomicInteger newCount = new AtomicInteger();
+          count = overBudgetCounts.putIfAbsent(method, newCount);
+          if (count == null) {
+            count = newCount;
+          }
+        }
+        count.incrementAndGet();
+        Log.w(TAG, String.format("%s blocked the main thread for %dms, over the %dms budget.",
+            method, durationMillis, budget));
+      }
+    }
+  }
+}
@@ -3,10 +3,13 @@ package com.google.ads.mediation.maio;
 import android.app.Activity;
 import android.content.Context;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.Adapter;
 import com.google.android.gms.ads.mediation.InitializationCompleteCallback;
@@ -19,8 +22,11 @@ import com.google.android.gms.ads.mediation.VersionInfo;
 import com.google.android.gms.ads.rewarded.RewardItem;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import jp.maio.sdk.android.FailNotificationReason;
 import jp.maio.sdk.android.MaioAds;
 import jp.maio.sdk.android.mediation.admob.adapter.BuildConfig;
@@ -31,11 +37,18 @@ public class MaioMediationAdapter extends Adapter
 
   public static final String TAG = MaioMediationAdapter.class.getSimpleName();
 
+  /**
+   * Maximum time, in milliseconds, to wait for every configured media ID to initialize before
+   * reporting initialization as failed.
+   */
+  private static final long INITIALIZATION_TIMEOUT_MILLIS = 30000;
+
   protected String mMediaID;
   protected String mZoneID;
 
   private MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback> mAdLoadCallback;
   private MediationRewardedAdCallback mRewardedAdCallback;
+  private LoadLatencyMetrics.LoadTrace mLoadTrace;
 
   /**
    * Maio adapter error domain.
@@ -57,6 +70,14 @@ public class MaioMediationAdapter extends Adapter
 
   }
 
+  /**
+   * Returns the time, in milliseconds, maio took to initialize the given media ID, or -1 if it has
+   * not finished initializing.
+   */
+  public static long getInitializationLatencyMillis(@NonNull String mediaID) {
+    return MaioAdsManager.getManager(mediaID).getInitializationLatencyMillis();
+  }
+
   public static AdError getAdError(FailNotificationReason reason) {
     // Error '99' to indicate that the error is new and has not been supported by the adapter yet.
     int code = 99;
@@ -100,6 +121,17 @@ public class MaioMediationAdapter extends Adapter
   public static final int ERROR_REQUIRES_ACTIVITY_CONTEXT = 103;
 
 
+  /**
+   * Returns the time a load request may wait for maio to have an ad available, as set in the
+   * mediation extras under {@link MaioAdsManager#KEY_LOAD_WAIT_TIMEOUT_MILLIS}.
+   */
+  protected static long getLoadWaitTimeoutMillis(@Nullable Bundle mediationExtras) {
+    if (mediationExtras == null) {
+      return 0;
+    }
+    return Math.max(0, mediationExtras.getLong(MaioAdsManager.KEY_LOAD_WAIT_TIMEOUT_MILLIS, 0));
+  }
+
   /**
    * {@link Adapter} implementation
    */
@@ -153,7 +185,7 @@ public class MaioMediationAdapter extends Adapter
       return;
     }
 
-    HashSet<String> mediaIDs = new HashSet<>();
+    final HashSet<String> mediaIDs = new HashSet<>();
     for (MediationConfiguration configuration : mediationConfigurations) {
       String mediaIDFromServer =
           configuration.getServerParameters().getString(MaioAdsManager.KEY_MEDIA_ID);
@@ -163,30 +195,57 @@ public class MaioMediationAdapter extends Adapter
       }
     }
 
-    int count = mediaIDs.size();
-    if (count > 0) {
-      String mediaID = mediaIDs.iterator().next();
+    if (mediaIDs.isEmpty()) {
+      initializationCompleteCallback.onInitializationFailed(
+          "Initialization Failed: Missing or Invalid Media ID.");
+      return;
+    }
+
+    if (mediaIDs.size() > 1) {
+      String logMessage =
+          String.format(
+              "Multiple '%s' entries found: %s. Initializing the Maio SDK with all of them.",
+              MaioAdsManager.KEY_MEDIA_ID, mediaIDs);
+      Log.w(TAG, logMessage);
+    }
 
-      if (count > 1) {
-        String logMessage =
-            String.format(
-                "Multiple '%s' entries found: %s. Using '%s' to initialize the Maio SDK",
-                MaioAdsManager.KEY_MEDIA_ID, mediaIDs, mediaID);
-        Log.w(TAG, logMessage);
+    // Initialize every configured media ID at once and report completion after the last one, or
+    // report failure if they are not all initialized in time.
+    final AtomicInteger remaining = new AtomicInteger(mediaIDs.size());
+    final AtomicBoolean isCompleted = new AtomicBoolean();
+    final Handler handler = new Handler(Looper.getMainLooper());
+    final Runnable timeout = new Runnable() {
+      @Override
+      public void run() {
+        if (isCompleted.compareAndSet(false, true)) {
+          List<String> pendingMediaIDs = new ArrayList<>();
+          for (String mediaID : mediaIDs) {
+            if (!MaioAdsManager.getManager(mediaID).isInitialized()) {
+              pendingMediaIDs.add(mediaID);
+            }
+          }
+          initializationCompleteCallback.onInitializationFailed(String.format(
+              "Initialization Failed: Media IDs %s did not initialize within %dms.",
+              pendingMediaIDs, INITIALIZATION_TIMEOUT_MILLIS));
+        }
       }
+    };
+    handler.postDelayed(timeout, INITIALIZATION_TIMEOUT_MILLIS);
 
+    for (String mediaID : mediaIDs) {
       MaioAdsManager.getManager(mediaID)
           .initialize(
               (Activity) context,
               new MaioAdsManager.InitializationListener() {
                 @Override
                 public void onMaioInitialized() {
-                  initializationCompleteCallback.onInitializationSucceeded();
+                  if (remaining.decrementAndGet() == 0
+                      && isCompleted.compareAndSet(false, true)) {
+                    handler.removeCallbacks(timeout);
+                    initializationCompleteCallback.onInitializationSucceeded();
+                  }
                 }
               });
-    } else {
-      initializationCompleteCallback.onInitializationFailed(
-          "Initialization Failed: Missing or Invalid Media ID.");
     }
   }
 
@@ -195,6 +254,7 @@ public class MaioMediationAdapter extends Adapter
       MediationRewardedAdConfiguration mediationRewardedAdConfiguration,
       MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
           mediationAdLoadCallback) {
+    mLoadTrace = LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_REWARDED);
 
     Context context = mediationRewardedAdConfiguration.getContext();
     if (!(context instanceof Activity)) {
@@ -229,6 +289,8 @@ public class MaioMediationAdapter extends Adapter
     }
 
     mAdLoadCallback = mediationAdLoadCallback;
+    final long loadWaitTimeoutMillis =
+        getLoadWaitTimeoutMillis(mediationRewardedAdConfiguration.getMediationExtras());
     MaioAds.setAdTestMode(mediationRewardedAdConfiguration.isTestRequest());
     MaioAdsManager.getManager(mMediaID)
         .initialize(
@@ -236,7 +298,10 @@ public class MaioMediationAdapter extends Adapter
             new MaioAdsManager.InitializationListener() {
               @Override
               public void onMaioInitialized() {
-                MaioAdsManager.getManager(mMediaID).loadAd(mZoneID, MaioMediationAdapter.this);
+                mLoadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
+                MaioAdsManager.getManager(mMediaID)
+                    .loadAd(mZoneID, MaioMediationAdapter.this, loadWaitTimeoutMillis);
+                mLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
               }
             });
   }
@@ -256,7 +321,9 @@ public class MaioMediationAdapter extends Adapter
   @Override
   public void onChangedCanShow(String zoneId, boolean isAvailable) {
     if (mAdLoadCallback != null && isAvailable) {
+      mLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
       mRewardedAdCallback = mAdLoadCallback.onSuccess(MaioMediationAdapter.this);
+      mLoadTrace.finish();
     }
   }
 
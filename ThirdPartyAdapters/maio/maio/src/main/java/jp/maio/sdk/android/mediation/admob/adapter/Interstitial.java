@@ -6,6 +6,7 @@ import android.os.Bundle;
 import android.text.TextUtils;
 import android.util.Log;
 
+import com.google.ads.mediation.maio.LoadLatencyMetrics;
 import com.google.ads.mediation.maio.MaioAdsManagerListener;
 import com.google.ads.mediation.maio.MaioMediationAdapter;
 import com.google.android.gms.ads.AdError;
@@ -23,6 +24,7 @@ public class Interstitial extends MaioMediationAdapter
     implements MediationInterstitialAdapter, MaioAdsManagerListener {
 
   private MediationInterstitialListener mMediationInterstitialListener;
+  private LoadLatencyMetrics.LoadTrace mLoadTrace;
 
   // region MediationInterstitialAdapter implementation
   @Override
@@ -45,6 +47,7 @@ public class Interstitial extends MaioMediationAdapter
       MediationAdRequest mediationAdRequest,
       Bundle mediationExtras) {
     this.mMediationInterstitialListener = listener;
+    this.mLoadTrace = LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_INTERSTITIAL);
     if (!(context instanceof Activity)) {
       AdError error = new AdError(ERROR_REQUIRES_ACTIVITY_CONTEXT,
           "Maio SDK requires an Activity context to load ads.", ERROR_DOMAIN);
@@ -77,6 +80,7 @@ public class Interstitial extends MaioMediationAdapter
       return;
     }
 
+    final long loadWaitTimeoutMillis = getLoadWaitTimeoutMillis(mediationExtras);
     MaioAds.setAdTestMode(mediationAdRequest.isTesting());
     MaioAdsManager.getManager(mMediaID)
         .initialize(
@@ -84,7 +88,10 @@ public class Interstitial extends MaioMediationAdapter
             new MaioAdsManager.InitializationListener() {
               @Override
               public void onMaioInitialized() {
-                MaioAdsManager.getManager(mMediaID).loadAd(mZoneID, Interstitial.this);
+                mLoadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
+                MaioAdsManager.getManager(mMediaID)
+                    .loadAd(mZoneID, Interstitial.this, loadWaitTimeoutMillis);
+                mLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
               }
             });
   }
@@ -99,7 +106,9 @@ public class Interstitial extends MaioMediationAdapter
   @Override
   public void onChangedCanShow(String zoneId, boolean isAvailable) {
     if (this.mMediationInterstitialListener != null && isAvailable) {
+      mLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
       this.mMediationInterstitialListener.onAdLoaded(Interstitial.this);
+      mLoadTrace.finish();
     }
   }
 
@@ -5,17 +5,21 @@ import static com.google.ads.mediation.maio.MaioMediationAdapter.ERROR_DOMAIN;
 import static com.google.ads.mediation.maio.MaioMediationAdapter.TAG;
 
 import android.app.Activity;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.google.ads.mediation.maio.MaioAdsManagerListener;
 
 import com.google.android.gms.ads.AdError;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jp.maio.sdk.android.FailNotificationReason;
 import jp.maio.sdk.android.MaioAds;
@@ -28,10 +32,11 @@ import jp.maio.sdk.android.MaioAdsListenerInterface;
  */
 public class MaioAdsManager implements MaioAdsListenerInterface {
 
-  private static final HashMap<String, MaioAdsManager> mInstances = new HashMap<>();
-  private ArrayList<InitializationListener> mInitListeners = new ArrayList<>();
+  private static final ConcurrentHashMap<String, MaioAdsManager> mInstances =
+      new ConcurrentHashMap<>();
+  private final ArrayList<InitializationListener> mInitListeners = new ArrayList<>();
 
-  private MaioAdsInstance mMaioInstance;
+  private volatile MaioAdsInstance mMaioInstance;
   private String mMediaID;
 
   private enum InitializationStatus {
@@ -40,45 +45,118 @@ public class MaioAdsManager implements MaioAdsListenerInterface {
     INITIALIZED
   }
 
-  private InitializationStatus mInitState;
+  private volatile InitializationStatus mInitState;
 
-  private HashMap<String, WeakReference<MaioAdsManagerListener>> mListeners;
+  private long mInitStartTimeMillis;
+  private volatile long mInitLatencyMillis = -1;
+
+  // Accessed from load and show calls and from maio callbacks, so concurrent.
+  private final ConcurrentHashMap<String, WeakReference<MaioAdsManagerListener>> mListeners =
+      new ConcurrentHashMap<>();
+
+  // Load requests that are waiting for maio to report an ad as available, keyed by zone ID.
+  private final ConcurrentHashMap<String, PendingLoad> mPendingLoads = new ConcurrentHashMap<>();
+  private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+  // Wait-for-availability load metrics, guarded by this manager.
+  private int mWaitedLoadCount;
+  private int mSavedNoFillCount;
+  private long mTotalWaitTimeMillis;
 
   public static final String KEY_MEDIA_ID = "mediaId";
   public static final String KEY_ZONE_ID = "zoneId";
 
+  /**
+   * Mediation extras key for the maximum time, in milliseconds, a load request waits for maio to
+   * have an ad available before failing. Requests fail immediately when this is absent or 0.
+   */
+  public static final String KEY_LOAD_WAIT_TIMEOUT_MILLIS = "loadWaitTimeoutMillis";
+
   public static MaioAdsManager getManager(@NonNull String mediaID) {
-    if (!mInstances.containsKey(mediaID)) {
-      mInstances.put(mediaID, new MaioAdsManager(mediaID));
+    MaioAdsManager manager = mInstances.get(mediaID);
+    if (manager == null) {
+      MaioAdsManager newManager = new MaioAdsManager(mediaID);
+      manager = mInstances.putIfAbsent(mediaID, newManager);
+      if (manager == null) {
+        manager = newManager;
+      }
     }
-    return mInstances.get(mediaID);
+    return manager;
   }
 
   private MaioAdsManager(String mediaID) {
     this.mMediaID = mediaID;
-    this.mListeners = new HashMap<>();
     this.mInitState = InitializationStatus.UNINITIALIZED;
   }
 
   public void initialize(Activity activity, InitializationListener listener) {
-    if (mInitState == InitializationStatus.INITIALIZED) {
-      listener.onMaioInitialized();
-      return;
+    synchronized (mInitListeners) {
+      switch (mInitState) {
+        case INITIALIZED:
+          break;
+        case INITIALIZING:
+          mInitListeners.add(listener);
+          return;
+        default:
+          mInitListeners.add(listener);
+          mInitState = InitializationStatus.INITIALIZING;
+          mInitStartTimeMillis = SystemClock.elapsedRealtime();
+          this.mMaioInstance =
+              MaioAds.initWithNonDefaultMediaId(activity, this.mMediaID, MaioAdsManager.this);
+          return;
+      }
     }
+    listener.onMaioInitialized();
+  }
+
+  /**
+   * Returns whether maio finished initializing this media ID.
+   */
+  public boolean isInitialized() {
+    return mInitState == InitializationStatus.INITIALIZED;
+  }
 
-    mInitListeners.add(listener);
-    if (mInitState != InitializationStatus.INITIALIZING) {
-      mInitState = InitializationStatus.INITIALIZING;
+  /**
+   * Returns the time, in milliseconds, maio took to initialize this media ID, or -1 if it has not
+   * finished initializing.
+   */
+  public long getInitializationLatencyMillis() {
+    return mInitLatencyMillis;
+  }
 
-      this.mMaioInstance =
-          MaioAds.initWithNonDefaultMediaId(activity, this.mMediaID, MaioAdsManager.this);
+  /**
+   * Registers the given listener for the zone, unless a live listener is already registered for
+   * it. The check and the registration are atomic, so concurrent requests for the same zone cannot
+   * both succeed.
+   *
+   * @return the registered reference, or {@code null} if the zone already has a listener.
+   */
+  @Nullable
+  private WeakReference<MaioAdsManagerListener> claimZone(@NonNull String zoneID,
+      @NonNull MaioAdsManagerListener listener) {
+    WeakReference<MaioAdsManagerListener> reference = new WeakReference<>(listener);
+    while (true) {
+      WeakReference<MaioAdsManagerListener> existing = mListeners.putIfAbsent(zoneID, reference);
+      if (existing == null) {
+        return reference;
+      }
+      if (existing.get() != null) {
+        return null;
+      }
+      // The previous listener was garbage collected, so its zone is free.
+      if (mListeners.replace(zoneID, existing, reference)) {
+        return reference;
+      }
     }
   }
 
-  private boolean hasListener(String zoneID) {
-    return !TextUtils.isEmpty(zoneID)
-        && this.mListeners.containsKey(zoneID)
-        && this.mListeners.get(zoneID).get() != null;
+  @Nullable
+  private MaioAdsManagerListener getListener(String zoneID) {
+    if (TextUtils.isEmpty(zoneID)) {
+      return null;
+    }
+    WeakReference<MaioAdsManagerListener> reference = this.mListeners.get(zoneID);
+    return reference != null ? reference.get() : null;
   }
 
   private boolean canShowAd(String zoneID) {
@@ -88,25 +166,103 @@ public class MaioAdsManager implements MaioAdsListenerInterface {
   }
 
   public void loadAd(String zoneID, MaioAdsManagerListener listener) {
-    if (hasListener(zoneID)) {
-      Log.e(TAG, "An ad has already been requested for zone ID: " + zoneID);
-      listener.onFailed(FailNotificationReason.AD_STOCK_OUT, zoneID);
-      return;
+    loadAd(zoneID, listener, 0);
+  }
+
+  /**
+   * Loads an ad for the given zone. If maio does not have an ad ready and {@code
+   * waitTimeoutMillis} is positive, the request is parked until maio reports the zone as
+   * available through {@link #onChangedCanShow(String, boolean)} or until the timeout elapses.
+   */
+  public void loadAd(String zoneID, MaioAdsManagerListener listener, long waitTimeoutMillis) {
+    WeakReference<MaioAdsManagerListener> reference = null;
+    if (!TextUtils.isEmpty(zoneID)) {
+      reference = claimZone(zoneID, listener);
+      if (reference == null) {
+        Log.e(TAG, "An ad has already been requested for zone ID: " + zoneID);
+        listener.onFailed(FailNotificationReason.AD_STOCK_OUT, zoneID);
+        return;
+      }
     }
 
     Log.d(TAG, "Requesting ad from zone ID: " + zoneID);
-    // If maio does not have an ad ready to be shown, then we fail the ad request to avoid timeouts.
+    // If maio does not have an ad ready to be shown, then we fail the ad request to avoid timeouts,
+    // unless the caller allowed waiting for an ad to become available.
     if (!canShowAd(zoneID)) {
+      if (reference != null && waitTimeoutMillis > 0 && this.mMaioInstance != null) {
+        waitForAd(zoneID, reference, waitTimeoutMillis);
+        return;
+      }
+
+      if (reference != null) {
+        mListeners.remove(zoneID, reference);
+      }
       AdError error = new AdError(ERROR_AD_NOT_AVAILABLE,
           "No ad available for zone id: " + zoneID, ERROR_DOMAIN);
       Log.w(TAG, error.getMessage());
       listener.onAdFailedToLoad(error);
       return;
     }
-    mListeners.put(zoneID, new WeakReference<>(listener));
     listener.onChangedCanShow(zoneID, true);
   }
 
+  private void waitForAd(final String zoneID,
+      final WeakReference<MaioAdsManagerListener> reference, long waitTimeoutMillis) {
+    Log.d(TAG, "No ad available yet for zone ID: " + zoneID + ". Waiting up to "
+        + waitTimeoutMillis + "ms.");
+
+    Runnable timeout = new Runnable() {
+      @Override
+      public void run() {
+        PendingLoad pendingLoad = mPendingLoads.remove(zoneID);
+        if (pendingLoad == null) {
+          return;
+        }
+        recordWait(pendingLoad, false);
+        mListeners.remove(zoneID, reference);
+
+        MaioAdsManagerListener pendingListener = pendingLoad.listener.get();
+        if (pendingListener != null) {
+          AdError error = new AdError(ERROR_AD_NOT_AVAILABLE,
+              "No ad became available for zone id: " + zoneID, ERROR_DOMAIN);
+          Log.w(TAG, error.getMessage());
+          pendingListener.onAdFailedToLoad(error);
+        }
+      }
+    };
+    mPendingLoads.put(zoneID, new PendingLoad(reference, timeout));
+    mHandler.postDelayed(timeout, waitTimeoutMillis);
+  }
+
+  private synchronized void recordWait(PendingLoad pendingLoad, boolean filled) {
+    mWaitedLoadCount++;
+    mTotalWaitTimeMillis += SystemClock.elapsedRealtime() - pendingLoad.startTimeMillis;
+    if (filled) {
+      mSavedNoFillCount++;
+    }
+  }
+
+  /**
+   * Returns the number of load requests that had to wait for an ad to become available.
+   */
+  public synchronized int getWaitedLoadCount() {
+    return mWaitedLoadCount;
+  }
+
+  /**
+   * Returns the number of waiting load requests that were filled instead of failing immediately.
+   */
+  public synchronized int getSavedNoFillCount() {
+    return mSavedNoFillCount;
+  }
+
+  /**
+   * Returns the total time, in milliseconds, load requests spent waiting for an ad.
+   */
+  public synchronized long getTotalWaitTimeMillis() {
+    return mTotalWaitTimeMillis;
+  }
+
   public void showAd(String zoneID, MaioAdsManagerListener listener) {
     if (!canShowAd(zoneID)) {
       this.mListeners.remove(zoneID);
@@ -123,66 +279,111 @@ public class MaioAdsManager implements MaioAdsListenerInterface {
   // region MaioAdsListenerInterface implementation
   @Override
   public void onInitialized() {
-    mInitState = InitializationStatus.INITIALIZED;
+    ArrayList<InitializationListener> listeners;
+    synchronized (mInitListeners) {
+      if (mInitState != InitializationStatus.INITIALIZED) {
+        mInitLatencyMillis = SystemClock.elapsedRealtime() - mInitStartTimeMillis;
+        Log.d(TAG, "maio initialized media ID " + mMediaID + " in " + mInitLatencyMillis + "ms.");
+      }
+      mInitState = InitializationStatus.INITIALIZED;
+      listeners = new ArrayList<>(mInitListeners);
+      mInitListeners.clear();
+    }
 
-    for (InitializationListener listener : mInitListeners) {
+    for (InitializationListener listener : listeners) {
       listener.onMaioInitialized();
     }
-    mInitListeners.clear();
   }
 
   @Override
   public void onChangedCanShow(String zoneId, boolean isAvailable) {
-    if (hasListener(zoneId)) {
-      this.mListeners.get(zoneId).get().onChangedCanShow(zoneId, isAvailable);
+    if (isAvailable) {
+      PendingLoad pendingLoad = mPendingLoads.remove(zoneId);
+      if (pendingLoad != null) {
+        mHandler.removeCallbacks(pendingLoad.timeout);
+        recordWait(pendingLoad, true);
+      }
+    }
+
+    MaioAdsManagerListener listener = getListener(zoneId);
+    if (listener != null) {
+      listener.onChangedCanShow(zoneId, isAvailable);
     }
   }
 
   @Override
   public void onFailed(FailNotificationReason reason, String zoneId) {
-    if (hasListener(zoneId)) {
-      this.mListeners.get(zoneId).get().onFailed(reason, zoneId);
+    PendingLoad pendingLoad = mPendingLoads.remove(zoneId);
+    if (pendingLoad != null) {
+      mHandler.removeCallbacks(pendingLoad.timeout);
+      recordWait(pendingLoad, false);
+    }
+
+    MaioAdsManagerListener listener = getListener(zoneId);
+    if (listener != null) {
+      listener.onFailed(reason, zoneId);
     }
     this.mListeners.remove(zoneId);
   }
 
   @Override
   public void onOpenAd(String zoneId) {
-    if (hasListener(zoneId)) {
-      this.mListeners.get(zoneId).get().onOpenAd(zoneId);
+    MaioAdsManagerListener listener = getListener(zoneId);
+    if (listener != null) {
+      listener.onOpenAd(zoneId);
     }
   }
 
   @Override
   public void onStartedAd(String zoneId) {
-    if (hasListener(zoneId)) {
-      this.mListeners.get(zoneId).get().onStartedAd(zoneId);
+    MaioAdsManagerListener listener = getListener(zoneId);
+    if (listener != null) {
+      listener.onStartedAd(zoneId);
     }
   }
 
   @Override
   public void onClickedAd(String zoneId) {
-    if (hasListener(zoneId)) {
-      this.mListeners.get(zoneId).get().onClickedAd(zoneId);
+    MaioAdsManagerListener listener = getListener(zoneId);
+    if (listener != null) {
+      listener.onClickedAd(zoneId);
     }
   }
 
   @Override
   public void onFinishedAd(int playtime, boolean skipped, int duration, String zoneId) {
-    if (hasListener(zoneId)) {
-      this.mListeners.get(zoneId).get().onFinishedAd(playtime, skipped, duration, zoneId);
+    MaioAdsManagerListener listener = getListener(zoneId);
+    if (listener != null) {
+      listener.onFinishedAd(playtime, skipped, duration, zoneId);
     }
   }
 
   @Override
   public void onClosedAd(String zoneId) {
-    if (hasListener(zoneId)) {
-      this.mListeners.get(zoneId).get().onClosedAd(zoneId);
+    MaioAdsManagerListener listener = getListener(zoneId);
+    if (listener != null) {
+      listener.onClosedAd(zoneId);
     }
     this.mListeners.remove(zoneId);
   }
   // endregion
 
+  /**
+   * A load request waiting for maio to have an ad available.
+   */
+  private static class PendingLoad {
+
+    private final WeakReference<MaioAdsManagerListener> listener;
+    private final Runnable timeout;
+    private final long startTimeMillis;
+
+    private PendingLoad(WeakReference<MaioAdsManagerListener> listener, Runnable timeout) {
+      this.listener = listener;
+      this.timeout = timeout;
+      this.startTimeMillis = SystemClock.elapsedRealtime();
+    }
+  }
+
   public interface InitializationListener {
 
     /**
@@ -438,6 +438,8 @@ public class MoPubAdapter
         }
       }
 
+      // Checks the loaded creative's size against the request. MoPub picks the creative size per
+      // response, so unlike a fixed list of supported sizes, the result cannot be cached.
       ArrayList<AdSize> potentials = new ArrayList<>();
       potentials.add(new AdSize(moPubView.getAdWidth(), moPubView.getAdHeight()));
       AdSize supportedAdSize = MediationUtils.findClosestSize(mContext, mAdSize, potentials);
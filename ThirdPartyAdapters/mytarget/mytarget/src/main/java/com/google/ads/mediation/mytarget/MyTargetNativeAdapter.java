@@ -159,18 +159,29 @@ public class MyTargetNativeAdapter implements MediationNativeAdapter {
    */
   private static class MyTargetAdmobNativeImage extends Image {
 
+    @NonNull
+    private final ImageData imageData;
+
+    @NonNull
+    private final Resources resources;
+
     @NonNull
     private final Uri uri;
 
     @Nullable
     private Drawable drawable;
 
+    /**
+     * Handle of the bitmap backing {@link #drawable} in {@link NativeImageMemoryTracker}.
+     */
+    @Nullable
+    private NativeImageMemoryTracker.RetainedImage retainedImage;
+
     MyTargetAdmobNativeImage(@NonNull ImageData imageData, @NonNull Resources resources) {
-      Bitmap bitmap = imageData.getBitmap();
-      if (bitmap != null) {
-        drawable = new BitmapDrawable(resources, bitmap);
-      }
+      this.imageData = imageData;
+      this.resources = resources;
       uri = Uri.parse(imageData.getUrl());
+      restoreDrawable();
     }
 
     @Nullable
@@ -189,13 +200,41 @@ public class MyTargetNativeAdapter implements MediationNativeAdapter {
     public double getScale() {
       return 1;
     }
+
+    /**
+     * Wraps the bitmap of the myTarget image again after {@link #releaseDrawable()}, if the SDK
+     * still holds it.
+     */
+    void restoreDrawable() {
+      if (drawable != null) {
+        return;
+      }
+      Bitmap bitmap = imageData.getBitmap();
+      if (bitmap != null) {
+        drawable = new BitmapDrawable(resources, bitmap);
+        retainedImage = NativeImageMemoryTracker.getInstance()
+            .onImageRetained(this, (long) bitmap.getRowBytes() * bitmap.getHeight());
+      }
+    }
+
+    /**
+     * Drops the adapter's reference to the decoded bitmap.
+     */
+    void releaseDrawable() {
+      drawable = null;
+      if (retainedImage != null) {
+        NativeImageMemoryTracker.getInstance().onImageReleased(retainedImage);
+        retainedImage = null;
+      }
+    }
   }
 
   /**
    * A {@link MyTargetNativeUnifiedAdMapper} used to map myTarget native ad to Google Mobile Ads SDK
    * native app unified ad.
    */
-  private static class MyTargetNativeUnifiedAdMapper extends UnifiedNativeAdMapper {
+  private static class MyTargetNativeUnifiedAdMapper extends UnifiedNativeAdMapper
+      implements NativeImageMemoryTracker.Evictable {
 
     @NonNull
     private final NativeAd nativeAd;
@@ -203,6 +242,12 @@ public class MyTargetNativeAdapter implements MediationNativeAdapter {
     @NonNull
     private final MediaAdView mediaAdView;
 
+    @Nullable
+    private MyTargetAdmobNativeImage iconImage;
+
+    @Nullable
+    private MyTargetAdmobNativeImage mainImage;
+
     MyTargetNativeUnifiedAdMapper(@NonNull NativeAd nativeAd, @NonNull Context context) {
       this.nativeAd = nativeAd;
       this.mediaAdView = new MediaAdView(context);
@@ -217,7 +262,8 @@ public class MyTargetNativeAdapter implements MediationNativeAdapter {
       setHeadline(banner.getTitle());
       ImageData icon = banner.getIcon();
       if (icon != null && !TextUtils.isEmpty(icon.getUrl())) {
-        setIcon(new MyTargetAdmobNativeImage(icon, context.getResources()));
+        iconImage = new MyTargetAdmobNativeImage(icon, context.getResources());
+        setIcon(iconImage);
       }
       ImageData image = banner.getImage();
       setHasVideoContent(true);
@@ -227,7 +273,8 @@ public class MyTargetNativeAdapter implements MediationNativeAdapter {
       setMediaView(mediaAdView);
       if (image != null && !TextUtils.isEmpty(image.getUrl())) {
         ArrayList<Image> imageArrayList = new ArrayList<>();
-        imageArrayList.add(new MyTargetAdmobNativeImage(image, context.getResources()));
+        mainImage = new MyTargetAdmobNativeImage(image, context.getResources());
+        imageArrayList.add(mainImage);
         setImages(imageArrayList);
       }
       setAdvertiser(banner.getDomain());
@@ -262,6 +309,13 @@ public class MyTargetNativeAdapter implements MediationNativeAdapter {
     @Override
     public void trackViews(final View containerView, final Map<String, View> clickables,
         Map<String, View> nonclickables) {
+      NativeImageMemoryTracker.getInstance().onViewsTracked(this);
+      if (iconImage != null) {
+        iconImage.restoreDrawable();
+      }
+      if (mainImage != null) {
+        mainImage.restoreDrawable();
+      }
       final ArrayList<View> clickableViews = new ArrayList<>(clickables.values());
       containerView.post(new Runnable() {
         @Override
@@ -279,6 +333,17 @@ public class MyTargetNativeAdapter implements MediationNativeAdapter {
     @Override
     public void untrackView(View view) {
       nativeAd.unregisterView();
+      NativeImageMemoryTracker.getInstance().onViewUntracked(this);
+    }
+
+    @Override
+    public void releaseImages() {
+      if (iconImage != null) {
+        iconImage.releaseDrawable();
+      }
+      if (mainImage != null) {
+        mainImage.releaseDrawable();
+      }
     }
   }
 
@@ -0,0 +1,53 @@
+package com.google.ads.mediation.mytarget;
+
+import static org.junit.Assert.assertEquals;
+
+import android.content.Context;
+import com.google.ads.mediation.benchmark.Microbenchmark;
+import com.google.android.gms.ads.AdSize;
+import com.my.target.ads.MyTargetView;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+/**
+ * Microbenchmarks of the myTarget adapter code that runs on every ad request: the banner size
+ * mapping and the version parsing reported to the Google Mobile Ads SDK.
+ *
+ * <p>Run it with {@code ./gradlew :mytarget:testDebugUnitTest --tests '*BenchmarkTest' -i}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class MyTargetBenchmarkTest {
+
+  private static final int WARMUP_ROUNDS = 5;
+  private static final int MEASURED_ROUNDS = 11;
+  private static final int OPERATIONS_PER_ROUND = 10000;
+
+  @Test
+  public void benchmark() {
+    final Context context = RuntimeEnvironment.getApplication();
+    final AdSize requestedSize = AdSize.BANNER;
+    final MyTargetMediationAdapter adapter = new MyTargetMediationAdapter();
+    assertEquals(MyTargetView.AdSize.ADSIZE_320x50,
+        MyTargetTools.getSupportedAdSize(requestedSize, context));
+
+    String report = new Microbenchmark(WARMUP_ROUNDS, MEASURED_ROUNDS, OPERATIONS_PER_ROUND)
+        .add("MyTargetTools.getSupportedAdSize", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return MyTargetTools.getSupportedAdSize(requestedSize, context);
+          }
+        })
+        .add("MyTargetMediationAdapter.getVersionInfo", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return adapter.getVersionInfo();
+          }
+        })
+        .run();
+    System.out.println(report);
+  }
+}
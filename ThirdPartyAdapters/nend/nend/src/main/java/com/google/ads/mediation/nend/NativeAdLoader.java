@@ -126,7 +126,8 @@ class NativeAdLoader {
 
     NendNativeMappedImage logoImage = null;
     if (shouldReturnUrlsForImageAssets || nendLogoImage != null) {
-      logoImage = new NendNativeMappedImage(context, nendAdImage, Uri.parse(ad.getLogoImageUrl()));
+      logoImage = new NendNativeMappedImage(context, nendLogoImage,
+          Uri.parse(ad.getLogoImageUrl()));
     }
 
     return new NendUnifiedNativeNormalAdMapper(context, forwarder, ad, adImage, logoImage);
@@ -144,7 +145,7 @@ class NativeAdLoader {
     }
 
     if (NendUnifiedNativeAdMapper.canDownloadImage(context, nendNativeAd.getAdImageUrl())) {
-      nendNativeAd.downloadAdImage(
+      NativeImageCache.getInstance().loadAdImage(nendNativeAd,
           new Callback() {
             @Override
             public void onSuccess(Bitmap adImageBitmap) {
@@ -166,7 +167,7 @@ class NativeAdLoader {
     }
 
     if (NendUnifiedNativeAdMapper.canDownloadImage(context, nendNativeAd.getLogoImageUrl())) {
-      nendNativeAd.downloadLogoImage(
+      NativeImageCache.getInstance().loadLogoImage(nendNativeAd,
           new Callback() {
             @Override
             public void onSuccess(Bitmap adLogoBitmap) {
@@ -0,0 +1,220 @@
+package com.google.ads.mediation.nend;
+
+import android.graphics.Bitmap;
+import android.text.TextUtils;
+import android.util.LruCache;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import net.nend.android.NendAdNative;
+import net.nend.android.NendAdNative.Callback;
+
+/**
+ * A URL-keyed cache of nend native ad image and logo bitmaps, consulted before asking the nend SDK
+ * to download them. Logos in particular repeat across ads of the same advertiser. The cache holds
+ * at most {@link #DEFAULT_MAX_SIZE_BYTES} of bitmaps unless set otherwise with {@link
+ * #setMaxSizeBytes(int)}, evicting the least recently used ones. Cached bitmaps are shared between
+ * ads and must not be recycled.
+ *
+ * <p>The cache's memory is bounded by its own size, so {@link NativeImageMemoryTracker} does not
+ * count or release images whose bitmap is cached: releasing one would not free any memory while the
+ * cache still holds it. Bitmaps evicted from the cache are counted by the tracker again once an ad
+ * is given them.
+ */
+public final class NativeImageCache {
+
+  /**
+   * Default maximum number of bitmap bytes kept in the cache.
+   */
+  public static final int DEFAULT_MAX_SIZE_BYTES = 4 * 1024 * 1024;
+
+  private static final NativeImageCache instance = new NativeImageCache();
+
+  private volatile LruCache<String, Bitmap> bitmaps = createBitmapCache(DEFAULT_MAX_SIZE_BYTES);
+
+  /**
+   * The bitmaps currently in {@link #bitmaps}, compared by identity.
+   */
+  private final Set<Bitmap> cachedBitmaps =
+      Collections.newSetFromMap(new WeakHashMap<Bitmap, Boolean>());
+
+  private long hitCount;
+  private long missCount;
+  private long savedBytes;
+
+  public static NativeImageCache getInstance() {
+    return instance;
+  }
+
+  private NativeImageCache() {
+  }
+
+  /**
+   * Returns the number of images served from the cache instead of being downloaded.
+   */
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Returns the number of images that were not cached and had to be downloaded.
+   */
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Returns the total size, in bytes, of the bitmaps served from the cache instead of being
+   * downloaded and decoded again.
+   */
+  public synchronized long getSavedBytes() {
+    return savedBytes;
+  }
+
+  /**
+   * Returns the total size, in bytes, of the bitmaps currently cached.
+   */
+  public int getSizeBytes() {
+    return bitmaps.size();
+  }
+
+  /**
+   * Sets the maximum number of bitmap bytes kept in the cache. Bitmaps are evicted, least recently
+   * used first, until the cache fits. A size of 0 disables the cache.
+   */
+  public synchronized void setMaxSizeBytes(int maxSizeBytes) {
+    if (maxSizeBytes < 0) {
+      throw new IllegalArgumentException("maxSizeBytes must not be negative: " + maxSizeBytes);
+    }
+    LruCache<String, Bitmap> oldBitmaps = bitmaps;
+    if (oldBitmaps.maxSize() == Math.max(maxSizeBytes, 1)) {
+      return;
+    }
+    // LruCache.resize() needs API 21, so copy the entries into a new cache instead. The snapshot
+    // lists them least recently used first, which keeps their order.
+    LruCache<String, Bitmap> newBitmaps = createBitmapCache(maxSizeBytes);
+    bitmaps = newBitmaps;
+    Map<String, Bitmap> snapshot = oldBitmaps.snapshot();
+    oldBitmaps.evictAll();
+    for (Map.Entry<String, Bitmap> entry : snapshot.entrySet()) {
+      cacheBitmap(entry.getKey(), entry.getValue());
+    }
+  }
+
+  /**
+   * Drops all cached bitmaps.
+   */
+  public void clear() {
+    bitmaps.evictAll();
+  }
+
+  /**
+   * Returns whether the given bitmap is currently held by the cache.
+   */
+  synchronized boolean isCached(@NonNull Bitmap bitmap) {
+    return cachedBitmaps.contains(bitmap);
+  }
+
+  /**
+   * Gets the ad's main image from the cache, or downloads it through the nend SDK.
+   */
+  void loadAdImage(@NonNull final NendAdNative ad, @NonNull final Callback callback) {
+    final String url = ad.getAdImageUrl();
+    if (deliverCachedBitmap(url, callback)) {
+      return;
+    }
+    ad.downloadAdImage(new CachingCallback(url, callback));
+  }
+
+  /**
+   * Gets the ad's logo image from the cache, or downloads it through the nend SDK.
+   */
+  void loadLogoImage(@NonNull final NendAdNative ad, @NonNull final Callback callback) {
+    final String url = ad.getLogoImageUrl();
+    if (deliverCachedBitmap(url, callback)) {
+      return;
+    }
+    ad.downloadLogoImage(new CachingCallback(url, callback));
+  }
+
+  /**
+   * Calls the callback with the cached bitmap of the given URL, if any.
+   *
+   * @return {@code true} if the bitmap was cached.
+   */
+  private boolean deliverCachedBitmap(@Nullable String url, @NonNull Callback callback) {
+    Bitmap bitmap = TextUtils.isEmpty(url) ? null : bitmaps.get(url);
+    synchronized (this) {
+      if (bitmap == null) {
+        missCount++;
+        return false;
+      }
+      hitCount++;
+      savedBytes += bitmap.getByteCount();
+    }
+    callback.onSuccess(bitmap);
+    return true;
+  }
+
+  private void cacheBitmap(@NonNull String url, @NonNull Bitmap bitmap) {
+    LruCache<String, Bitmap> cache = bitmaps;
+    if (bitmap.getByteCount() > cache.maxSize()) {
+      // LruCache would evict everything else before dropping the bitmap itself.
+      return;
+    }
+    synchronized (this) {
+      cachedBitmaps.add(bitmap);
+    }
+    cache.put(url, bitmap);
+  }
+
+  private LruCache<String, Bitmap> createBitmapCache(int maxSizeBytes) {
+    // LruCache does not accept a maximum size of 0; no bitmap is that small anyway.
+    return new LruCache<String, Bitmap>(Math.max(maxSizeBytes, 1)) {
+      @Override
+      protected int sizeOf(String url, Bitmap bitmap) {
+        return bitmap.getByteCount();
+      }
+
+      @Override
+      protected void entryRemoved(boolean evicted, String url, Bitmap oldBitmap,
+          Bitmap newBitmap) {
+        if (oldBitmap != newBitmap) {
+          synchronized (NativeImageCache.this) {
+            cachedBitmaps.remove(oldBitmap);
+          }
+        }
+      }
+    };
+  }
+
+  /**
+   * Caches downloaded bitmaps before passing them on.
+   */
+  private final class CachingCallback implements Callback {
+
+    private final String url;
+    private final Callback callback;
+
+    private CachingCallback(@Nullable String url, @NonNull Callback callback) {
+      this.url = url;
+      this.callback = callback;
+    }
+
+    @Override
+    public void onSuccess(Bitmap bitmap) {
+      if (bitmap != null && !TextUtils.isEmpty(url)) {
+        cacheBitmap(url, bitmap);
+      }
+      callback.onSuccess(bitmap);
+    }
+
+    @Override
+    public void onFailure(Exception exception) {
+      callback.onFailure(exception);
+    }
+  }
+}
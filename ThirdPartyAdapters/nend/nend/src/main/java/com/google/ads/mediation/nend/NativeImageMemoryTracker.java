@@ -0,0 +1,194 @@
+package com.google.ads.mediation.nend;
+
+import static com.google.ads.mediation.nend.NendMediationAdapter.TAG;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * Keeps track of the bitmap memory retained by nend native ad image assets, and enforces a budget
+ * on it. When the budget is exceeded, the images of native ads whose views are no longer tracked
+ * are released, least recently untracked first. Released images are downloaded again when their ad
+ * is tracked again. Ads whose views are tracked are never released.
+ *
+ * <p>Bitmaps held by {@link NativeImageCache} are neither counted nor released here, since the
+ * cache bounds them with its own size and keeps them in memory regardless of the ads using them.
+ *
+ * <p>Images and ads are only weakly referenced, so the tracker never keeps memory alive itself.
+ * Images are released on the thread that untracks an ad or changes the budget, which should be the
+ * main thread.
+ */
+public final class NativeImageMemoryTracker {
+
+  /**
+   * Default budget for retained image bytes.
+   */
+  public static final long DEFAULT_BUDGET_BYTES = 16 * 1024 * 1024;
+
+  private static final NativeImageMemoryTracker instance = new NativeImageMemoryTracker();
+
+  /**
+   * Images currently holding a bitmap. Entries are enqueued in {@link #mCollectedImages} once their
+   * image is garbage collected.
+   */
+  private final HashSet<RetainedImage> mRetainedImages = new HashSet<>();
+  private final ReferenceQueue<NendNativeMappedImage> mCollectedImages = new ReferenceQueue<>();
+
+  /**
+   * Ads whose views are not tracked, in the order they were untracked.
+   */
+  private final LinkedList<WeakReference<Evictable>> mEvictable = new LinkedList<>();
+
+  private long mBudgetBytes = DEFAULT_BUDGET_BYTES;
+  private long mRetainedBytes;
+  private long mPeakRetainedBytes;
+  private int mEvictionCount;
+
+  public static NativeImageMemoryTracker getInstance() {
+    return instance;
+  }
+
+  private NativeImageMemoryTracker() {
+  }
+
+  /**
+   * Sets the number of image bytes that may be retained before images of untracked ads are
+   * released.
+   */
+  public void setBudgetBytes(long budgetBytes) {
+    synchronized (this) {
+      mBudgetBytes = budgetBytes;
+    }
+    enforceBudget();
+  }
+
+  /**
+   * Returns the number of bytes currently retained by nend native ad images, not including the
+   * bitmaps held by {@link NativeImageCache}.
+   */
+  public synchronized long getRetainedBytes() {
+    pollCollectedImages();
+    return mRetainedBytes;
+  }
+
+  /**
+   * Returns the highest number of bytes retained by nend native ad images at once.
+   */
+  public synchronized long getPeakRetainedBytes() {
+    return mPeakRetainedBytes;
+  }
+
+  /**
+   * Returns the number of times the images of an untracked ad were released to stay within budget.
+   */
+  public synchronized int getEvictionCount() {
+    return mEvictionCount;
+  }
+
+  /**
+   * Records a bitmap retained by the given image.
+   *
+   * @return the handle to pass to {@link #onImageReleased(RetainedImage)}.
+   */
+  @NonNull
+  synchronized RetainedImage onImageRetained(@NonNull NendNativeMappedImage image, long bytes) {
+    pollCollectedImages();
+    RetainedImage retainedImage = new RetainedImage(image, mCollectedImages, bytes);
+    mRetainedImages.add(retainedImage);
+    mRetainedBytes += bytes;
+    mPeakRetainedBytes = Math.max(mPeakRetainedBytes, mRetainedBytes);
+    return retainedImage;
+  }
+
+  synchronized void onImageReleased(@NonNull RetainedImage retainedImage) {
+    if (mRetainedImages.remove(retainedImage)) {
+      mRetainedBytes -= retainedImage.bytes;
+    }
+  }
+
+  /**
+   * Marks an ad whose views are tracked, so its images cannot be released.
+   */
+  synchronized void onViewsTracked(@NonNull Evictable ad) {
+    removeEvictable(ad);
+  }
+
+  /**
+   * Marks an ad whose views are no longer tracked, so its images may be released.
+   */
+  void onViewUntracked(@NonNull Evictable ad) {
+    synchronized (this) {
+      removeEvictable(ad);
+      mEvictable.add(new WeakReference<>(ad));
+    }
+    enforceBudget();
+  }
+
+  private void removeEvictable(@NonNull Evictable ad) {
+    Iterator<WeakReference<Evictable>> iterator = mEvictable.iterator();
+    while (iterator.hasNext()) {
+      Evictable evictable = iterator.next().get();
+      if (evictable == null || evictable == ad) {
+        iterator.remove();
+      }
+    }
+  }
+
+  private void pollCollectedImages() {
+    RetainedImage collected;
+    while ((collected = (RetainedImage) mCollectedImages.poll()) != null) {
+      onImageReleased(collected);
+    }
+  }
+
+  private void enforceBudget() {
+    while (true) {
+      Evictable ad;
+      synchronized (this) {
+        pollCollectedImages();
+        if (mRetainedBytes <= mBudgetBytes || mEvictable.isEmpty()) {
+          return;
+        }
+        ad = mEvictable.removeFirst().get();
+        if (ad == null) {
+          continue;
+        }
+        mEvictionCount++;
+      }
+      // Released outside the lock since releasing updates the ad's views.
+      ad.releaseImages();
+      Log.d(TAG, "Released nend native ad images to stay within the memory budget.");
+    }
+  }
+
+  /**
+   * A native ad whose images can be released while its views are not tracked.
+   */
+  interface Evictable {
+
+    /**
+     * Releases the ad's decoded images. They will be reloaded when the ad's views are tracked
+     * again.
+     */
+    void releaseImages();
+  }
+
+  /**
+   * Bytes retained by an image, cleared when the image is garbage collected.
+   */
+  static final class RetainedImage extends WeakReference<NendNativeMappedImage> {
+
+    private final long bytes;
+
+    private RetainedImage(@NonNull NendNativeMappedImage image,
+        @NonNull ReferenceQueue<NendNativeMappedImage> queue, long bytes) {
+      super(image, queue);
+      this.bytes = bytes;
+    }
+  }
+}
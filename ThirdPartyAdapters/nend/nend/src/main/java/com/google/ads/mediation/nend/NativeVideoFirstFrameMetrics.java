@@ -0,0 +1,77 @@
+package com.google.ads.mediation.nend;
+
+import static com.google.ads.mediation.nend.NendMediationAdapter.TAG;
+
+import android.util.Log;
+
+/**
+ * Measures how long nend native video ads take to start playing once they are shown, i.e. how
+ * long a blank media view is visible. For every video ad that starts playing, two durations are
+ * recorded: from the moment the ad's views are first tracked to the start of playback, and from
+ * the moment the ad was loaded to the start of playback.
+ */
+public final class NativeVideoFirstFrameMetrics {
+
+  private static final NativeVideoFirstFrameMetrics instance = new NativeVideoFirstFrameMetrics();
+
+  private int firstFrameCount;
+  private long totalShowToFirstFrameMillis;
+  private long maxShowToFirstFrameMillis;
+  private long totalLoadToFirstFrameMillis;
+
+  public static NativeVideoFirstFrameMetrics getInstance() {
+    return instance;
+  }
+
+  private NativeVideoFirstFrameMetrics() {
+  }
+
+  /**
+   * Returns the number of video ads that started playing after being shown.
+   */
+  public synchronized int getFirstFrameCount() {
+    return firstFrameCount;
+  }
+
+  /**
+   * Returns the average time, in milliseconds, between a video ad being shown and starting to
+   * play.
+   */
+  public synchronized long getAverageShowToFirstFrameMillis() {
+    return firstFrameCount == 0 ? 0 : totalShowToFirstFrameMillis / firstFrameCount;
+  }
+
+  /**
+   * Returns the longest time, in milliseconds, between a video ad being shown and starting to
+   * play.
+   */
+  public synchronized long getMaxShowToFirstFrameMillis() {
+    return maxShowToFirstFrameMillis;
+  }
+
+  /**
+   * Returns the average time, in milliseconds, between a video ad being loaded and starting to
+   * play.
+   */
+  public synchronized long getAverageLoadToFirstFrameMillis() {
+    return firstFrameCount == 0 ? 0 : totalLoadToFirstFrameMillis / firstFrameCount;
+  }
+
+  public synchronized void reset() {
+    firstFrameCount = 0;
+    totalShowToFirstFrameMillis = 0;
+    maxShowToFirstFrameMillis = 0;
+    totalLoadToFirstFrameMillis = 0;
+  }
+
+  void onFirstFrame(long showToFirstFrameMillis, long loadToFirstFrameMillis) {
+    synchronized (this) {
+      firstFrameCount++;
+      totalShowToFirstFrameMillis += showToFirstFrameMillis;
+      maxShowToFirstFrameMillis = Math.max(maxShowToFirstFrameMillis, showToFirstFrameMillis);
+      totalLoadToFirstFrameMillis += loadToFirstFrameMillis;
+    }
+    Log.d(TAG, "nend native video started playing " + showToFirstFrameMillis
+        + "ms after being shown.");
+  }
+}
@@ -16,7 +16,6 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
-import com.google.android.gms.ads.MediationUtils;
 import com.google.android.gms.ads.mediation.MediationAdRequest;
 import com.google.android.gms.ads.mediation.MediationBannerAdapter;
 import com.google.android.gms.ads.mediation.MediationBannerListener;
@@ -24,7 +23,6 @@ import com.google.android.gms.ads.mediation.MediationInterstitialAdapter;
 import com.google.android.gms.ads.mediation.MediationInterstitialListener;
 import com.google.android.gms.ads.mediation.OnContextChangedListener;
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
 import net.nend.android.NendAdInformationListener;
 import net.nend.android.NendAdInterstitial;
 import net.nend.android.NendAdInterstitial.NendAdInterstitialClickType;
@@ -56,6 +54,12 @@ public class NendAdapter extends NendMediationAdapter implements MediationBanner
 
   static final String KEY_INTERSTITIAL_TYPE = "key_interstitial_type";
 
+  /**
+   * Banner sizes supported by nend. See the supported sizes in {@link #getSupportedAdSize}.
+   */
+  private static final AdSizeResolver SUPPORTED_AD_SIZES = new AdSizeResolver(AdSize.BANNER,
+      AdSize.LARGE_BANNER, new AdSize(300, 100), AdSize.MEDIUM_RECTANGLE, AdSize.LEADERBOARD);
+
   public enum InterstitialType {
     TYPE_VIDEO,
     TYPE_NORMAL
@@ -474,7 +478,7 @@ public class NendAdapter extends NendMediationAdapter implements MediationBanner
 
   // region Banner ad utility methods.
   @Nullable
-  private AdSize getSupportedAdSize(@NonNull Context context, @NonNull AdSize adSize) {
+  static AdSize getSupportedAdSize(@NonNull Context context, @NonNull AdSize adSize) {
     // Check if the specified adSize is a Smart banner since nend supports any Smart banner with at
     // least a height of 50.
     if (adSize.getWidth() == AdSize.FULL_WIDTH && adSize.getHeight() == AdSize.AUTO_HEIGHT) {
@@ -495,13 +499,7 @@ public class NendAdapter extends NendMediationAdapter implements MediationBanner
        300 × 250
        728 × 90
     */
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(AdSize.BANNER);
-    potentials.add(AdSize.LARGE_BANNER);
-    potentials.add(new AdSize(300, 100));
-    potentials.add(AdSize.MEDIUM_RECTANGLE);
-    potentials.add(AdSize.LEADERBOARD);
-    return MediationUtils.findClosestSize(context, adSize, potentials);
+    return SUPPORTED_AD_SIZES.resolve(context, adSize);
   }
   // endregion
 
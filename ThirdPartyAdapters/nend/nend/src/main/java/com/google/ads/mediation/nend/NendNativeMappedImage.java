@@ -11,16 +11,20 @@ import com.google.android.gms.ads.formats.NativeAd;
 
 public class NendNativeMappedImage extends NativeAd.Image {
 
-  private Drawable drawable;
+  private BitmapDrawable drawable;
   private final Uri uri;
   private double scale;
 
+  /**
+   * Handle of the bitmap backing {@link #drawable} in {@link NativeImageMemoryTracker}, or {@code
+   * null} if the bitmap is owned by {@link NativeImageCache}.
+   */
+  @Nullable
+  private NativeImageMemoryTracker.RetainedImage retainedImage;
+
   NendNativeMappedImage(@NonNull Context context, @Nullable Bitmap bitmap, @NonNull Uri uri) {
     this.uri = uri;
-    if (bitmap != null) {
-      drawable = new BitmapDrawable(context.getResources(), bitmap);
-      scale = 1.0;
-    }
+    setBitmap(context, bitmap);
   }
 
   @Override
@@ -37,4 +41,42 @@ public class NendNativeMappedImage extends NativeAd.Image {
   public double getScale() {
     return scale;
   }
+
+  /**
+   * Replaces the bitmap backing this image, e.g. after it was downloaded again.
+   */
+  void setBitmap(@NonNull Context context, @Nullable Bitmap bitmap) {
+    clearDrawable();
+    if (bitmap != null) {
+      drawable = new BitmapDrawable(context.getResources(), bitmap);
+      scale = 1.0;
+      // Cached bitmaps are bounded by the cache's own size, and stay in memory while cached.
+      if (!NativeImageCache.getInstance().isCached(bitmap)) {
+        retainedImage = NativeImageMemoryTracker.getInstance()
+            .onImageRetained(this, (long) bitmap.getRowBytes() * bitmap.getHeight());
+      }
+    }
+  }
+
+  /**
+   * Drops the reference to the decoded bitmap so that it can be garbage collected. A bitmap that
+   * is still held by {@link NativeImageCache} is kept, since dropping it would not free memory.
+   *
+   * @return {@code true} if there was a bitmap to release.
+   */
+  boolean releaseDrawable() {
+    if (drawable == null || NativeImageCache.getInstance().isCached(drawable.getBitmap())) {
+      return false;
+    }
+    clearDrawable();
+    return true;
+  }
+
+  private void clearDrawable() {
+    drawable = null;
+    if (retainedImage != null) {
+      NativeImageMemoryTracker.getInstance().onImageReleased(retainedImage);
+      retainedImage = null;
+    }
+  }
 }
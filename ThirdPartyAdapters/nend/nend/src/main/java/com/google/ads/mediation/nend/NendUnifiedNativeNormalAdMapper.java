@@ -4,6 +4,7 @@ import static com.google.ads.mediation.nend.NendMediationAdapter.TAG;
 
 import android.app.Activity;
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.drawable.Drawable;
 import android.util.Log;
 import android.view.View;
@@ -15,17 +16,28 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import net.nend.android.NendAdNative;
+import net.nend.android.NendAdNative.Callback;
 import net.nend.android.NendAdNativeListener;
 import net.nend.android.internal.connectors.NendNativeAdConnector;
 import net.nend.android.internal.connectors.NendNativeAdConnectorFactory;
 
 public class NendUnifiedNativeNormalAdMapper extends NendUnifiedNativeAdMapper
-    implements NendAdNativeListener {
+    implements NendAdNativeListener, NativeImageMemoryTracker.Evictable {
 
   private final NendAdNative nendAd;
   private TextView adChoicesMappingView;
   private NendNativeAdForwarder forwarder;
   private NendNativeAdConnector connector;
+  private final NendNativeMappedImage adImage;
+  private final NendNativeMappedImage logoImage;
+  private final ImageView mediaImageView;
+
+  /**
+   * Whether the ad image and logo image were released by {@link NativeImageMemoryTracker} and need
+   * to be downloaded again before the ad is shown.
+   */
+  private boolean isAdImageReleased;
+  private boolean isLogoImageReleased;
 
   NendUnifiedNativeNormalAdMapper(
       Context context,
@@ -36,6 +48,8 @@ public class NendUnifiedNativeNormalAdMapper extends NendUnifiedNativeAdMapper
     super(logoImage);
     this.forwarder = forwarder;
     nendAd = ad;
+    this.adImage = adImage;
+    this.logoImage = logoImage;
     connector = NendNativeAdConnectorFactory.createNativeAdConnector(ad);
 
     setAdvertiser(ad.getPromotionName());
@@ -57,6 +71,7 @@ public class NendUnifiedNativeNormalAdMapper extends NendUnifiedNativeAdMapper
         imageView.setImageDrawable(drawable);
       }
     }
+    mediaImageView = imageView;
     setMediaView(imageView);
     adChoicesMappingView = new TextView(context);
     adChoicesMappingView.setText(NendAdNative.AdvertisingExplicitly.PR.getText());
@@ -71,9 +86,65 @@ public class NendUnifiedNativeNormalAdMapper extends NendUnifiedNativeAdMapper
       Map<String, View> clickableAssetViews,
       Map<String, View> nonClickableAssetViews) {
     super.trackViews(containerView, clickableAssetViews, nonClickableAssetViews);
+    NativeImageMemoryTracker.getInstance().onViewsTracked(this);
+    reloadReleasedImages();
     nendAd.activate(containerView, adChoicesMappingView);
   }
 
+  @Override
+  public void untrackView(View view) {
+    super.untrackView(view);
+    NativeImageMemoryTracker.getInstance().onViewUntracked(this);
+  }
+
+  @Override
+  public void releaseImages() {
+    if (adImage != null && adImage.releaseDrawable()) {
+      mediaImageView.setImageDrawable(null);
+      isAdImageReleased = true;
+    }
+    if (logoImage != null && logoImage.releaseDrawable()) {
+      isLogoImageReleased = true;
+    }
+  }
+
+  private void reloadReleasedImages() {
+    final Context context = mediaImageView.getContext();
+    if (isAdImageReleased && canDownloadImage(context, nendAd.getAdImageUrl())) {
+      isAdImageReleased = false;
+      NativeImageCache.getInstance().loadAdImage(nendAd,
+          new Callback() {
+            @Override
+            public void onSuccess(Bitmap adImageBitmap) {
+              adImage.setBitmap(context, adImageBitmap);
+              mediaImageView.setAdjustViewBounds(true);
+              mediaImageView.setImageDrawable(adImage.getDrawable());
+            }
+
+            @Override
+            public void onFailure(Exception exception) {
+              Log.d(TAG, "Unable to download Nend ad image bitmap.", exception);
+            }
+          });
+    }
+
+    if (isLogoImageReleased && canDownloadImage(context, nendAd.getLogoImageUrl())) {
+      isLogoImageReleased = false;
+      NativeImageCache.getInstance().loadLogoImage(nendAd,
+          new Callback() {
+            @Override
+            public void onSuccess(Bitmap adLogoBitmap) {
+              logoImage.setBitmap(context, adLogoBitmap);
+            }
+
+            @Override
+            public void onFailure(Exception exception) {
+              Log.d(TAG, "Unable to download Nend logo image bitmap.", exception);
+            }
+          });
+    }
+  }
+
   @Override
   public void handleClick(View view) {
     super.handleClick(view);
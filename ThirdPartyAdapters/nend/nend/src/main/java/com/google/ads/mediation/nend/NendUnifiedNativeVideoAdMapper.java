@@ -2,6 +2,7 @@ package com.google.ads.mediation.nend;
 
 import android.content.Context;
 import android.net.Uri;
+import android.os.SystemClock;
 import android.view.View;
 import android.view.ViewGroup;
 import androidx.annotation.NonNull;
@@ -23,6 +24,14 @@ public class NendUnifiedNativeVideoAdMapper extends NendUnifiedNativeAdMapper
   private NendAdNativeVideo nativeVideo;
   private NendNativeAdForwarder forwarder;
 
+  /**
+   * Times at which the ad was loaded and its views were first tracked, used to measure the time to
+   * the first video frame. {@code trackedAtMillis} is {@code 0} until the views are tracked and
+   * {@code -1} once the first frame has been recorded.
+   */
+  private final long loadedAtMillis = SystemClock.elapsedRealtime();
+  private long trackedAtMillis;
+
   NendUnifiedNativeVideoAdMapper(
       Context context, NendNativeAdForwarder forwarder, NendAdNativeVideo ad) {
     super(
@@ -106,6 +115,9 @@ public class NendUnifiedNativeVideoAdMapper extends NendUnifiedNativeAdMapper
       Map<String, View> clickableAssetViews,
       Map<String, View> nonClickableAssetViews) {
     super.trackViews(containerView, clickableAssetViews, nonClickableAssetViews);
+    if (trackedAtMillis == 0) {
+      trackedAtMillis = SystemClock.elapsedRealtime();
+    }
     nativeVideo.registerInteractionViews(new ArrayList<>(clickableAssetViews.values()));
     layoutMediaView(containerView);
   }
@@ -142,7 +154,12 @@ public class NendUnifiedNativeVideoAdMapper extends NendUnifiedNativeAdMapper
    */
   @Override
   public void onStartPlay(@NonNull NendAdNativeMediaView nendAdNativeMediaView) {
-    // Do nothing here
+    if (trackedAtMillis > 0) {
+      long now = SystemClock.elapsedRealtime();
+      NativeVideoFirstFrameMetrics.getInstance()
+          .onFirstFrame(now - trackedAtMillis, now - loadedAtMillis);
+      trackedAtMillis = -1;
+    }
   }
 
   @Override
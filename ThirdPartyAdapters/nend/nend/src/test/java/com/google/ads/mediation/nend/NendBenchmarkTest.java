@@ -0,0 +1,51 @@
+package com.google.ads.mediation.nend;
+
+import static org.junit.Assert.assertEquals;
+
+import android.content.Context;
+import com.google.ads.mediation.benchmark.Microbenchmark;
+import com.google.android.gms.ads.AdSize;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+/**
+ * Microbenchmarks of the nend adapter code that runs on every ad request: the banner size mapping
+ * and the version parsing reported to the Google Mobile Ads SDK.
+ *
+ * <p>Run it with {@code ./gradlew :nend:testDebugUnitTest --tests '*BenchmarkTest' -i}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class NendBenchmarkTest {
+
+  private static final int WARMUP_ROUNDS = 5;
+  private static final int MEASURED_ROUNDS = 11;
+  private static final int OPERATIONS_PER_ROUND = 10000;
+
+  @Test
+  public void benchmark() {
+    final Context context = RuntimeEnvironment.getApplication();
+    final AdSize requestedSize = new AdSize(320, 60);
+    final NendMediationAdapter adapter = new NendMediationAdapter();
+    assertEquals(AdSize.BANNER, NendAdapter.getSupportedAdSize(context, requestedSize));
+
+    String report = new Microbenchmark(WARMUP_ROUNDS, MEASURED_ROUNDS, OPERATIONS_PER_ROUND)
+        .add("NendAdapter.getSupportedAdSize", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return NendAdapter.getSupportedAdSize(context, requestedSize);
+          }
+        })
+        .add("NendMediationAdapter.getVersionInfo", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return adapter.getVersionInfo();
+          }
+        })
+        .run();
+    System.out.println(report);
+  }
+}
@@ -68,6 +68,11 @@ public class UnityAdapter extends UnityMediationAdapter implements MediationInte
    */
   private UnityBannerAd bannerAd;
 
+  /**
+   * Times the interstitial ad load.
+   */
+  private LoadLatencyMetrics.LoadTrace mLoadTrace;
+
   /**
    * A list of placement IDs that are currently loaded to prevent duplicate requests.
    */
@@ -83,7 +88,9 @@ public class UnityAdapter extends UnityMediationAdapter implements MediationInte
           + placementId + "'.");
       mPlacementId = placementId;
       if (mMediationInterstitialListener != null) {
+        mLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
         mMediationInterstitialListener.onAdLoaded(UnityAdapter.this);
+        mLoadTrace.finish();
       }
     }
 
@@ -119,6 +126,7 @@ public class UnityAdapter extends UnityMediationAdapter implements MediationInte
       MediationAdRequest mediationAdRequest,
       Bundle mediationExtras) {
     mMediationInterstitialListener = mediationInterstitialListener;
+    mLoadTrace = LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_INTERSTITIAL);
 
     final String gameId = serverParameters.getString(KEY_GAME_ID);
     mPlacementId = serverParameters.getString(KEY_PLACEMENT_ID);
@@ -184,7 +192,14 @@ public class UnityAdapter extends UnityMediationAdapter implements MediationInte
       }
     }
     mPlacementsInUse.put(mPlacementId, new WeakReference<UnityAdapter>(UnityAdapter.this));
-    UnityAds.load(mPlacementId, mUnityLoadListener);
+    mLoadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
+    MainThreadWatchdog.run("UnityAdapter.requestInterstitialAd", new Runnable() {
+      @Override
+      public void run() {
+        UnityAds.load(mPlacementId, mUnityLoadListener);
+      }
+    });
+    mLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
 
   }
 
@@ -198,7 +213,7 @@ public class UnityAdapter extends UnityMediationAdapter implements MediationInte
     // ad.
     mMediationInterstitialListener.onAdOpened(UnityAdapter.this);
 
-    Activity activityReference =
+    final Activity activityReference =
         mActivityWeakReference == null ? null : mActivityWeakReference.get();
     if (activityReference == null) {
       Log.w(TAG, "Failed to show interstitial ad for placement ID '" + mPlacementId +
@@ -215,7 +230,12 @@ public class UnityAdapter extends UnityMediationAdapter implements MediationInte
     }
 
     // UnityAds can handle a null placement ID so show is always called here.
-    UnityAds.show(activityReference, mPlacementId, mUnityShowListener);
+    MainThreadWatchdog.run("UnityAdapter.showInterstitial", new Runnable() {
+      @Override
+      public void run() {
+        UnityAds.show(activityReference, mPlacementId, mUnityShowListener);
+      }
+    });
   }
 
   /**
@@ -6,12 +6,10 @@ import androidx.annotation.Nullable;
 import com.google.ads.mediation.unity.UnityMediationAdapter.AdapterError;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
-import com.google.android.gms.ads.MediationUtils;
 import com.unity3d.ads.UnityAds;
 import com.unity3d.ads.UnityAds.UnityAdsInitializationError;
 import com.unity3d.services.banners.BannerErrorInfo;
 import com.unity3d.services.banners.UnityBannerSize;
-import java.util.ArrayList;
 
 /**
  * Utility class for the Unity adapter.
@@ -20,6 +18,12 @@ public class UnityAdsAdapterUtils {
 
   private static final String SDK_ERROR_DOMAIN = "com.unity3d.ads";
 
+  /**
+   * Banner sizes supported by Unity Ads.
+   */
+  private static final AdSizeResolver SUPPORTED_AD_SIZES =
+      new AdSizeResolver(AdSize.BANNER, AdSize.LEADERBOARD);
+
   /**
    * Private constructor
    */
@@ -191,11 +195,7 @@ public class UnityAdsAdapterUtils {
   @Nullable
   public static UnityBannerSize getUnityBannerSize(@NonNull Context context,
       @NonNull AdSize adSize) {
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(AdSize.BANNER);
-    potentials.add(AdSize.LEADERBOARD);
-
-    AdSize closestSize = MediationUtils.findClosestSize(context, adSize, potentials);
+    AdSize closestSize = SUPPORTED_AD_SIZES.resolve(context, adSize);
     if (closestSize != null) {
       return new UnityBannerSize(closestSize.getWidth(), closestSize.getHeight());
     }
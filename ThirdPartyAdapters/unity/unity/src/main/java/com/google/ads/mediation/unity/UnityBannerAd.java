@@ -62,25 +62,36 @@ public class UnityBannerAd extends UnityMediationAdapter implements MediationBan
    */
   private MediationBannerListener mMediationBannerListener;
 
+  /**
+   * Times the banner ad load. Later refreshes of the banner are not timed.
+   */
+  private LoadLatencyMetrics.LoadTrace mLoadTrace;
+
   /**
    * BannerView.IListener instance.
    */
   private BannerView.IListener mUnityBannerListener = new BannerView.Listener() {
     @Override
     public void onBannerLoaded(BannerView bannerView) {
-      Log.v(TAG,
-          "Unity Ads finished loading banner ad for placement ID '" + mBannerView.getPlacementId()
-              + "'.");
+      if (AdapterLog.isLoggable(Log.VERBOSE)) {
+        AdapterLog.log(Log.VERBOSE, TAG,
+            "Unity Ads finished loading banner ad for placement ID '%s'.",
+            mBannerView.getPlacementId());
+      }
       if (mMediationBannerListener == null) {
         return;
       }
+      mLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
       mMediationBannerListener.onAdLoaded(UnityBannerAd.this);
+      mLoadTrace.finish();
     }
 
     @Override
     public void onBannerClick(BannerView bannerView) {
-      Log.v(TAG,
-          "Unity Ads banner for placement ID '" + mBannerView.getPlacementId() + "' was clicked.");
+      if (AdapterLog.isLoggable(Log.VERBOSE)) {
+        AdapterLog.log(Log.VERBOSE, TAG, "Unity Ads banner for placement ID '%s' was clicked.",
+            mBannerView.getPlacementId());
+      }
       if (mMediationBannerListener == null) {
         return;
       }
@@ -102,8 +113,11 @@ public class UnityBannerAd extends UnityMediationAdapter implements MediationBan
 
     @Override
     public void onBannerLeftApplication(BannerView bannerView) {
-      Log.v(TAG, "Unity Ads banner for placement ID '" + mBannerView.getPlacementId()
-          + "' has left the application.");
+      if (AdapterLog.isLoggable(Log.VERBOSE)) {
+        AdapterLog.log(Log.VERBOSE, TAG,
+            "Unity Ads banner for placement ID '%s' has left the application.",
+            mBannerView.getPlacementId());
+      }
       mMediationBannerListener.onAdLeftApplication(UnityBannerAd.this);
     }
   };
@@ -130,6 +144,7 @@ public class UnityBannerAd extends UnityMediationAdapter implements MediationBan
       Bundle serverParameters,
       final AdSize adSize, MediationAdRequest adRequest, Bundle mediationExtras) {
     mMediationBannerListener = listener;
+    mLoadTrace = LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_BANNER);
 
     gameId = serverParameters.getString(KEY_GAME_ID);
     bannerPlacementId = serverParameters.getString(KEY_PLACEMENT_ID);
@@ -188,15 +203,23 @@ public class UnityBannerAd extends UnityMediationAdapter implements MediationBan
         .initializeUnityAds(context, gameId, new IUnityAdsInitializationListener() {
           @Override
           public void onInitializationComplete() {
+            mLoadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
             Log.d(TAG, "Unity Ads successfully initialized, can now load " +
                 "banner ad for placement ID '" + bannerPlacementId + "' in game '" + gameId + "'.");
 
-            if (mBannerView == null) {
-              mBannerView = new BannerView((Activity) context, bannerPlacementId, unityBannerSize);
-            }
-
-            mBannerView.setListener(mUnityBannerListener);
-            mBannerView.load();
+            MainThreadWatchdog.run("UnityBannerAd.loadBanner", new Runnable() {
+              @Override
+              public void run() {
+                if (mBannerView == null) {
+                  mBannerView =
+                      new BannerView((Activity) context, bannerPlacementId, unityBannerSize);
+                }
+
+                mBannerView.setListener(mUnityBannerListener);
+                mBannerView.load();
+              }
+            });
+            mLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
           }
 
           @Override
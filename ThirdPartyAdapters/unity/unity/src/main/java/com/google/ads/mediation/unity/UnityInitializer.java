@@ -51,8 +51,8 @@ public class UnityInitializer {
    * @param gameId                 Unity Ads Game ID.
    * @param initializationListener Unity Ads Initialization listener.
    */
-  public void initializeUnityAds(Context context, String gameId, IUnityAdsInitializationListener
-      initializationListener) {
+  public void initializeUnityAds(final Context context, final String gameId,
+      final IUnityAdsInitializationListener initializationListener) {
 
     if (UnityAds.isInitialized()) {
       // Unity Ads is already initialized.
@@ -60,13 +60,18 @@ public class UnityInitializer {
       return;
     }
 
-    // Set mediation meta data before initializing.
-    MediationMetaData mediationMetaData = new MediationMetaData(context);
-    mediationMetaData.setName("AdMob");
-    mediationMetaData.setVersion(BuildConfig.VERSION_NAME);
-    mediationMetaData.set("adapter_version", UnityAds.getVersion());
-    mediationMetaData.commit();
+    MainThreadWatchdog.run("UnityInitializer.initializeUnityAds", new Runnable() {
+      @Override
+      public void run() {
+        // Set mediation meta data before initializing.
+        MediationMetaData mediationMetaData = new MediationMetaData(context);
+        mediationMetaData.setName("AdMob");
+        mediationMetaData.setVersion(BuildConfig.VERSION_NAME);
+        mediationMetaData.set("adapter_version", UnityAds.getVersion());
+        mediationMetaData.commit();
 
-    UnityAds.initialize(context, gameId, false, true, initializationListener);
+        UnityAds.initialize(context, gameId, false, true, initializationListener);
+      }
+    });
   }
 }
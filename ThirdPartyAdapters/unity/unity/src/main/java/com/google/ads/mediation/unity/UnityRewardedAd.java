@@ -59,6 +59,11 @@ public class UnityRewardedAd implements MediationRewardedAd {
    */
   private String mPlacementId;
 
+  /**
+   * Times the rewarded ad load.
+   */
+  private LoadLatencyMetrics.LoadTrace mLoadTrace;
+
   /**
    * A list of placement IDs that are currently loaded to prevent duplicate requests.
    */
@@ -76,7 +81,9 @@ public class UnityRewardedAd implements MediationRewardedAd {
       if (mMediationAdLoadCallback == null) {
         return;
       }
+      mLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
       mMediationRewardedAdCallback = mMediationAdLoadCallback.onSuccess(UnityRewardedAd.this);
+      mLoadTrace.finish();
     }
 
     @Override
@@ -98,6 +105,7 @@ public class UnityRewardedAd implements MediationRewardedAd {
   public void load(MediationRewardedAdConfiguration mediationRewardedAdConfiguration,
       MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback> callback) {
     this.mMediationAdLoadCallback = callback;
+    this.mLoadTrace = LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_REWARDED);
 
     Context context = mediationRewardedAdConfiguration.getContext();
     if (context == null || !(context instanceof Activity)) {
@@ -157,7 +165,14 @@ public class UnityRewardedAd implements MediationRewardedAd {
       }
     }
     mPlacementsInUse.put(placementId, new WeakReference<UnityRewardedAd>(UnityRewardedAd.this));
-    UnityAds.load(placementId, mUnityLoadListener);
+    mLoadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
+    MainThreadWatchdog.run("UnityRewardedAd.load", new Runnable() {
+      @Override
+      public void run() {
+        UnityAds.load(placementId, mUnityLoadListener);
+      }
+    });
+    mLoadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
   }
 
   @Override
@@ -175,7 +190,7 @@ public class UnityRewardedAd implements MediationRewardedAd {
       }
       return;
     }
-    Activity activity = (Activity) context;
+    final Activity activity = (Activity) context;
 
     // Check if the placement is ready before showing
     if (mPlacementId == null) {
@@ -183,7 +198,12 @@ public class UnityRewardedAd implements MediationRewardedAd {
     }
 
     // UnityAds can handle a null placement ID so show is always called here.
-    UnityAds.show(activity, mPlacementId, mUnityShowListener);
+    MainThreadWatchdog.run("UnityRewardedAd.showAd", new Runnable() {
+      @Override
+      public void run() {
+        UnityAds.show(activity, mPlacementId, mUnityShowListener);
+      }
+    });
 
     // Unity Ads does not have an ad opened callback.
     if (mMediationRewardedAdCallback != null) {
@@ -0,0 +1,99 @@
+package com.google.ads.mediation.unity;
+
+import static com.google.ads.mediation.unity.UnityMediationAdapter.TAG;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import android.content.Context;
+import android.util.Log;
+import com.google.ads.mediation.benchmark.Microbenchmark;
+import com.google.android.gms.ads.AdSize;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+/**
+ * Microbenchmarks of the Unity Ads adapter code that runs on every ad request: the banner size
+ * mapping, the version parsing reported to the Google Mobile Ads SDK, and dropped log messages in
+ * the banner callbacks.
+ *
+ * <p>Run it with {@code ./gradlew :unity:testDebugUnitTest --tests '*BenchmarkTest' -i}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class UnityBenchmarkTest {
+
+  private static final int WARMUP_ROUNDS = 5;
+  private static final int MEASURED_ROUNDS = 11;
+  private static final int OPERATIONS_PER_ROUND = 10000;
+
+  @After
+  public void tearDown() {
+    AdapterLog.setLevel(Log.VERBOSE);
+  }
+
+  @Test
+  public void benchmark() {
+    final Context context = RuntimeEnvironment.getApplication();
+    final AdSize requestedSize = new AdSize(320, 60);
+    final UnityMediationAdapter adapter = new UnityMediationAdapter();
+    assertEquals(320, UnityAdsAdapterUtils.getUnityBannerSize(context, requestedSize).getWidth());
+
+    String report = new Microbenchmark(WARMUP_ROUNDS, MEASURED_ROUNDS, OPERATIONS_PER_ROUND)
+        .add("UnityAdsAdapterUtils.getUnityBannerSize", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return UnityAdsAdapterUtils.getUnityBannerSize(context, requestedSize);
+          }
+        })
+        .add("UnityMediationAdapter.getVersionInfo", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return adapter.getVersionInfo();
+          }
+        })
+        .run();
+    System.out.println(report);
+  }
+
+  @Test
+  public void benchmarkDroppedLogs() {
+    // Drop the verbose messages that UnityBannerAd logs in its banner callbacks.
+    AdapterLog.setLevel(Log.INFO);
+    assertFalse(AdapterLog.isLoggable(Log.VERBOSE));
+    final String placementId = "banner";
+    final int bannerCount = 1000;
+
+    String report = new Microbenchmark(WARMUP_ROUNDS, MEASURED_ROUNDS, OPERATIONS_PER_ROUND)
+        .add("AdapterLog.log", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            AdapterLog.log(Log.VERBOSE, TAG, "Unity Ads banner for placement ID '%s' was clicked.",
+                placementId);
+            return placementId;
+          }
+        })
+        .add("AdapterLog.log.autoboxed", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            // The int argument is boxed before AdapterLog drops the message.
+            AdapterLog.log(Log.VERBOSE, TAG, "%d banners are loaded.", bannerCount);
+            return placementId;
+          }
+        })
+        .add("AdapterLog.isLoggable.autoboxed", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            if (AdapterLog.isLoggable(Log.VERBOSE)) {
+              AdapterLog.log(Log.VERBOSE, TAG, "%d banners are loaded.", bannerCount);
+            }
+            return placementId;
+          }
+        })
+        .run();
+    System.out.println(report);
+  }
+}
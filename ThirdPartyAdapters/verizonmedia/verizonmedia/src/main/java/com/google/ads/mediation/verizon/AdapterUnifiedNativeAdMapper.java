@@ -9,6 +9,7 @@ import android.graphics.BitmapFactory;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.net.Uri;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.util.Log;
 import android.view.View;
@@ -23,10 +24,33 @@ import java.net.HttpURLConnection;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.json.JSONObject;
 
 class AdapterUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
 
+  /**
+   * Number of threads fetching native ad images, shared by all Verizon Media native ads.
+   */
+  private static final int IMAGE_FETCH_THREAD_COUNT = 4;
+
+  /**
+   * Time after which idle image fetch threads exit, so that apps that stop showing native ads do
+   * not keep them around.
+   */
+  private static final long IMAGE_FETCH_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+  /**
+   * Overall deadline for fetching all images of a native ad.
+   */
+  private static final long IMAGE_FETCH_TIMEOUT_MILLIS = 10 * 1000;
+
+  private static final ThreadPoolExecutor imageFetchExecutor = createImageFetchExecutor();
+
   /**
    * Verizon Media native ad.
    */
@@ -41,7 +65,17 @@ class AdapterUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
 
     this.context = context;
     verizonAd = nativeAd;
+  }
+
+  private static ThreadPoolExecutor createImageFetchExecutor() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(IMAGE_FETCH_THREAD_COUNT,
+        IMAGE_FETCH_THREAD_COUNT, IMAGE_FETCH_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<Runnable>());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
 
+  private void parseTextComponents(@NonNull final NativeAd nativeAd) {
     // title
     setHeadline(parseTextComponent("title", nativeAd));
 
@@ -69,12 +103,23 @@ class AdapterUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
     }
   }
 
-  private Drawable drawableFromUrl(final String url) {
+  /**
+   * Downloads the image at the given URL, giving up at the given deadline.
+   */
+  private Drawable drawableFromUrl(final String url, final long deadlineMillis) {
 
     HttpURLConnection connection = null;
     InputStream input = null;
     try {
       connection = (HttpURLConnection) new URL(url).openConnection();
+      // A cancelled fetch does not interrupt blocking network I/O, so the connection itself has to
+      // time out at the deadline. A timeout of 0 would wait forever.
+      int remainingMillis = (int) (deadlineMillis - SystemClock.elapsedRealtime());
+      if (remainingMillis <= 0) {
+        return null;
+      }
+      connection.setConnectTimeout(remainingMillis);
+      connection.setReadTimeout(remainingMillis);
       connection.connect();
       input = connection.getInputStream();
 
@@ -109,21 +154,32 @@ class AdapterUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
     verizonAd.invokeDefaultAction(context);
   }
 
-  private AdapterNativeMappedImage parseImageComponent(final JSONObject jsonObject) {
+  /**
+   * Starts fetching the image of the given component on the shared image fetch executor.
+   *
+   * @return the image being fetched, or {@code null} if the component is missing or invalid.
+   */
+  private Future<AdapterNativeMappedImage> fetchImageComponent(final JSONObject jsonObject,
+      final long deadlineMillis) {
 
     if (jsonObject != null) {
       try {
         JSONObject dataObject = jsonObject.getJSONObject("data");
-        Uri url = Uri.parse(dataObject.optString("url"));
-        String assetPath = dataObject.optString("asset");
-        Drawable drawable;
-        if (TextUtils.isEmpty(assetPath)) {
-          drawable = drawableFromUrl(url.toString());
-        } else {
-          drawable = Drawable.createFromPath(assetPath);
-        }
-        return new AdapterNativeMappedImage(drawable, url,
-            VerizonMediationAdapter.VAS_IMAGE_SCALE);
+        final Uri url = Uri.parse(dataObject.optString("url"));
+        final String assetPath = dataObject.optString("asset");
+        return imageFetchExecutor.submit(new Callable<AdapterNativeMappedImage>() {
+          @Override
+          public AdapterNativeMappedImage call() {
+            Drawable drawable;
+            if (TextUtils.isEmpty(assetPath)) {
+              drawable = drawableFromUrl(url.toString(), deadlineMillis);
+            } else {
+              drawable = Drawable.createFromPath(assetPath);
+            }
+            return new AdapterNativeMappedImage(drawable, url,
+                VerizonMediationAdapter.VAS_IMAGE_SCALE);
+          }
+        });
       } catch (Exception e) {
         Log.e(TAG, "Unable to parse data object.", e);
       }
@@ -131,6 +187,24 @@ class AdapterUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
     return null;
   }
 
+  /**
+   * Waits for the given image until the deadline, and cancels it if it is not ready by then.
+   */
+  private static AdapterNativeMappedImage awaitImage(Future<AdapterNativeMappedImage> future,
+      long deadlineMillis) {
+    if (future == null) {
+      return null;
+    }
+    try {
+      long remainingMillis = Math.max(0, deadlineMillis - SystemClock.elapsedRealtime());
+      return future.get(remainingMillis, TimeUnit.MILLISECONDS);
+    } catch (Exception e) {
+      Log.e(TAG, "Unable to fetch native ad image.", e);
+      future.cancel(true);
+      return null;
+    }
+  }
+
   private String parseTextComponent(final String key, final NativeAd nativeAd) {
 
     String value = "";
@@ -146,6 +220,10 @@ class AdapterUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
     return value;
   }
 
+  /**
+   * Parses the ad's text components and fetches its images in parallel off the main thread, then
+   * sets up the media view and calls the listener on the main thread.
+   */
   void loadResources(final LoadListener loadListener) {
 
     ThreadUtils.runOffUiThread(new Runnable() {
@@ -153,57 +231,83 @@ class AdapterUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
       public void run() {
 
         try {
-          boolean iconSet = false;
-          boolean mediaViewSet = false;
-
-          // iconImage
-          JSONObject iconImageJSON = verizonAd.getJSON("iconImage");
-          if (iconImageJSON != null) {
-            AdapterNativeMappedImage adapterNativeMappedImage =
-                parseImageComponent(iconImageJSON);
-            if (adapterNativeMappedImage != null) {
-              setIcon(adapterNativeMappedImage);
-              iconSet = true;
-            }
+          long startMillis = SystemClock.elapsedRealtime();
+          parseTextComponents(verizonAd);
+          long parsedMillis = SystemClock.elapsedRealtime();
+
+          // Fetch the icon and main image at the same time, under a single deadline.
+          long deadlineMillis = parsedMillis + IMAGE_FETCH_TIMEOUT_MILLIS;
+          Future<AdapterNativeMappedImage> iconFuture =
+              fetchImageComponent(verizonAd.getJSON("iconImage"), deadlineMillis);
+          Future<AdapterNativeMappedImage> mainImageFuture =
+              fetchImageComponent(verizonAd.getJSON("mainImage"), deadlineMillis);
+          final AdapterNativeMappedImage icon = awaitImage(iconFuture, deadlineMillis);
+          final AdapterNativeMappedImage mainImage = awaitImage(mainImageFuture, deadlineMillis);
+          final long fetchedMillis = SystemClock.elapsedRealtime();
+          if (Log.isLoggable(TAG, Log.DEBUG)) {
+            Log.d(TAG, "Verizon native ad resources: parse " + (parsedMillis - startMillis)
+                + "ms, image fetch " + (fetchedMillis - parsedMillis) + "ms.");
           }
 
-          // mainImage
-          JSONObject mainImageJSON = verizonAd.getJSON("mainImage");
-          if (mainImageJSON != null) {
-            List<com.google.android.gms.ads.formats.NativeAd.Image> imagesList =
-                new ArrayList<>();
-            AdapterNativeMappedImage adapterNativeMappedImage =
-                parseImageComponent(mainImageJSON);
-            if (adapterNativeMappedImage != null) {
-              imagesList.add(adapterNativeMappedImage);
-
-              // Setting main image as the AdMob's MediaView
-              ImageView imageView = new ImageView(context);
-              imageView.setImageDrawable(adapterNativeMappedImage.getDrawable());
-              ViewGroup.LayoutParams layoutParams = new ViewGroup.LayoutParams(
-                  ViewGroup.LayoutParams.MATCH_PARENT,
-                  ViewGroup.LayoutParams.MATCH_PARENT);
-              imageView.setLayoutParams(layoutParams);
-              setMediaView(imageView);
-              mediaViewSet = true;
+          ThreadUtils.postOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+              deliverResources(icon, mainImage, fetchedMillis, loadListener);
             }
-            setImages(imagesList);
-          }
-
-          if (mediaViewSet && iconSet) {
-            loadListener.onLoadComplete();
-          } else {
-            Log.e(TAG, "Failed to set icon and/or media view");
-            loadListener.onLoadError();
-          }
+          });
         } catch (Exception e) {
           Log.e(TAG, "Unable to load resources.", e);
-          loadListener.onLoadError();
+          ThreadUtils.postOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+              loadListener.onLoadError();
+            }
+          });
         }
       }
     });
   }
 
+  /**
+   * Sets the fetched images and the media view, and reports the result. Must be called on the
+   * main thread.
+   */
+  private void deliverResources(AdapterNativeMappedImage icon, AdapterNativeMappedImage mainImage,
+      long fetchedMillis, LoadListener loadListener) {
+    if (icon != null) {
+      setIcon(icon);
+    }
+
+    List<com.google.android.gms.ads.formats.NativeAd.Image> imagesList = new ArrayList<>();
+    if (mainImage != null) {
+      imagesList.add(mainImage);
+
+      // Setting main image as the AdMob's MediaView
+      ImageView imageView = new ImageView(context);
+      imageView.setImageDrawable(mainImage.getDrawable());
+      ViewGroup.LayoutParams layoutParams = new ViewGroup.LayoutParams(
+          ViewGroup.LayoutParams.MATCH_PARENT,
+          ViewGroup.LayoutParams.MATCH_PARENT);
+      imageView.setLayoutParams(layoutParams);
+      setMediaView(imageView);
+    }
+    setImages(imagesList);
+
+    if (mainImage != null && icon != null) {
+      loadListener.onLoadComplete();
+    } else {
+      Log.e(TAG, "Failed to set icon and/or media view");
+      loadListener.onLoadError();
+    }
+    if (Log.isLoggable(TAG, Log.DEBUG)) {
+      Log.d(TAG, "Verizon native ad resources: main thread hop and delivery "
+          + (SystemClock.elapsedRealtime() - fetchedMillis) + "ms.");
+    }
+  }
+
+  /**
+   * Receives the result of {@link #loadResources(LoadListener)} on the main thread.
+   */
   interface LoadListener {
 
     void onLoadComplete();
@@ -0,0 +1,413 @@
+package com.google.ads.mediation.verizon;
+
+import static com.google.ads.mediation.verizon.VerizonMediationAdapter.TAG;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.verizon.ads.ErrorInfo;
+import com.verizon.ads.RequestMetadata;
+import com.verizon.ads.interstitialplacement.InterstitialAd;
+import com.verizon.ads.interstitialplacement.InterstitialAdFactory;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Opt-in cache of prefetched Verizon Media interstitial ads. When enabled, a number of ready
+ * interstitials is kept per placement ID, and interstitial requests for that placement are served
+ * from the cache without waiting for an ad request. A cached ad is only served to a request with
+ * the same {@link RequestMetadata} as the request it was prefetched for. The cache is refilled in
+ * the background when a request is served, after a request that could not be served has loaded,
+ * and after each ad is shown. Cached ads that the Verizon Ads SDK reports as expired, or otherwise
+ * failed, are destroyed instead of being served.
+ *
+ * <p>The cache is disabled by default. Enable it with {@link #setCacheSize(int)}.
+ */
+public final class InterstitialPrefetchCache {
+
+  private static final InterstitialPrefetchCache instance = new InterstitialPrefetchCache();
+
+  /**
+   * Ready interstitials per placement ID, oldest first.
+   */
+  private final HashMap<String, LinkedList<PrefetchedInterstitial>> readyAds = new HashMap<>();
+
+  /**
+   * Number of prefetch requests in flight per placement ID.
+   */
+  private final HashMap<String, Integer> pendingLoads = new HashMap<>();
+
+  /**
+   * The last request made for each placement ID, used to refill the cache after a show.
+   */
+  private final HashMap<String, RefillRequest> lastRequests = new HashMap<>();
+
+  private int cacheSize;
+  private long hitCount;
+  private long missCount;
+  private long savedLoadMillis;
+
+  public static InterstitialPrefetchCache getInstance() {
+    return instance;
+  }
+
+  private InterstitialPrefetchCache() {
+  }
+
+  /**
+   * Sets the number of ready interstitials to keep per placement ID. A size of 0, the default,
+   * disables the cache and destroys any cached interstitials.
+   */
+  public void setCacheSize(int cacheSize) {
+    synchronized (this) {
+      this.cacheSize = Math.max(0, cacheSize);
+      if (this.cacheSize > 0) {
+        return;
+      }
+    }
+    clear();
+  }
+
+  /**
+   * Returns the number of interstitial requests served from the cache.
+   */
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Returns the number of interstitial requests made while the cache was enabled that could not be
+   * served from it.
+   */
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Returns the fraction of interstitial requests, between 0 and 1, served from the cache.
+   */
+  public synchronized float getHitRate() {
+    long requests = hitCount + missCount;
+    return requests == 0 ? 0 : (float) hitCount / requests;
+  }
+
+  /**
+   * Returns the total load time, in milliseconds, of the interstitials served from the cache,
+   * which requests did not have to wait for.
+   */
+  public synchronized long getSavedLoadMillis() {
+    return savedLoadMillis;
+  }
+
+  /**
+   * Destroys all cached interstitials.
+   */
+  public void clear() {
+    LinkedList<PrefetchedInterstitial> cleared = new LinkedList<>();
+    synchronized (this) {
+      for (LinkedList<PrefetchedInterstitial> ads : readyAds.values()) {
+        cleared.addAll(ads);
+      }
+      readyAds.clear();
+      lastRequests.clear();
+    }
+    for (PrefetchedInterstitial prefetched : cleared) {
+      prefetched.ad.destroy();
+    }
+  }
+
+  synchronized boolean isEnabled() {
+    return cacheSize > 0;
+  }
+
+  /**
+   * Removes and returns a ready interstitial for the given placement ID that was prefetched with
+   * the given request metadata, or returns {@code null} if there is none. Events of the returned
+   * interstitial are forwarded to the given listener.
+   *
+   * <p>Cached interstitials prefetched with other request metadata are destroyed, since the cache
+   * is refilled for the latest request metadata.
+   */
+  @Nullable
+  InterstitialAd poll(@NonNull String placementId, @Nullable RequestMetadata requestMetadata,
+      @NonNull InterstitialAd.InterstitialAdListener listener) {
+    PrefetchedInterstitial prefetched = null;
+    LinkedList<PrefetchedInterstitial> stale = new LinkedList<>();
+    synchronized (this) {
+      LinkedList<PrefetchedInterstitial> ads = readyAds.get(placementId);
+      while (ads != null && !ads.isEmpty() && prefetched == null) {
+        PrefetchedInterstitial candidate = ads.removeFirst();
+        if (isSameRequest(candidate.loader.requestMetadata, requestMetadata)) {
+          prefetched = candidate;
+        } else {
+          stale.add(candidate);
+        }
+      }
+      if (prefetched != null) {
+        hitCount++;
+        savedLoadMillis += prefetched.loadDurationMillis;
+        // Set under the lock, so that an expiry reported from now on reaches the listener.
+        prefetched.loader.listener = listener;
+      } else {
+        missCount++;
+      }
+    }
+
+    for (PrefetchedInterstitial staleAd : stale) {
+      staleAd.ad.destroy();
+    }
+    return prefetched != null ? prefetched.ad : null;
+  }
+
+  /**
+   * Prefetches interstitials for the given placement ID until the cache is full. The request is
+   * remembered so that the cache can be refilled after a show. Cached interstitials prefetched with
+   * other request metadata are destroyed.
+   */
+  void refill(@NonNull Context context, @NonNull String placementId,
+      @Nullable RequestMetadata requestMetadata) {
+    int loadCount;
+    RefillRequest request = new RefillRequest(context.getApplicationContext(), requestMetadata);
+    LinkedList<PrefetchedInterstitial> stale = new LinkedList<>();
+    synchronized (this) {
+      if (cacheSize == 0) {
+        return;
+      }
+      lastRequests.put(placementId, request);
+      LinkedList<PrefetchedInterstitial> ads = readyAds.get(placementId);
+      if (ads != null) {
+        Iterator<PrefetchedInterstitial> iterator = ads.iterator();
+        while (iterator.hasNext()) {
+          PrefetchedInterstitial prefetched = iterator.next();
+          if (!isSameRequest(prefetched.loader.requestMetadata, requestMetadata)) {
+            iterator.remove();
+            stale.add(prefetched);
+          }
+        }
+      }
+      int readyCount = ads != null ? ads.size() : 0;
+      Integer pendingCount = pendingLoads.get(placementId);
+      loadCount = cacheSize - readyCount - (pendingCount != null ? pendingCount : 0);
+      if (loadCount > 0) {
+        pendingLoads.put(placementId, (pendingCount != null ? pendingCount : 0) + loadCount);
+      }
+    }
+
+    for (PrefetchedInterstitial staleAd : stale) {
+      staleAd.ad.destroy();
+    }
+    for (int i = 0; i < loadCount; i++) {
+      Loader loader = new Loader(placementId, requestMetadata);
+      InterstitialAdFactory factory =
+          new InterstitialAdFactory(request.context, placementId, loader);
+      factory.setRequestMetaData(requestMetadata);
+      factory.load(loader);
+    }
+  }
+
+  /**
+   * Refills the cache after an interstitial of the given placement ID was shown.
+   */
+  void onShown(@NonNull String placementId) {
+    RefillRequest request;
+    synchronized (this) {
+      request = lastRequests.get(placementId);
+    }
+    if (request != null) {
+      refill(request.context, placementId, request.requestMetadata);
+    }
+  }
+
+  private void onPrefetched(@NonNull String placementId,
+      @Nullable PrefetchedInterstitial prefetched) {
+    boolean isAccepted = false;
+    synchronized (this) {
+      Integer pendingCount = pendingLoads.get(placementId);
+      if (pendingCount != null && pendingCount > 1) {
+        pendingLoads.put(placementId, pendingCount - 1);
+      } else {
+        pendingLoads.remove(placementId);
+      }
+
+      RefillRequest lastRequest = lastRequests.get(placementId);
+      if (prefetched != null && cacheSize > 0 && lastRequest != null
+          && isSameRequest(prefetched.loader.requestMetadata, lastRequest.requestMetadata)) {
+        LinkedList<PrefetchedInterstitial> ads = readyAds.get(placementId);
+        if (ads == null) {
+          ads = new LinkedList<>();
+          readyAds.put(placementId, ads);
+        }
+        if (ads.size() < cacheSize) {
+          ads.add(prefetched);
+          isAccepted = true;
+        }
+      }
+    }
+    if (prefetched != null && !isAccepted) {
+      // The cache was disabled or shrunk, or the request metadata changed, while the ad was
+      // loading.
+      prefetched.ad.destroy();
+    }
+  }
+
+  /**
+   * Removes a cached interstitial that the Verizon Ads SDK reported an error for before it was
+   * served, such as its expiry, and destroys it.
+   *
+   * @return {@code false} if the interstitial was already served, in which case the error belongs
+   * to the request it was served to.
+   */
+  private boolean evict(@NonNull Loader loader, @NonNull InterstitialAd ad) {
+    synchronized (this) {
+      if (loader.listener != null) {
+        return false;
+      }
+      LinkedList<PrefetchedInterstitial> ads = readyAds.get(loader.placementId);
+      if (ads != null) {
+        Iterator<PrefetchedInterstitial> iterator = ads.iterator();
+        while (iterator.hasNext()) {
+          if (iterator.next().loader == loader) {
+            iterator.remove();
+            break;
+          }
+        }
+      }
+    }
+    ad.destroy();
+    return true;
+  }
+
+  private static boolean isSameRequest(@Nullable RequestMetadata requestMetadata,
+      @Nullable RequestMetadata otherRequestMetadata) {
+    if (requestMetadata == null || otherRequestMetadata == null) {
+      return requestMetadata == otherRequestMetadata;
+    }
+    return isEqual(requestMetadata.getMediator(), otherRequestMetadata.getMediator())
+        && isEqual(requestMetadata.getExtras(), otherRequestMetadata.getExtras());
+  }
+
+  private static boolean isEqual(@Nullable Object object, @Nullable Object otherObject) {
+    return object == null ? otherObject == null : object.equals(otherObject);
+  }
+
+  /**
+   * Loads a single interstitial for the cache, and forwards its events to the listener of the
+   * request it is eventually served to.
+   */
+  private final class Loader implements InterstitialAdFactory.InterstitialAdFactoryListener,
+      InterstitialAd.InterstitialAdListener {
+
+    private final String placementId;
+    @Nullable
+    private final RequestMetadata requestMetadata;
+    private final long startMillis = SystemClock.elapsedRealtime();
+
+    /**
+     * The listener of the request this interstitial was served to, or {@code null} while it is
+     * cached. Only set under the cache's lock.
+     */
+    @Nullable
+    private volatile InterstitialAd.InterstitialAdListener listener;
+
+    private Loader(@NonNull String placementId, @Nullable RequestMetadata requestMetadata) {
+      this.placementId = placementId;
+      this.requestMetadata = requestMetadata;
+    }
+
+    @Override
+    public void onLoaded(InterstitialAdFactory interstitialAdFactory,
+        InterstitialAd interstitialAd) {
+      onPrefetched(placementId, new PrefetchedInterstitial(interstitialAd, this,
+          SystemClock.elapsedRealtime() - startMillis));
+    }
+
+    @Override
+    public void onError(InterstitialAdFactory interstitialAdFactory, ErrorInfo errorInfo) {
+      Log.w(TAG, "Failed to prefetch Verizon Ads SDK interstitial: " + errorInfo);
+      onPrefetched(placementId, null);
+    }
+
+    @Override
+    public void onError(InterstitialAd interstitialAd, ErrorInfo errorInfo) {
+      if (evict(this, interstitialAd)) {
+        Log.i(TAG, "Dropped cached Verizon Ads SDK interstitial: " + errorInfo);
+        return;
+      }
+      InterstitialAd.InterstitialAdListener currentListener = listener;
+      if (currentListener != null) {
+        currentListener.onError(interstitialAd, errorInfo);
+      }
+    }
+
+    @Override
+    public void onShown(InterstitialAd interstitialAd) {
+      InterstitialAd.InterstitialAdListener currentListener = listener;
+      if (currentListener != null) {
+        currentListener.onShown(interstitialAd);
+      }
+    }
+
+    @Override
+    public void onClosed(InterstitialAd interstitialAd) {
+      InterstitialAd.InterstitialAdListener currentListener = listener;
+      if (currentListener != null) {
+        currentListener.onClosed(interstitialAd);
+      }
+    }
+
+    @Override
+    public void onClicked(InterstitialAd interstitialAd) {
+      InterstitialAd.InterstitialAdListener currentListener = listener;
+      if (currentListener != null) {
+        currentListener.onClicked(interstitialAd);
+      }
+    }
+
+    @Override
+    public void onAdLeftApplication(InterstitialAd interstitialAd) {
+      InterstitialAd.InterstitialAdListener currentListener = listener;
+      if (currentListener != null) {
+        currentListener.onAdLeftApplication(interstitialAd);
+      }
+    }
+
+    @Override
+    public void onEvent(InterstitialAd interstitialAd, String source, String eventId,
+        Map<String, Object> arguments) {
+      InterstitialAd.InterstitialAdListener currentListener = listener;
+      if (currentListener != null) {
+        currentListener.onEvent(interstitialAd, source, eventId, arguments);
+      }
+    }
+  }
+
+  private static final class PrefetchedInterstitial {
+
+    private final InterstitialAd ad;
+    private final Loader loader;
+    private final long loadDurationMillis;
+
+    private PrefetchedInterstitial(@NonNull InterstitialAd ad, @NonNull Loader loader,
+        long loadDurationMillis) {
+      this.ad = ad;
+      this.loader = loader;
+      this.loadDurationMillis = loadDurationMillis;
+    }
+  }
+
+  private static final class RefillRequest {
+
+    private final Context context;
+    @Nullable
+    private final RequestMetadata requestMetadata;
+
+    private RefillRequest(@NonNull Context context, @Nullable RequestMetadata requestMetadata) {
+      this.context = context;
+      this.requestMetadata = requestMetadata;
+    }
+  }
+}
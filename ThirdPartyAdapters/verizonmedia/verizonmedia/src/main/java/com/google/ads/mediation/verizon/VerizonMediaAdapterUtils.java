@@ -6,7 +6,6 @@ import android.text.TextUtils;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.android.gms.ads.AdSize;
-import com.google.android.gms.ads.MediationUtils;
 import com.google.android.gms.ads.mediation.MediationAdConfiguration;
 import com.google.android.gms.ads.mediation.MediationAdRequest;
 import com.verizon.ads.BuildConfig;
@@ -21,6 +20,12 @@ class VerizonMediaAdapterUtils {
   private static final String DCN_KEY = "dcn";
   private static final String MEDIATOR_ID = "AdMobVAS-" + BuildConfig.VERSION_NAME;
 
+  /**
+   * Banner sizes supported by Verizon Media.
+   */
+  private static final AdSizeResolver SUPPORTED_AD_SIZES =
+      new AdSizeResolver(AdSize.BANNER, AdSize.LEADERBOARD, AdSize.MEDIUM_RECTANGLE);
+
   public static final String SITE_KEY = "site_id";
 
   /**
@@ -151,11 +156,7 @@ class VerizonMediaAdapterUtils {
    */
   @Nullable
   static AdSize normalizeSize(@NonNull Context context, @NonNull AdSize adSize) {
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(AdSize.BANNER);
-    potentials.add(AdSize.LEADERBOARD);
-    potentials.add(AdSize.MEDIUM_RECTANGLE);
-    return MediationUtils.findClosestSize(context, adSize, potentials);
+    return SUPPORTED_AD_SIZES.resolve(context, adSize);
   }
 
 }
@@ -48,6 +48,12 @@ final class VerizonMediaBannerRenderer implements InlineAdView.InlineAdListener,
    */
   private InlineAdView inlineAdView;
 
+  /**
+   * Times the banner ad load.
+   */
+  private final LoadLatencyMetrics.LoadTrace loadTrace =
+      LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_BANNER);
+
   public VerizonMediaBannerRenderer(MediationBannerAdapter adapter) {
     bannerAdapterWeakRef = new WeakReference<>(adapter);
   }
@@ -73,6 +79,7 @@ final class VerizonMediaBannerRenderer implements InlineAdView.InlineAdListener,
       }
       return;
     }
+    loadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
 
     String placementId = VerizonMediaAdapterUtils.getPlacementId(serverParameters);
     if (TextUtils.isEmpty(placementId)) {
@@ -111,11 +118,17 @@ final class VerizonMediaBannerRenderer implements InlineAdView.InlineAdListener,
             normalizedSize.getHeight());
     VASAds.setLocationEnabled((mediationAdRequest.getLocation() != null));
     VerizonMediaAdapterUtils.setCoppaValue(mediationAdRequest);
-    InlineAdFactory inlineAdFactory = new InlineAdFactory(context, placementId,
+    final InlineAdFactory inlineAdFactory = new InlineAdFactory(context, placementId,
         Collections.singletonList(verizonAdSize), this);
     inlineAdFactory.setRequestMetaData(
         VerizonMediaAdapterUtils.getRequestMetadata(mediationAdRequest));
-    inlineAdFactory.load(this);
+    MainThreadWatchdog.run("VerizonMediaBannerRenderer.render", new Runnable() {
+      @Override
+      public void run() {
+        inlineAdFactory.load(VerizonMediaBannerRenderer.this);
+      }
+    });
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
   }
 
   @Override
@@ -197,6 +210,7 @@ final class VerizonMediaBannerRenderer implements InlineAdView.InlineAdListener,
 
   @Override
   public void onLoaded(final InlineAdFactory inlineAdFactory, final InlineAdView inlineAdView) {
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
     this.inlineAdView = inlineAdView;
     Log.i(TAG, "Verizon Ads SDK inline ad request succeeded.");
     ThreadUtils.postOnUiThread(new Runnable() {
@@ -206,6 +220,7 @@ final class VerizonMediaBannerRenderer implements InlineAdView.InlineAdListener,
         adContainer.addView(inlineAdView);
         if (bannerListener != null && adapter != null) {
           bannerListener.onAdLoaded(adapter);
+          loadTrace.finish();
         }
       }
     });
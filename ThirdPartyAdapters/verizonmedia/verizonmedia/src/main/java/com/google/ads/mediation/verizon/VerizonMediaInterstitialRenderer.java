@@ -12,6 +12,7 @@ import com.google.android.gms.ads.mediation.MediationAdRequest;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdapter;
 import com.google.android.gms.ads.mediation.MediationInterstitialListener;
 import com.verizon.ads.ErrorInfo;
+import com.verizon.ads.RequestMetadata;
 import com.verizon.ads.VASAds;
 import com.verizon.ads.interstitialplacement.InterstitialAd;
 import com.verizon.ads.interstitialplacement.InterstitialAdFactory;
@@ -38,6 +39,25 @@ final class VerizonMediaInterstitialRenderer implements InterstitialAd.Interstit
    */
   private InterstitialAd interstitialAd;
 
+  /**
+   * Verizon Media placement ID of the interstitial ad.
+   */
+  private String placementId;
+
+  /**
+   * Times the interstitial ad load. Loads served from {@link InterstitialPrefetchCache} are
+   * recorded with an SDK callback phase of about 0ms.
+   */
+  private final LoadLatencyMetrics.LoadTrace loadTrace =
+      LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_INTERSTITIAL);
+
+  /**
+   * The request to refill {@link InterstitialPrefetchCache} with once this renderer's own ad
+   * request completes, or {@code null} if there is none.
+   */
+  private Context refillContext;
+  private RequestMetadata refillRequestMetadata;
+
   public VerizonMediaInterstitialRenderer(final MediationInterstitialAdapter adapter) {
     interstitialAdapterWeakRef = new WeakReference<>(adapter);
   }
@@ -63,6 +83,7 @@ final class VerizonMediaInterstitialRenderer implements InterstitialAd.Interstit
       }
       return;
     }
+    loadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
 
     String placementId = VerizonMediaAdapterUtils.getPlacementId(serverParameters);
     if (TextUtils.isEmpty(placementId)) {
@@ -71,13 +92,37 @@ final class VerizonMediaInterstitialRenderer implements InterstitialAd.Interstit
       return;
     }
 
+    this.placementId = placementId;
     VerizonMediaAdapterUtils.setCoppaValue(mediationAdRequest);
     VASAds.setLocationEnabled((mediationAdRequest.getLocation() != null));
-    InterstitialAdFactory interstitialAdFactory = new InterstitialAdFactory(context, placementId
-        , this);
-    interstitialAdFactory.setRequestMetaData(VerizonMediaAdapterUtils
-        .getRequestMetadata(mediationAdRequest));
-    interstitialAdFactory.load(this);
+    RequestMetadata requestMetadata =
+        VerizonMediaAdapterUtils.getRequestMetadata(mediationAdRequest);
+
+    InterstitialPrefetchCache prefetchCache = InterstitialPrefetchCache.getInstance();
+    if (prefetchCache.isEnabled()) {
+      InterstitialAd prefetchedAd = prefetchCache.poll(placementId, requestMetadata, this);
+      if (prefetchedAd != null) {
+        prefetchCache.refill(context, placementId, requestMetadata);
+        Log.i(TAG, "Serving prefetched Verizon Ads SDK interstitial.");
+        onLoaded(null, prefetchedAd);
+        return;
+      }
+      // Refill only after the ad request below completes, so that prefetches do not compete with
+      // it.
+      refillContext = context.getApplicationContext();
+      refillRequestMetadata = requestMetadata;
+    }
+
+    final InterstitialAdFactory interstitialAdFactory = new InterstitialAdFactory(context,
+        placementId, this);
+    interstitialAdFactory.setRequestMetaData(requestMetadata);
+    MainThreadWatchdog.run("VerizonMediaInterstitialRenderer.render", new Runnable() {
+      @Override
+      public void run() {
+        interstitialAdFactory.load(VerizonMediaInterstitialRenderer.this);
+      }
+    });
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
   }
 
   @Override
@@ -98,6 +143,9 @@ final class VerizonMediaInterstitialRenderer implements InterstitialAd.Interstit
   @Override
   public void onShown(final InterstitialAd interstitialAd) {
     Log.i(TAG, "Verizon Ads SDK interstitial shown.");
+    if (placementId != null) {
+      InterstitialPrefetchCache.getInstance().onShown(placementId);
+    }
     ThreadUtils.postOnUiThread(new Runnable() {
       @Override
       public void run() {
@@ -161,14 +209,17 @@ final class VerizonMediaInterstitialRenderer implements InterstitialAd.Interstit
   public void onLoaded(final InterstitialAdFactory interstitialAdFactory,
       final InterstitialAd interstitialAd) {
 
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
     this.interstitialAd = interstitialAd;
     Log.i(TAG, "Verizon Ads SDK interstitial loaded.");
+    refillPrefetchCache();
     ThreadUtils.postOnUiThread(new Runnable() {
       @Override
       public void run() {
         MediationInterstitialAdapter adapter = interstitialAdapterWeakRef.get();
         if (adapter != null && interstitialListener != null) {
           interstitialListener.onAdLoaded(adapter);
+          loadTrace.finish();
         }
       }
     });
@@ -180,6 +231,7 @@ final class VerizonMediaInterstitialRenderer implements InterstitialAd.Interstit
       final ErrorInfo errorInfo) {
     Log.w(TAG, "Verizon Ads SDK interstitial request failed (" + errorInfo.getErrorCode()
         + "): " + errorInfo.getDescription());
+    refillPrefetchCache();
     final int errorCode;
     switch (errorInfo.getErrorCode()) {
       case VASAds.ERROR_AD_REQUEST_FAILED:
@@ -203,13 +255,27 @@ final class VerizonMediaInterstitialRenderer implements InterstitialAd.Interstit
     });
   }
 
-  void showInterstitial(@NonNull Context context) {
+  private void refillPrefetchCache() {
+    if (refillContext != null) {
+      InterstitialPrefetchCache.getInstance()
+          .refill(refillContext, placementId, refillRequestMetadata);
+      refillContext = null;
+      refillRequestMetadata = null;
+    }
+  }
+
+  void showInterstitial(@NonNull final Context context) {
     if (interstitialAd == null) {
       Log.e(TAG, "Failed to show: No ads to show.");
       return;
     }
 
-    interstitialAd.show(context);
+    MainThreadWatchdog.run("VerizonMediaInterstitialRenderer.showInterstitial", new Runnable() {
+      @Override
+      public void run() {
+        interstitialAd.show(context);
+      }
+    });
   }
 
   void destroy() {
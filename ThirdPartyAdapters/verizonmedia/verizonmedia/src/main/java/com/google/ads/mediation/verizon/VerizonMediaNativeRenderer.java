@@ -44,6 +44,12 @@ final class VerizonMediaNativeRenderer implements NativeAd.NativeAdListener,
    */
   private NativeAd nativeAd;
 
+  /**
+   * Times the native ad load, including loading its image assets.
+   */
+  private final LoadLatencyMetrics.LoadTrace loadTrace =
+      LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_NATIVE);
+
   public VerizonMediaNativeRenderer(MediationNativeAdapter adapter) {
     this.nativeAdapterWeakRef = new WeakReference<>(adapter);
   }
@@ -71,6 +77,7 @@ final class VerizonMediaNativeRenderer implements NativeAd.NativeAdListener,
       }
       return;
     }
+    loadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
 
     String placementId = VerizonMediaAdapterUtils.getPlacementId(serverParameters);
     if (TextUtils.isEmpty(placementId)) {
@@ -84,16 +91,23 @@ final class VerizonMediaNativeRenderer implements NativeAd.NativeAdListener,
     VerizonMediaAdapterUtils.setCoppaValue(mediationAdRequest);
     VASAds.setLocationEnabled((mediationAdRequest.getLocation() != null));
     String[] adTypes = new String[] {"100", "simpleImage"};
-    NativeAdFactory nativeAdFactory = new NativeAdFactory(context, placementId, adTypes, this);
+    final NativeAdFactory nativeAdFactory =
+        new NativeAdFactory(context, placementId, adTypes, this);
     nativeAdFactory.setRequestMetaData(
         VerizonMediaAdapterUtils.getRequestMetadata(mediationAdRequest));
-    NativeAdOptions options = mediationAdRequest.getNativeAdOptions();
+    final NativeAdOptions options = mediationAdRequest.getNativeAdOptions();
 
-    if ((options == null) || (!options.shouldReturnUrlsForImageAssets())) {
-      nativeAdFactory.load(this);
-    } else {
-      nativeAdFactory.loadWithoutAssets(this);
-    }
+    MainThreadWatchdog.run("VerizonMediaNativeRenderer.render", new Runnable() {
+      @Override
+      public void run() {
+        if ((options == null) || (!options.shouldReturnUrlsForImageAssets())) {
+          nativeAdFactory.load(VerizonMediaNativeRenderer.this);
+        } else {
+          nativeAdFactory.loadWithoutAssets(VerizonMediaNativeRenderer.this);
+        }
+      }
+    });
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
   }
 
   @Override
@@ -155,38 +169,24 @@ final class VerizonMediaNativeRenderer implements NativeAd.NativeAdListener,
 
   @Override
   public void onLoaded(final NativeAdFactory nativeAdFactory, final NativeAd nativeAd) {
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
     this.nativeAd = nativeAd;
     Log.i(TAG, "Verizon Ads SDK native ad request succeeded: Loading succeeded.");
-    ThreadUtils.postOnUiThread(new Runnable() {
+    final MediationNativeAdapter adapter = nativeAdapterWeakRef.get();
+    final AdapterUnifiedNativeAdMapper mapper =
+        new AdapterUnifiedNativeAdMapper(context, nativeAd);
+
+    // Mapping runs off the main thread, and the listener is called on the main thread.
+    mapper.loadResources(new AdapterUnifiedNativeAdMapper.LoadListener() {
       @Override
-      public void run() {
+      public void onLoadComplete() {
+        nativeListener.onAdLoaded(adapter, mapper);
+        loadTrace.finish();
+      }
 
-        final MediationNativeAdapter adapter = nativeAdapterWeakRef.get();
-        final AdapterUnifiedNativeAdMapper mapper =
-            new AdapterUnifiedNativeAdMapper(context, nativeAd);
-
-        mapper.loadResources(new AdapterUnifiedNativeAdMapper.LoadListener() {
-          @Override
-          public void onLoadComplete() {
-            ThreadUtils.postOnUiThread(new Runnable() {
-              @Override
-              public void run() {
-                nativeListener.onAdLoaded(adapter, mapper);
-              }
-            });
-          }
-
-          @Override
-          public void onLoadError() {
-            ThreadUtils.postOnUiThread(new Runnable() {
-              @Override
-              public void run() {
-                nativeListener.onAdFailedToLoad(adapter,
-                    AdRequest.ERROR_CODE_INTERNAL_ERROR);
-              }
-            });
-          }
-        });
+      @Override
+      public void onLoadError() {
+        nativeListener.onAdFailedToLoad(adapter, AdRequest.ERROR_CODE_INTERNAL_ERROR);
       }
     });
   }
@@ -52,6 +52,12 @@ class VerizonMediaRewardedRenderer implements InterstitialAd.InterstitialAdListe
    */
   private MediationRewardedAdConfiguration mediationRewardedAdConfiguration;
 
+  /**
+   * Times the rewarded ad load.
+   */
+  private final LoadLatencyMetrics.LoadTrace loadTrace =
+      LoadLatencyMetrics.startLoad(LoadLatencyMetrics.FORMAT_REWARDED);
+
   public VerizonMediaRewardedRenderer(@NonNull MediationAdLoadCallback<MediationRewardedAd,
       MediationRewardedAdCallback> mediationAdLoadCallback, MediationRewardedAdConfiguration
       mediationRewardedAdConfiguration) {
@@ -70,6 +76,7 @@ class VerizonMediaRewardedRenderer implements InterstitialAd.InterstitialAdListe
       mediationAdLoadCallback.onFailure(message);
       return;
     }
+    loadTrace.mark(LoadLatencyMetrics.Phase.INIT_WAIT);
 
     String placementId = VerizonMediaAdapterUtils.getPlacementId(serverParameters);
     if (TextUtils.isEmpty(placementId)) {
@@ -81,18 +88,25 @@ class VerizonMediaRewardedRenderer implements InterstitialAd.InterstitialAdListe
 
     VerizonMediaAdapterUtils.setCoppaValue(mediationRewardedAdConfiguration);
     VASAds.setLocationEnabled((mediationRewardedAdConfiguration.getLocation() != null));
-    InterstitialAdFactory interstitialAdFactory =
+    final InterstitialAdFactory interstitialAdFactory =
         new InterstitialAdFactory(mediationRewardedAdConfiguration.getContext(),
             placementId, this);
     interstitialAdFactory.setRequestMetaData(VerizonMediaAdapterUtils
         .getRequestMetaData(mediationRewardedAdConfiguration));
-    interstitialAdFactory.load(this);
+    MainThreadWatchdog.run("VerizonMediaRewardedRenderer.render", new Runnable() {
+      @Override
+      public void run() {
+        interstitialAdFactory.load(VerizonMediaRewardedRenderer.this);
+      }
+    });
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_REQUEST);
   }
 
   @Override
   public void onLoaded(final InterstitialAdFactory interstitialAdFactory,
       final InterstitialAd interstitialAd) {
 
+    loadTrace.mark(LoadLatencyMetrics.Phase.SDK_CALLBACK);
     Log.i(TAG, "Verizon Ads SDK incentivized video interstitial loaded.");
     this.rewardedAd = interstitialAd;
     // Reset the completion event with each new interstitial ad load.
@@ -103,6 +117,7 @@ class VerizonMediaRewardedRenderer implements InterstitialAd.InterstitialAdListe
         if (mediationAdLoadCallback != null) {
           mediationRewardedAdCallback =
               mediationAdLoadCallback.onSuccess(VerizonMediaRewardedRenderer.this);
+          loadTrace.finish();
         }
       }
     });
@@ -215,7 +230,7 @@ class VerizonMediaRewardedRenderer implements InterstitialAd.InterstitialAdListe
   }
 
   @Override
-  public void showAd(Context context) {
+  public void showAd(final Context context) {
     if (context == null) {
       if (mediationRewardedAdCallback != null) {
         mediationRewardedAdCallback.onAdFailedToShow("Failed to show: context is null.");
@@ -230,7 +245,12 @@ class VerizonMediaRewardedRenderer implements InterstitialAd.InterstitialAdListe
       return;
     }
 
-    rewardedAd.show(context);
+    MainThreadWatchdog.run("VerizonMediaRewardedRenderer.showAd", new Runnable() {
+      @Override
+      public void run() {
+        rewardedAd.show(context);
+      }
+    });
   }
 
   void destroy() {
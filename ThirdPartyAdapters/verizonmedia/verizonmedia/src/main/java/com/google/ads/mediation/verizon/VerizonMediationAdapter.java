@@ -261,9 +261,15 @@ public class VerizonMediationAdapter extends Adapter
         return false;
       }
       try {
-        Application application = ((Activity) context).getApplication();
+        final Application application = ((Activity) context).getApplication();
         Log.d(TAG, "Initializing using site ID: " + siteId);
-        success = VASAds.initialize(application, siteId);
+        MainThreadWatchdog.run("VerizonMediationAdapter.initializeSDK", new Runnable() {
+          @Override
+          public void run() {
+            VASAds.initialize(application, siteId);
+          }
+        });
+        success = VASAds.isInitialized();
       } catch (Exception e) {
         Log.e(TAG, "Error occurred initializing Verizon Ads SDK, ", e);
 
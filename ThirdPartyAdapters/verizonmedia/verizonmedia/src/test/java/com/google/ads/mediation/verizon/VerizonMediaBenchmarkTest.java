@@ -0,0 +1,61 @@
+package com.google.ads.mediation.verizon;
+
+import static org.junit.Assert.assertEquals;
+
+import android.content.Context;
+import android.os.Bundle;
+import com.google.ads.mediation.benchmark.Microbenchmark;
+import com.google.android.gms.ads.AdSize;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+/**
+ * Microbenchmarks of the Verizon Media adapter code that runs on every ad request: reading the site
+ * ID, the banner size mapping and the version parsing reported to the Google Mobile Ads SDK.
+ *
+ * <p>Run it with {@code ./gradlew :verizonmedia:testDebugUnitTest --tests '*BenchmarkTest' -i}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class VerizonMediaBenchmarkTest {
+
+  private static final int WARMUP_ROUNDS = 5;
+  private static final int MEASURED_ROUNDS = 11;
+  private static final int OPERATIONS_PER_ROUND = 10000;
+
+  @Test
+  public void benchmark() {
+    final Context context = RuntimeEnvironment.getApplication();
+    final Bundle serverParameters = new Bundle();
+    serverParameters.putString(VerizonMediaAdapterUtils.SITE_KEY, "site-id");
+    final Bundle mediationExtras = new Bundle();
+    final AdSize requestedSize = new AdSize(320, 60);
+    final VerizonMediationAdapter adapter = new VerizonMediationAdapter();
+    assertEquals("site-id", VerizonMediaAdapterUtils.getSiteId(serverParameters, mediationExtras));
+
+    String report = new Microbenchmark(WARMUP_ROUNDS, MEASURED_ROUNDS, OPERATIONS_PER_ROUND)
+        .add("VerizonMediaAdapterUtils.getSiteId", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return VerizonMediaAdapterUtils.getSiteId(serverParameters, mediationExtras);
+          }
+        })
+        .add("VerizonMediaAdapterUtils.normalizeSize", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return VerizonMediaAdapterUtils.normalizeSize(context, requestedSize);
+          }
+        })
+        .add("VerizonMediationAdapter.getVersionInfo", new Microbenchmark.Benchmark() {
+          @Override
+          public Object run() {
+            return adapter.getVersionInfo();
+          }
+        })
+        .run();
+    System.out.println(report);
+  }
+}
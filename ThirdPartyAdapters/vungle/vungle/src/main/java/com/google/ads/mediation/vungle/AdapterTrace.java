@@ -0,0 +1,101 @@
+package com.google.ads.mediation.vungle;
+
+import android.os.Build;
+import android.os.Trace;
+import androidx.annotation.NonNull;
+import androidx.annotation.RestrictTo;
+import androidx.annotation.RestrictTo.Scope;
+import com.vungle.mediation.BuildConfig;
+import com.vungle.warren.LoadAdCallback;
+import com.vungle.warren.error.VungleException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Emits {@link Trace} sections around the Vungle adapter's hot paths so that they can be
+ * attributed in Perfetto and systrace captures. All methods compile to no-ops unless the adapter
+ * is built with the {@code enableAdapterTracing} Gradle property, e.g. {@code ./gradlew
+ * assembleRelease -PenableAdapterTracing}.
+ *
+ * <p>Public only so that the banner and interstitial adapters in {@code com.vungle.mediation} can
+ * use it.
+ */
+@RestrictTo(Scope.LIBRARY)
+public final class AdapterTrace {
+
+  private static final String SECTION_PREFIX = "Vungle:";
+
+  private static final AtomicInteger nextCookie = new AtomicInteger();
+
+  private AdapterTrace() {
+  }
+
+  /**
+   * Begins a section on the current thread. Must be ended with {@link #endSection()} on the same
+   * thread.
+   */
+  public static void beginSection(@NonNull String name) {
+    if (BuildConfig.ENABLE_TRACING && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+      Trace.beginSection(SECTION_PREFIX + name);
+    }
+  }
+
+  /**
+   * Ends the most recent section begun on the current thread.
+   */
+  public static void endSection() {
+    if (BuildConfig.ENABLE_TRACING && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+      Trace.endSection();
+    }
+  }
+
+  /**
+   * Begins an asynchronous slice, such as an ad request waiting for its callback, which may end on
+   * another thread.
+   *
+   * @return the cookie to pass to {@link #endAsyncSection(String, int)}.
+   */
+  public static int beginAsyncSection(@NonNull String name) {
+    if (BuildConfig.ENABLE_TRACING && Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+      int cookie = nextCookie.incrementAndGet();
+      Trace.beginAsyncSection(SECTION_PREFIX + name, cookie);
+      return cookie;
+    }
+    return 0;
+  }
+
+  /**
+   * Ends an asynchronous slice begun with {@link #beginAsyncSection(String)}.
+   */
+  public static void endAsyncSection(@NonNull String name, int cookie) {
+    if (BuildConfig.ENABLE_TRACING && Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+      Trace.endAsyncSection(SECTION_PREFIX + name, cookie);
+    }
+  }
+
+  /**
+   * Begins an asynchronous slice for an ad load, and returns a callback that ends it before
+   * passing the load's outcome on to the given callback. Returns the given callback itself when
+   * asynchronous slices are not traced.
+   */
+  @NonNull
+  public static LoadAdCallback traceAdLoad(@NonNull final String name,
+      @NonNull final LoadAdCallback callback) {
+    if (!BuildConfig.ENABLE_TRACING || Build.VERSION.SDK_INT < Build.VERSION_CODES.Q) {
+      return callback;
+    }
+    final int cookie = beginAsyncSection(name);
+    return new LoadAdCallback() {
+      @Override
+      public void onAdLoad(String placementId) {
+        endAsyncSection(name, cookie);
+        callback.onAdLoad(placementId);
+      }
+
+      @Override
+      public void onError(String placementId, VungleException exception) {
+        endAsyncSection(name, cookie);
+        callback.onError(placementId, exception);
+      }
+    };
+  }
+}
@@ -23,6 +23,8 @@ public class VungleInitializer implements InitCallback {
 
   private Handler mHandler = new Handler(Looper.getMainLooper());
 
+  private int mInitTraceCookie;
+
   public static VungleInitializer getInstance() {
     return instance;
   }
@@ -69,12 +71,19 @@ public class VungleInitializer implements InitCallback {
     if (vungleSettings == null) {
       vungleSettings = new VungleSettings.Builder().build();
     }
-    Vungle.init(appId, context.getApplicationContext(), VungleInitializer.this, vungleSettings);
+    mInitTraceCookie = AdapterTrace.beginAsyncSection("initialize");
+    AdapterTrace.beginSection("Vungle.init");
+    try {
+      Vungle.init(appId, context.getApplicationContext(), VungleInitializer.this, vungleSettings);
+    } finally {
+      AdapterTrace.endSection();
+    }
     mInitListeners.add(listener);
   }
 
   @Override
   public void onSuccess() {
+    AdapterTrace.endAsyncSection("initialize", mInitTraceCookie);
     mHandler.post(
         new Runnable() {
           @Override
@@ -95,6 +104,7 @@ public class VungleInitializer implements InitCallback {
 
   @Override
   public void onError(final VungleException throwable) {
+    AdapterTrace.endAsyncSection("initialize", mInitTraceCookie);
     mHandler.post(
         new Runnable() {
           @Override
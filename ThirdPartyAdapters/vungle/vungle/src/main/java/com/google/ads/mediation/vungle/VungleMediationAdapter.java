@@ -200,7 +200,8 @@ public class VungleMediationAdapter extends Adapter
                   return;
                 }
 
-                Vungle.loadAd(mPlacement, VungleMediationAdapter.this);
+                Vungle.loadAd(mPlacement,
+                    AdapterTrace.traceAdLoad("loadRewardedAd", VungleMediationAdapter.this));
               }
 
               @Override
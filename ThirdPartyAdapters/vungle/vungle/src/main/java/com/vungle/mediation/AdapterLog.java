@@ -0,0 +1,78 @@
+package com.vungle.mediation;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Locale;
+
+/**
+ * Level-gated logging for the Vungle adapter. Messages are only formatted once they are known
+ * to be logged, so hot paths such as ad callbacks don't build strings that are thrown away.
+ *
+ * <p>Messages below the level set with {@link #setLevel(int)} are dropped at runtime. The default
+ * is {@link Log#VERBOSE}, so the adapter logs everything it logged before this class was added.
+ * Apps that don't want the adapter's debug output can raise it, e.g. to {@link Log#INFO}.
+ *
+ * <p>Messages below {@code BuildConfig.MIN_LOG_LEVEL}, set with the {@code adapterMinLogLevel}
+ * Gradle property, are never logged. Because the level is a build-time constant, R8 can drop the
+ * logging branch of such calls when it inlines {@link #isLoggable(int)}. The arguments of a
+ * {@code log} call are still evaluated before the check, so call sites whose arguments are
+ * computed or autoboxed are guarded with {@link #isLoggable(int)}.
+ */
+public final class AdapterLog {
+
+  private static volatile int level = Log.VERBOSE;
+
+  private AdapterLog() {
+  }
+
+  /**
+   * Sets the lowest {@link Log} priority that the Vungle adapter logs, e.g. {@link
+   * Log#VERBOSE} to log everything.
+   */
+  public static void setLevel(int priority) {
+    level = priority;
+  }
+
+  /**
+   * Returns the lowest {@link Log} priority that the Vungle adapter logs.
+   */
+  public static int getLevel() {
+    return level;
+  }
+
+  /**
+   * Returns whether messages of the given priority are logged. Use this to guard log calls whose
+   * arguments are expensive to compute or would be autoboxed.
+   */
+  static boolean isLoggable(int priority) {
+    return priority >= BuildConfig.MIN_LOG_LEVEL && priority >= level;
+  }
+
+  static void log(int priority, @NonNull String tag, @NonNull String message) {
+    if (isLoggable(priority)) {
+      Log.println(priority, tag, message);
+    }
+  }
+
+  static void log(int priority, @NonNull String tag, @NonNull String format,
+      @Nullable Object arg) {
+    if (isLoggable(priority)) {
+      Log.println(priority, tag, String.format(Locale.US, format, arg));
+    }
+  }
+
+  static void log(int priority, @NonNull String tag, @NonNull String format,
+      @Nullable Object arg1, @Nullable Object arg2) {
+    if (isLoggable(priority)) {
+      Log.println(priority, tag, String.format(Locale.US, format, arg1, arg2));
+    }
+  }
+
+  static void log(int priority, @NonNull String tag, @NonNull String format,
+      @Nullable Object arg1, @Nullable Object arg2, @Nullable Object arg3) {
+    if (isLoggable(priority)) {
+      Log.println(priority, tag, String.format(Locale.US, format, arg1, arg2, arg3));
+    }
+  }
+}
@@ -6,6 +6,7 @@ import android.view.View;
 import android.widget.RelativeLayout;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.vungle.AdapterTrace;
 import com.google.ads.mediation.vungle.VungleBannerAd;
 import com.google.ads.mediation.vungle.VungleInitializer;
 import com.google.ads.mediation.vungle.VunglePlayAdCallback;
@@ -211,9 +212,10 @@ public class VungleBannerAdapter implements PlayAdCallback {
   private void loadBanner() {
     Log.d(TAG, "loadBanner: " + this);
     if (AdConfig.AdSize.isBannerAdSize(mAdConfig.getAdSize())) {
-      Banners.loadBanner(placementId, mAdConfig.getAdSize(), mAdLoadCallback);
+      Banners.loadBanner(placementId, mAdConfig.getAdSize(),
+          AdapterTrace.traceAdLoad("loadBannerAd", mAdLoadCallback));
     } else {
-      Vungle.loadAd(placementId, mAdLoadCallback);
+      Vungle.loadAd(placementId, AdapterTrace.traceAdLoad("loadBannerAd", mAdLoadCallback));
     }
   }
 
@@ -25,11 +25,11 @@ import android.text.TextUtils;
 import android.util.Log;
 import android.view.View;
 import androidx.annotation.Keep;
+import com.google.ads.mediation.vungle.AdapterTrace;
 import com.google.ads.mediation.vungle.VungleBannerAd;
 import com.google.ads.mediation.vungle.VungleInitializer;
 import com.google.android.gms.ads.AdRequest;
 import com.google.android.gms.ads.AdSize;
-import com.google.android.gms.ads.MediationUtils;
 import com.google.android.gms.ads.mediation.MediationAdRequest;
 import com.google.android.gms.ads.mediation.MediationBannerAdapter;
 import com.google.android.gms.ads.mediation.MediationBannerListener;
@@ -40,7 +40,6 @@ import com.vungle.warren.LoadAdCallback;
 import com.vungle.warren.PlayAdCallback;
 import com.vungle.warren.Vungle;
 import com.vungle.warren.error.VungleException;
-import java.util.ArrayList;
 
 /**
  * A {@link MediationInterstitialAdapter} used to load and show Vungle interstitial ads using Google
@@ -51,6 +50,15 @@ public class VungleInterstitialAdapter
     implements MediationInterstitialAdapter, MediationBannerAdapter {
 
   private static final String TAG = VungleInterstitialAdapter.class.getSimpleName();
+
+  /**
+   * Banner sizes supported by Vungle.
+   */
+  private static final AdSizeResolver SUPPORTED_AD_SIZES = new AdSizeResolver(
+      new AdSize(BANNER_SHORT.getWidth(), BANNER_SHORT.getHeight()),
+      new AdSize(BANNER.getWidth(), BANNER.getHeight()),
+      new AdSize(BANNER_LEADERBOARD.getWidth(), BANNER_LEADERBOARD.getHeight()),
+      new AdSize(VUNGLE_MREC.getWidth(), VUNGLE_MREC.getHeight()));
   private MediationInterstitialListener mMediationInterstitialListener;
   private VungleManager mVungleManager;
   private AdConfig mAdConfig;
@@ -128,7 +136,7 @@ public class VungleInterstitialAdapter
       return;
     }
 
-    Vungle.loadAd(mPlacementForPlay, new LoadAdCallback() {
+    LoadAdCallback loadCallback = new LoadAdCallback() {
       @Override
       public void onAdLoad(String placementID) {
         if (mMediationInterstitialListener != null) {
@@ -144,7 +152,8 @@ public class VungleInterstitialAdapter
               VungleInterstitialAdapter.this, exception.getExceptionCode());
         }
       }
-    });
+    };
+    Vungle.loadAd(mPlacementForPlay, AdapterTrace.traceAdLoad("loadInterstitialAd", loadCallback));
   }
 
   @Override
@@ -298,13 +307,7 @@ public class VungleInterstitialAdapter
   }
 
   private boolean hasBannerSizeAd(Context context, AdSize adSize, AdConfig adConfig) {
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(new AdSize(BANNER_SHORT.getWidth(), BANNER_SHORT.getHeight()));
-    potentials.add(new AdSize(BANNER.getWidth(), BANNER.getHeight()));
-    potentials.add(new AdSize(BANNER_LEADERBOARD.getWidth(), BANNER_LEADERBOARD.getHeight()));
-    potentials.add(new AdSize(VUNGLE_MREC.getWidth(), VUNGLE_MREC.getHeight()));
-
-    AdSize closestSize = MediationUtils.findClosestSize(context, adSize, potentials);
+    AdSize closestSize = SUPPORTED_AD_SIZES.resolve(context, adSize);
     if (closestSize == null) {
       Log.i(TAG, "Not found closest ad size: " + adSize);
       return false;
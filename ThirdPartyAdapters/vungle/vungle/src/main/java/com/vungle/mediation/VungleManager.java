@@ -98,8 +98,8 @@ public class VungleManager {
 
     VungleBannerAdapter adapter = bannerAd.getAdapter();
     String activeUniqueRequestId = adapter.getUniqueRequestId();
-    Log.d(TAG,
-        "activeUniqueId: " + activeUniqueRequestId + " ###  RequestId: " + requestUniqueId);
+    AdapterLog.log(Log.DEBUG, TAG, "activeUniqueId: %s ###  RequestId: %s",
+        activeUniqueRequestId, requestUniqueId);
 
     if (activeUniqueRequestId == null) {
       Log.w(TAG, "Ad already loaded for placement ID: " + placementId + ", and cannot "
@@ -109,7 +109,7 @@ public class VungleManager {
     }
 
     if (!activeUniqueRequestId.equals(requestUniqueId)) {
-      Log.w(TAG, "Ad already loaded for placement ID: " + placementId);
+      AdapterLog.log(Log.WARN, TAG, "Ad already loaded for placement ID: %s", placementId);
       return false;
     }
 
@@ -118,11 +118,14 @@ public class VungleManager {
 
   public void removeActiveBannerAd(@NonNull String placementId,
       @Nullable VungleBannerAd activeBannerAd) {
-    Log.d(TAG, "try to removeActiveBannerAd: " + placementId);
+    AdapterLog.log(Log.DEBUG, TAG, "try to removeActiveBannerAd: %s", placementId);
 
     boolean didRemove = mVungleBanners.remove(placementId, activeBannerAd);
     if (didRemove && activeBannerAd != null) {
-      Log.d(TAG, "removeActiveBannerAd: " + activeBannerAd + "; size=" + mVungleBanners.size());
+      if (AdapterLog.isLoggable(Log.DEBUG)) {
+        AdapterLog.log(Log.DEBUG, TAG, "removeActiveBannerAd: %s; size=%d", activeBannerAd,
+            mVungleBanners.size());
+      }
       activeBannerAd.detach();
       activeBannerAd.destroyAd();
     }
@@ -132,7 +135,10 @@ public class VungleManager {
     removeActiveBannerAd(placementId, mVungleBanners.get(placementId));
     if (!mVungleBanners.containsKey(placementId)) {
       mVungleBanners.put(placementId, instance);
-      Log.d(TAG, "registerBannerAd: " + instance + "; size=" + mVungleBanners.size());
+      if (AdapterLog.isLoggable(Log.DEBUG)) {
+        AdapterLog.log(Log.DEBUG, TAG, "registerBannerAd: %s; size=%d", instance,
+            mVungleBanners.size());
+      }
     }
   }
 